@@ -0,0 +1,96 @@
+package com.bootcamp.paymentdemo.perf;
+
+import com.bootcamp.paymentdemo.config.AppProperties;
+import com.bootcamp.paymentdemo.config.ClientApiProperties;
+import com.bootcamp.paymentdemo.config.ContractReloadProperties;
+import com.bootcamp.paymentdemo.config.PortOneProperties;
+import com.bootcamp.paymentdemo.controller.ConfigController;
+import com.bootcamp.paymentdemo.service.ApiContractRegistry;
+import com.bootcamp.paymentdemo.service.PublicConfigService;
+import com.bootcamp.paymentdemo.service.PublicConfigSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /api/public/config 응답 생성
+ * - rebuildSnapshot: 계약 변경 직후처럼 캐시를 비우고 전체 설정을 다시 직렬화 (gzip 포함)
+ * - serveCached / serveCachedGzip / serveNotModified: 평상시 요청 경로 (미리 직렬화된 본문 + 헤더 구성)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConfigControllerBenchmark {
+
+    private PublicConfigService publicConfigService;
+    private ConfigController controller;
+    private String etag;
+
+    @Setup
+    public void setUp() throws IOException {
+        PortOneProperties portOneProperties = new PortOneProperties();
+        PortOneProperties.Store store = new PortOneProperties.Store();
+        store.setId("store-perf");
+        portOneProperties.setStore(store);
+        portOneProperties.setChannel(Map.of("kg-inicis", "channel-key-kg", "toss", "channel-key-toss"));
+
+        ApiContractRegistry registry = new ApiContractRegistry(
+            new ClientApiProperties(), new ContractReloadProperties(), event -> { });
+        registry.reload(contractFile());
+
+        publicConfigService = new PublicConfigService(portOneProperties, registry, new AppProperties(), JsonMapper.builder().build());
+        controller = new ConfigController(publicConfigService, new SimpleMeterRegistry());
+        etag = publicConfigService.getSnapshot().getEtag();
+    }
+
+    @Benchmark
+    public PublicConfigSnapshot rebuildSnapshot() {
+        publicConfigService.invalidate();
+        return publicConfigService.getSnapshot();
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> serveCached() {
+        return controller.getPublicConfig(null, null);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> serveCachedGzip() {
+        return controller.getPublicConfig(null, "gzip, deflate, br");
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> serveNotModified() {
+        return controller.getPublicConfig(etag, "gzip, deflate, br");
+    }
+
+    /**
+     * 애플리케이션 classpath의 client-api-config.yml을 임시 파일로 복사 (reload는 파일 경로를 받음)
+     */
+    static Path contractFile() throws IOException {
+        Path file = Files.createTempFile("client-api-config", ".yml");
+        file.toFile().deleteOnExit();
+        try (InputStream in = ConfigControllerBenchmark.class.getResourceAsStream("/client-api-config.yml")) {
+            if (in == null) {
+                throw new IOException("client-api-config.yml not found on classpath");
+            }
+            Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return file;
+    }
+}
@@ -0,0 +1,109 @@
+package com.bootcamp.paymentdemo.perf;
+
+import com.bootcamp.paymentdemo.config.ClientApiProperties;
+import com.bootcamp.paymentdemo.config.ContractReloadProperties;
+import com.bootcamp.paymentdemo.service.ApiContractRegistry;
+import com.bootcamp.paymentdemo.validation.CompiledContract;
+import com.bootcamp.paymentdemo.validation.ContractValidator;
+import com.bootcamp.paymentdemo.validation.ValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ContractValidator 요청 본문 검증 (create-order / create-payment)
+ * - *Valid: 계약을 만족하는 본문 - 토큰 스트림 한 번 읽기 + 필드 타입 확인 비용
+ * - *Invalid: 필드 타입이 틀리거나 필수 필드가 빠진 본문 - 오류 메시지 생성 비용까지 포함
+ * 배포용 client-api-config.yml은 url/method가 비어 있을 수 있어, 비어 있으면 벤치마크용 경로로 채운 뒤 컴파일합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ContractValidatorBenchmark {
+
+    private static final byte[] VALID_ORDER = bytes(
+        "{\"items\":[{\"productId\":\"prod-1\",\"quantity\":2},{\"productId\":\"prod-2\",\"quantity\":1}]}");
+    private static final byte[] INVALID_ORDER = bytes("{\"items\":\"prod-1\",\"memo\":null}");
+    private static final byte[] VALID_PAYMENT = bytes(
+        "{\"orderId\":\"ORD-20250101-0001\",\"totalAmount\":45000,\"pointsToUse\":0}");
+    private static final byte[] INVALID_PAYMENT = bytes("{\"totalAmount\":\"45000\",\"pointsToUse\":true}");
+
+    private ContractValidator validator;
+    private CompiledContract createOrder;
+    private CompiledContract createPayment;
+
+    @Setup
+    public void setUp() throws IOException {
+        ApiContractRegistry registry = new ApiContractRegistry(
+            new ClientApiProperties(), new ContractReloadProperties(), event -> { });
+        registry.reload(ConfigControllerBenchmark.contractFile());
+
+        validator = new ContractValidator(registry, JsonMapper.builder().build());
+        createOrder = compile(registry, "create-order", "POST", "/api/orders");
+        createPayment = compile(registry, "create-payment", "POST", "/api/payments");
+
+        // 본문이 의도대로 분류되지 않으면 측정 의미가 없으므로 시작 전에 확인
+        expect(createOrder, VALID_ORDER, true);
+        expect(createOrder, INVALID_ORDER, false);
+        expect(createPayment, VALID_PAYMENT, true);
+        expect(createPayment, INVALID_PAYMENT, false);
+    }
+
+    @Benchmark
+    public ValidationResult createOrderValid() {
+        return validator.validateRequest(createOrder, VALID_ORDER);
+    }
+
+    @Benchmark
+    public ValidationResult createOrderInvalid() {
+        return validator.validateRequest(createOrder, INVALID_ORDER);
+    }
+
+    @Benchmark
+    public ValidationResult createPaymentValid() {
+        return validator.validateRequest(createPayment, VALID_PAYMENT);
+    }
+
+    @Benchmark
+    public ValidationResult createPaymentInvalid() {
+        return validator.validateRequest(createPayment, INVALID_PAYMENT);
+    }
+
+    private static CompiledContract compile(ApiContractRegistry registry, String name, String method, String url) {
+        ClientApiProperties.EndpointContract source = registry.getSnapshot().getEndpoint(name);
+        if (source == null || source.getRequest() == null) {
+            throw new IllegalStateException(name + " 계약에 요청 스키마가 없습니다.");
+        }
+        ClientApiProperties.EndpointContract contract = new ClientApiProperties.EndpointContract();
+        contract.setUrl(isBlank(source.getUrl()) ? url : source.getUrl());
+        contract.setMethod(isBlank(source.getMethod()) ? method : source.getMethod());
+        contract.setRequest(source.getRequest());
+        contract.setResponse(source.getResponse());
+        return CompiledContract.compile(name, contract);
+    }
+
+    private void expect(CompiledContract contract, byte[] body, boolean valid) {
+        ValidationResult result = validator.validateRequest(contract, body);
+        if (result.isValid() != valid) {
+            throw new IllegalStateException(contract.getEndpointName() + " 검증 결과가 예상과 다릅니다: "
+                + new String(body, StandardCharsets.UTF_8) + " → " + result.getErrors());
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
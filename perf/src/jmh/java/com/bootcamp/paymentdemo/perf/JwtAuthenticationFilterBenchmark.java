@@ -0,0 +1,100 @@
+package com.bootcamp.paymentdemo.perf;
+
+import com.bootcamp.paymentdemo.audit.AuditLog;
+import com.bootcamp.paymentdemo.config.AuditProperties;
+import com.bootcamp.paymentdemo.security.JwtAuthenticationFilter;
+import com.bootcamp.paymentdemo.security.JwtTokenProvider;
+import com.bootcamp.paymentdemo.security.TokenRevocationList;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 요청 1건 처리 (토큰 추출 → 검증 → SecurityContext 설정)
+ * OncePerRequestFilter는 요청 속성으로 중복 실행을 막으므로 매번 새 요청 객체를 만들며,
+ * 그 비용은 noToken과 비교해 빼고 보면 됩니다.
+ * audit=true면 거부된 토큰(expiredToken)이 감사 로그 링 버퍼를 거치는 비용까지 포함됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "perf-benchmark-secret-key-at-least-256-bits-long-for-hs256";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @Param({"true", "false"})
+    private boolean audit;
+
+    private TokenRevocationList revocationList;
+    private AuditLog auditLog;
+    private JwtAuthenticationFilter filter;
+    private String bearer;
+    private String expiredBearer;
+
+    @Setup
+    public void setUp() throws IOException {
+        AuditProperties auditProperties = new AuditProperties();
+        auditProperties.setEnabled(audit);
+        auditProperties.setDir(Files.createTempDirectory("audit-bench").toString());
+        auditLog = new AuditLog(auditProperties);
+        auditLog.start();
+
+        revocationList = new TokenRevocationList(100_000, 0.001, "");
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 900, 1_209_600, 10_000, revocationList);
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(SECRET, -60, 1_209_600, 10_000, revocationList);
+        filter = new JwtAuthenticationFilter(provider, auditLog, new SimpleMeterRegistry());
+        bearer = "Bearer " + provider.createToken("perf@test.com");
+        expiredBearer = "Bearer " + expiredProvider.createToken("perf@test.com");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, InterruptedException {
+        auditLog.stop();
+        revocationList.close();
+    }
+
+    @Benchmark
+    public Object validToken() throws ServletException, IOException {
+        return run(bearer);
+    }
+
+    @Benchmark
+    public Object expiredToken() throws ServletException, IOException {
+        return run(expiredBearer);
+    }
+
+    @Benchmark
+    public Object noToken() throws ServletException, IOException {
+        return run(null);
+    }
+
+    private Object run(String authorization) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.bootcamp.paymentdemo.perf;
+
+import com.bootcamp.paymentdemo.security.JwtPrincipal;
+import com.bootcamp.paymentdemo.security.JwtTokenProvider;
+import com.bootcamp.paymentdemo.security.TokenRevocationList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider 토큰 발급 / 검증
+ * cacheEntries=0이면 검증 캐시를 끈 상태(매번 서명 검증 + Claims 파싱)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "perf-benchmark-secret-key-at-least-256-bits-long-for-hs256";
+
+    @Param({"10000", "0"})
+    private int cacheEntries;
+
+    private TokenRevocationList revocationList;
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup
+    public void setUp() throws IOException {
+        revocationList = new TokenRevocationList(100_000, 0.001, "");
+        provider = new JwtTokenProvider(SECRET, 900, 1_209_600, cacheEntries, revocationList);
+        token = provider.createToken("perf@test.com");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        revocationList.close();
+    }
+
+    @Benchmark
+    public String createToken() {
+        return provider.createToken("perf@test.com");
+    }
+
+    @Benchmark
+    public JwtPrincipal parseAndVerify() {
+        return provider.parseAndVerify(token);
+    }
+}
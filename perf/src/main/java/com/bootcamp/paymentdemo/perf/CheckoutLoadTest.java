@@ -0,0 +1,526 @@
+package com.bootcamp.paymentdemo.perf;
+
+import com.bootcamp.paymentdemo.PaymentDemoApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 흐름 부하 테스트
+ * 가상 사용자(perf.users)마다 login → create-order → create-payment → (PortOne 결제창 대신 스텁에 결제 등록) → confirm-payment를
+ * 쉬지 않고 반복하며(closed model), 워밍업 이후 구간별 응답 시간과 흐름 처리량을 기록합니다.
+ *
+ * - 엔드포인트 url/method는 /api/public/config의 계약(client-api-config.yml)에서 읽으므로 계약이 채워져 있어야 합니다.
+ * - perf.baseUrl이 비어 있으면 애플리케이션을 PortOne 스텁과 함께 이 프로세스 안에서 띄웁니다 (속도 제한 비활성화).
+ * - closed model이라 서버가 느려지면 요청 수도 같이 줄어듭니다. 지연 백분위는 처리량과 함께 봐야 합니다.
+ *
+ * 결과는 perf.report(JSON)에 기록하고 표준 출력에 요약합니다. 기준선 비교는 RegressionCheck가 담당합니다.
+ *
+ * 내장 실행 시 perf.virtualThreads(true/false)로 spring.threads.virtual.enabled를, perf.stubLatency로 스텁 지연을 덮어쓸 수 있고,
+ * perf.virtualThreads=both면 플랫폼 → 가상 스레드 순으로 애플리케이션을 두 번 띄워 같은 부하를 주고 p99와
+ * 서버 안에서 동시에 처리 중이던 결제 요청(create-payment, confirm-payment) 최대 건수를 나란히 기록합니다.
+ */
+public final class CheckoutLoadTest {
+
+    static final String FLOW = "checkout";
+    private static final List<String> FLOW_STEPS = List.of("login", "create-order", "create-payment", "confirm-payment");
+    private static final String PORTONE_STEP = "portone-checkout";
+    private static final String PASSWORD = "perf-password-1234";
+    private static final List<String> PAYMENT_STEPS = List.of("create-payment", "confirm-payment");
+
+    private final Settings settings;
+    private final String baseUrl;
+    private final InFlightRequests inFlightPayments;
+    private final HttpClient httpClient;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private Map<String, Endpoint> endpoints;
+    private List<String> productIds;
+
+    private volatile long measureFromNanos;
+    private volatile long stopAtNanos;
+
+    private CheckoutLoadTest(Settings settings, String baseUrl, InFlightRequests inFlightPayments) {
+        this.settings = settings;
+        this.baseUrl = baseUrl;
+        this.inFlightPayments = inFlightPayments;
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.fromSystemProperties();
+        if (!settings.baseUrl().isBlank() && (!settings.virtualThreads().isBlank() || !settings.stubLatency().isBlank())) {
+            throw new IllegalStateException("perf.virtualThreads / perf.stubLatency는 애플리케이션을 내장 실행할 때만 사용할 수 있습니다 (perf.baseUrl 비움).");
+        }
+
+        if (!"both".equalsIgnoreCase(settings.virtualThreads())) {
+            write(runOnce(settings, settings.virtualThreads()), settings.report());
+            return;
+        }
+
+        ObjectNode platform = runOnce(settings, "false");
+        ObjectNode virtual = runOnce(settings, "true");
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+        ObjectNode report = jsonMapper.createObjectNode()
+            .put("scenario", FLOW + "-threads")
+            .put("users", settings.users())
+            .put("stubLatency", settings.stubLatency().isBlank() ? "default" : settings.stubLatency());
+        ObjectNode runs = report.putObject("runs");
+        runs.set("platform", platform);
+        runs.set("virtual", virtual);
+
+        System.out.printf("%n%-10s %12s %14s %16s %16s%n", "스레드", "흐름/초", "checkout p99", "confirm p99", "최대 동시 결제");
+        printComparison("platform", platform);
+        printComparison("virtual", virtual);
+        write(report, settings.report());
+    }
+
+    private static ObjectNode runOnce(Settings settings, String virtualThreads) throws Exception {
+        ConfigurableApplicationContext application = null;
+        InFlightRequests inFlightPayments = null;
+        String baseUrl = settings.baseUrl();
+        if (baseUrl.isBlank()) {
+            inFlightPayments = new InFlightRequests();
+            application = startApplication(settings, virtualThreads, inFlightPayments);
+            baseUrl = "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+        }
+        try {
+            ObjectNode report = new CheckoutLoadTest(settings, baseUrl, inFlightPayments).run();
+            if (!virtualThreads.isBlank()) {
+                report.put("virtualThreads", Boolean.parseBoolean(virtualThreads));
+            }
+            return report;
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(Settings settings, String virtualThreads,
+                                                                   InFlightRequests inFlightPayments) {
+        URI stub = URI.create(settings.stubUrl());
+        List<String> properties = new ArrayList<>(List.of(
+            "server.port=0",
+            "portone.stub.enabled=true",
+            "portone.stub.port=" + stub.getPort(),
+            "portone.api.base-url=" + settings.stubUrl(),
+            "app.rate-limit.enabled=false",
+            "logging.level.root=WARN"));
+        if (!virtualThreads.isBlank()) {
+            properties.add("spring.threads.virtual.enabled=" + Boolean.parseBoolean(virtualThreads));
+        }
+        if (!settings.stubLatency().isBlank()) {
+            properties.add("portone.stub.latency=" + settings.stubLatency());
+        }
+        if (!settings.bcryptStrength().isBlank()) {
+            properties.add("app.users.bcrypt-strength=" + settings.bcryptStrength());
+        }
+        return new SpringApplicationBuilder(PaymentDemoApplication.class)
+            .properties(properties.toArray(String[]::new))
+            // Filter 빈은 Spring Boot가 서블릿 필터로 등록
+            .initializers(context -> context.getBeanFactory().registerSingleton("perfInFlightPayments", inFlightPayments))
+            .run();
+    }
+
+    private ObjectNode run() throws Exception {
+        endpoints = loadContract();
+        productIds = loadProducts();
+        if (inFlightPayments != null) {
+            inFlightPayments.track(PAYMENT_STEPS.stream().map(step -> endpoints.get(step).url()).toList());
+        }
+        for (int user = 0; user < settings.users(); user++) {
+            register(user);
+        }
+
+        long now = System.nanoTime();
+        measureFromNanos = now + settings.warmup().toNanos();
+        stopAtNanos = measureFromNanos + settings.duration().toNanos();
+        System.out.printf("부하 테스트 시작 - %s, 사용자 %d명, 워밍업 %ds, 측정 %ds%n",
+            baseUrl, settings.users(), settings.warmup().toSeconds(), settings.duration().toSeconds());
+
+        List<VirtualUser> users = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < settings.users(); i++) {
+            VirtualUser user = new VirtualUser(i);
+            Thread thread = new Thread(user, "perf-vu-" + i);
+            thread.setDaemon(true);
+            users.add(user);
+            threads.add(thread);
+            thread.start();
+        }
+        if (inFlightPayments != null) {
+            long untilMeasure = measureFromNanos - System.nanoTime();
+            if (untilMeasure > 0) {
+                TimeUnit.NANOSECONDS.sleep(untilMeasure);
+            }
+            inFlightPayments.resetPeak();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        return buildReport(users);
+    }
+
+    /**
+     * 가상 사용자 한 명 - 자신의 기록기에만 쓰므로 측정 중 동기화 없음
+     */
+    private final class VirtualUser implements Runnable {
+        private final int id;
+        private final Map<String, LatencyRecorder> steps = new LinkedHashMap<>();
+        private final LatencyRecorder flow = new LatencyRecorder();
+        private int iteration;
+
+        private VirtualUser(int id) {
+            this.id = id;
+            for (String step : FLOW_STEPS) {
+                steps.put(step, new LatencyRecorder());
+            }
+            steps.put(PORTONE_STEP, new LatencyRecorder());
+        }
+
+        @Override
+        public void run() {
+            while (System.nanoTime() < stopAtNanos) {
+                long start = System.nanoTime();
+                boolean measured = start >= measureFromNanos;
+                try {
+                    long serverNanos = checkout(measured);
+                    if (measured) {
+                        flow.record(serverNanos);
+                    }
+                } catch (StepFailure e) {
+                    if (measured) {
+                        steps.get(e.step).error();
+                        flow.error();
+                    }
+                }
+                iteration++;
+            }
+        }
+
+        /**
+         * @return 서버 구간 응답 시간 합계 (PortOne 결제창 흉내 구간 제외)
+         */
+        private long checkout(boolean measured) throws StepFailure {
+            long serverNanos = 0;
+
+            long start = System.nanoTime();
+            ObjectNode login = jsonMapper.createObjectNode()
+                .put("email", email(id))
+                .put("password", PASSWORD);
+            HttpResponse<String> loginResponse = call("login", null, null, login, null);
+            String authorization = loginResponse.headers().firstValue("Authorization")
+                .orElseThrow(() -> new StepFailure("login", "Authorization 헤더 없음"));
+            serverNanos += timed("login", start, measured);
+
+            start = System.nanoTime();
+            ObjectNode order = jsonMapper.createObjectNode();
+            order.putArray("items").addObject()
+                .put("productId", productIds.get((id + iteration) % productIds.size()))
+                .put("quantity", 1);
+            JsonNode createdOrder = body("create-order", call("create-order", authorization, null, order, null));
+            String orderId = required("create-order", createdOrder, "orderId");
+            long totalAmount = createdOrder.path("totalAmount").asLong();
+            serverNanos += timed("create-order", start, measured);
+
+            start = System.nanoTime();
+            ObjectNode payment = jsonMapper.createObjectNode()
+                .put("orderId", orderId)
+                .put("totalAmount", totalAmount)
+                .put("pointsToUse", 0);
+            JsonNode createdPayment = body("create-payment",
+                call("create-payment", authorization, null, payment, UUID.randomUUID().toString()));
+            String paymentId = required("create-payment", createdPayment, "paymentId");
+            serverNanos += timed("create-payment", start, measured);
+
+            // 브라우저의 PortOne 결제창 대신 스텁에 결제 완료 건을 등록
+            start = System.nanoTime();
+            stubCheckout(paymentId, totalAmount);
+            timed(PORTONE_STEP, start, measured);
+
+            start = System.nanoTime();
+            call("confirm-payment", authorization, paymentId, null, null);
+            serverNanos += timed("confirm-payment", start, measured);
+            return serverNanos;
+        }
+
+        private long timed(String step, long start, boolean measured) {
+            long elapsed = System.nanoTime() - start;
+            if (measured) {
+                steps.get(step).record(elapsed);
+            }
+            return elapsed;
+        }
+    }
+
+    private HttpResponse<String> call(String name, String authorization, String pathParam, JsonNode body,
+                                      String idempotencyKey) throws StepFailure {
+        Endpoint endpoint = endpoints.get(name);
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + endpoint.path(pathParam)))
+            .timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/json")
+            .method(endpoint.method(), body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(jsonMapper.writeValueAsBytes(body)));
+        if (authorization != null) {
+            request.header("Authorization", authorization);
+        }
+        if (idempotencyKey != null) {
+            request.header("Idempotency-Key", idempotencyKey);
+        }
+        return send(name, request.build());
+    }
+
+    private void stubCheckout(String paymentId, long totalAmount) throws StepFailure {
+        ObjectNode body = jsonMapper.createObjectNode().put("totalAmount", totalAmount);
+        send(PORTONE_STEP, HttpRequest.newBuilder(URI.create(settings.stubUrl() + "/payments/" + paymentId + "/pre-register"))
+            .timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(jsonMapper.writeValueAsBytes(body)))
+            .build());
+    }
+
+    private HttpResponse<String> send(String step, HttpRequest request) throws StepFailure {
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() / 100 != 2) {
+                throw new StepFailure(step, "HTTP " + response.statusCode());
+            }
+            return response;
+        } catch (IOException e) {
+            throw new StepFailure(step, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StepFailure(step, "interrupted");
+        }
+    }
+
+    private JsonNode body(String step, HttpResponse<String> response) throws StepFailure {
+        try {
+            return jsonMapper.readTree(response.body());
+        } catch (RuntimeException e) {
+            throw new StepFailure(step, "JSON 아님");
+        }
+    }
+
+    private static String required(String step, JsonNode body, String field) throws StepFailure {
+        JsonNode value = body.path(field);
+        if (!value.isValueNode() || value.isNull() || value.asString().isEmpty()) {
+            throw new StepFailure(step, field + " 없음");
+        }
+        return value.asString();
+    }
+
+    /**
+     * /api/public/config에서 흐름에 필요한 엔드포인트 계약 조회
+     */
+    private Map<String, Endpoint> loadContract() throws Exception {
+        JsonNode config = jsonMapper.readTree(get("/api/public/config"));
+        JsonNode contracts = config.path("api").path("endpoints");
+
+        List<String> required = new ArrayList<>(List.of("register", "list-products"));
+        required.addAll(FLOW_STEPS);
+        Map<String, Endpoint> resolved = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String name : required) {
+            JsonNode contract = contracts.path(name);
+            String url = contract.path("url").isString() ? contract.path("url").asString() : "";
+            String method = contract.path("method").isString() ? contract.path("method").asString() : "";
+            if (url.isBlank() || method.isBlank()) {
+                missing.add(name);
+            } else {
+                resolved.put(name, new Endpoint(method.toUpperCase(), url));
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("client-api-config.yml에 url/method가 비어 있는 엔드포인트: " + missing);
+        }
+        return resolved;
+    }
+
+    private List<String> loadProducts() throws Exception {
+        Endpoint listProducts = endpoints.get("list-products");
+        List<String> ids = new ArrayList<>();
+        for (JsonNode product : jsonMapper.readTree(get(listProducts.path(null)))) {
+            if (product.path("stock").asLong() > 0) {
+                ids.add(product.path("id").asString());
+            }
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("재고가 있는 상품이 없습니다.");
+        }
+        return ids;
+    }
+
+    /**
+     * 이미 가입된 경우(재실행)의 실패는 무시 - 로그인 실패로 드러남
+     */
+    private void register(int user) throws StepFailure {
+        ObjectNode body = jsonMapper.createObjectNode()
+            .put("name", "perf" + user)
+            .put("email", email(user))
+            .put("password", PASSWORD)
+            .put("phone", "010-0000-0000");
+        try {
+            call("register", null, null, body, null);
+        } catch (StepFailure ignored) {
+            // 이미 존재하는 사용자
+        }
+    }
+
+    private String get(String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(
+            HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build(),
+            HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("GET " + path + " → HTTP " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private static String email(int user) {
+        return "perf-" + user + "@perf.test";
+    }
+
+    private ObjectNode buildReport(List<VirtualUser> users) {
+        Map<String, LatencyRecorder> steps = new LinkedHashMap<>();
+        LatencyRecorder flow = new LatencyRecorder();
+        for (VirtualUser user : users) {
+            user.steps.forEach((step, recorder) -> steps.computeIfAbsent(step, key -> new LatencyRecorder()).merge(recorder));
+            flow.merge(user.flow);
+        }
+
+        LatencyRecorder.Summary flowSummary = flow.summarize();
+        double seconds = settings.duration().toMillis() / 1000.0;
+        long attempted = flowSummary.count() + flowSummary.errors();
+
+        ObjectNode report = jsonMapper.createObjectNode()
+            .put("scenario", FLOW)
+            .put("baseUrl", baseUrl)
+            .put("users", settings.users())
+            .put("durationSeconds", seconds)
+            .put("flows", flowSummary.count())
+            .put("failedFlows", flowSummary.errors())
+            .put("errorRate", attempted == 0 ? 0 : (double) flowSummary.errors() / attempted)
+            .put("throughput", flowSummary.count() / seconds);
+        if (inFlightPayments != null) {
+            report.put("peakInFlightPayments", inFlightPayments.peak());
+        }
+        report.set("flow", jsonMapper.valueToTree(flowSummary));
+        ObjectNode stepNodes = report.putObject("steps");
+
+        System.out.printf("%n%-18s %9s %7s %9s %9s %9s %9s %9s%n", "구간", "건수", "오류", "평균ms", "p50", "p90", "p99", "최대");
+        for (Map.Entry<String, LatencyRecorder> entry : steps.entrySet()) {
+            LatencyRecorder.Summary summary = entry.getValue().summarize();
+            stepNodes.set(entry.getKey(), jsonMapper.valueToTree(summary));
+            print(entry.getKey(), summary);
+        }
+        print(FLOW, flowSummary);
+        System.out.printf("처리량 %.1f 흐름/초, 실패율 %.2f%%%n",
+            report.path("throughput").asDouble(), report.path("errorRate").asDouble() * 100);
+        if (inFlightPayments != null) {
+            System.out.printf("서버 안에서 동시에 처리 중이던 결제 요청 최대 %d건%n", inFlightPayments.peak());
+        }
+        return report;
+    }
+
+    private static void write(ObjectNode report, String path) throws IOException {
+        Path reportPath = Path.of(path);
+        if (reportPath.getParent() != null) {
+            Files.createDirectories(reportPath.getParent());
+        }
+        Files.write(reportPath, JsonMapper.builder().build().writerWithDefaultPrettyPrinter().writeValueAsBytes(report));
+        System.out.println("리포트: " + reportPath);
+    }
+
+    private static void printComparison(String mode, JsonNode report) {
+        System.out.printf("%-10s %12.1f %14.2f %16.2f %16d%n", mode,
+            report.path("throughput").asDouble(),
+            report.path("flow").path("p99").asDouble(),
+            report.path("steps").path("confirm-payment").path("p99").asDouble(),
+            report.path("peakInFlightPayments").asInt());
+    }
+
+    private static void print(String name, LatencyRecorder.Summary summary) {
+        System.out.printf("%-18s %9d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n", name, summary.count(), summary.errors(),
+            summary.mean(), summary.p50(), summary.p90(), summary.p99(), summary.max());
+    }
+
+    private record Endpoint(String method, String url) {
+        /**
+         * 경로 파라미터는 계약의 이름과 관계없이 첫 번째 {...}에 채움 (클라이언트의 단일 값 전달 방식과 동일)
+         */
+        String path(String pathParam) {
+            if (pathParam == null) {
+                return url;
+            }
+            return url.replaceFirst("\\{[^}]*}", pathParam);
+        }
+    }
+
+    private static final class StepFailure extends Exception {
+        private final String step;
+
+        private StepFailure(String step, String message) {
+            super(step + ": " + message, null, false, false);
+            this.step = step;
+        }
+    }
+
+    /**
+     * virtualThreads / stubLatency / bcryptStrength가 비어 있으면 애플리케이션 설정을 그대로 사용
+     */
+    private record Settings(String baseUrl, String stubUrl, int users, Duration warmup, Duration duration, String report,
+                            String virtualThreads, String stubLatency, String bcryptStrength) {
+        static Settings fromSystemProperties() {
+            return new Settings(
+                System.getProperty("perf.baseUrl", ""),
+                System.getProperty("perf.stubUrl", "http://localhost:8099"),
+                Integer.getInteger("perf.users", 16),
+                duration(System.getProperty("perf.warmup", "10s")),
+                duration(System.getProperty("perf.duration", "60s")),
+                System.getProperty("perf.report", "build/reports/perf/load-test.json"),
+                System.getProperty("perf.virtualThreads", "").trim(),
+                System.getProperty("perf.stubLatency", "").trim(),
+                System.getProperty("perf.bcryptStrength", "").trim());
+        }
+
+        /**
+         * "500ms", "10s", "2m" 형식
+         */
+        private static Duration duration(String value) {
+            String text = value.trim().toLowerCase();
+            if (text.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+            }
+            if (text.endsWith("s")) {
+                return Duration.ofSeconds(Long.parseLong(text.substring(0, text.length() - 1)));
+            }
+            if (text.endsWith("m")) {
+                return Duration.ofMinutes(Long.parseLong(text.substring(0, text.length() - 1)));
+            }
+            return Duration.ofSeconds(Long.parseLong(text));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.bootcamp.paymentdemo.perf;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 내장 실행한 애플리케이션에 등록하는 서블릿 필터 - 지정한 경로의 요청이 서버 안에서 동시에 몇 건 처리 중인지 기록
+ * 요청 스레드가 잡힌 뒤부터 세므로 Tomcat 대기열에서 기다리는 요청은 빠집니다.
+ * (플랫폼 스레드 모드에서는 server.tomcat.threads.max가 상한)
+ */
+final class InFlightRequests implements Filter {
+
+    private final AtomicInteger current = new AtomicInteger();
+    private final AtomicInteger peak = new AtomicInteger();
+    private volatile List<PathPattern> patterns = List.of();
+
+    /**
+     * 계약의 url 패턴 ({paymentId} 등) 기준으로 추적 대상 지정
+     */
+    void track(Collection<String> urls) {
+        patterns = urls.stream().map(url -> PathPatternParser.defaultInstance.parse(url)).toList();
+    }
+
+    /**
+     * 워밍업 구간의 최대값을 버리고 측정 구간부터 다시 기록
+     */
+    void resetPeak() {
+        peak.set(current.get());
+    }
+
+    int peak() {
+        return peak.get();
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+        throws IOException, ServletException {
+        if (!(request instanceof HttpServletRequest http) || !matches(http)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        peak.accumulateAndGet(current.incrementAndGet(), Math::max);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            current.decrementAndGet();
+        }
+    }
+
+    private boolean matches(HttpServletRequest request) {
+        List<PathPattern> tracked = patterns;
+        if (tracked.isEmpty()) {
+            return false;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (PathPattern pattern : tracked) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,73 @@
+package com.bootcamp.paymentdemo.perf;
+
+import java.util.Arrays;
+
+/**
+ * 구간별 응답 시간 기록 (가상 사용자 스레드 하나 전용, 측정 종료 후 merge로 합침)
+ * 부하 테스트 한 번의 표본 수는 수십만 건 수준이라 전부 보관해 정확한 백분위를 계산합니다.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int size;
+    private long errors;
+
+    void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    void error() {
+        errors++;
+    }
+
+    void merge(LatencyRecorder other) {
+        if (size + other.size > samples.length) {
+            samples = Arrays.copyOf(samples, Math.max(samples.length * 2, size + other.size));
+        }
+        System.arraycopy(other.samples, 0, samples, size, other.size);
+        size += other.size;
+        errors += other.errors;
+    }
+
+    Summary summarize() {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        double total = 0;
+        for (long sample : sorted) {
+            total += sample;
+        }
+        return new Summary(
+            size,
+            errors,
+            size == 0 ? 0 : millis(total / size),
+            millis(percentile(sorted, 0.50)),
+            millis(percentile(sorted, 0.90)),
+            millis(percentile(sorted, 0.99)),
+            millis(percentile(sorted, 0.999)),
+            size == 0 ? 0 : millis(sorted[size - 1]));
+    }
+
+    /**
+     * nearest-rank 백분위
+     */
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double millis(double nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    /**
+     * 시간 값은 모두 밀리초
+     */
+    record Summary(long count, long errors, double mean, double p50, double p90, double p99, double p999, double max) {
+    }
+}
@@ -0,0 +1,161 @@
+package com.bootcamp.paymentdemo.perf;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기준선(perf/baseline) 대비 회귀 판정
+ * - JMH: thrpt는 점수가 낮아지면, 그 외(avgt, sample, ss)는 점수가 높아지면 나빠진 것
+ * - 부하 테스트: 흐름 처리량 감소, 흐름/구간별 p50·p99 증가, 실패율이 threshold 이상 증가
+ * 비교 대상이 한쪽에만 있으면 건너뛰고, 하나라도 threshold를 넘으면 종료 코드 1
+ *
+ * 사용: RegressionCheck baselineDir jmhResults loadReport output threshold
+ */
+public final class RegressionCheck {
+
+    private static final String BASELINE_JMH = "jmh.json";
+    private static final String BASELINE_LOAD = "load-test.json";
+    private static final List<String> LOAD_PERCENTILES = List.of("p50", "p99");
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final double threshold;
+    private final List<String> lines = new ArrayList<>();
+    private int compared;
+    private int regressions;
+
+    private RegressionCheck(double threshold) {
+        this.threshold = threshold;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 5) {
+            System.err.println("사용: RegressionCheck <baselineDir> <jmhResults> <loadReport> <output> <threshold>");
+            System.exit(2);
+        }
+        Path baselineDir = Path.of(args[0]);
+        RegressionCheck check = new RegressionCheck(Double.parseDouble(args[4]));
+        check.compareJmh(baselineDir.resolve(BASELINE_JMH), Path.of(args[1]));
+        check.compareLoad(baselineDir.resolve(BASELINE_LOAD), Path.of(args[2]));
+        check.finish(Path.of(args[3]));
+    }
+
+    private void compareJmh(Path baseline, Path current) throws IOException {
+        JsonNode baseNode = read(baseline);
+        JsonNode currentNode = read(current);
+        if (baseNode == null || currentNode == null) {
+            lines.add("JMH: 기준선 또는 현재 결과 없음 - 건너뜀");
+            return;
+        }
+
+        Map<String, JsonNode> baseByKey = jmhByKey(baseNode);
+        for (Map.Entry<String, JsonNode> entry : jmhByKey(currentNode).entrySet()) {
+            JsonNode base = baseByKey.get(entry.getKey());
+            if (base == null) {
+                continue;
+            }
+            boolean higherIsBetter = "thrpt".equals(entry.getValue().path("mode").asString());
+            String unit = entry.getValue().path("primaryMetric").path("scoreUnit").asString();
+            compare("jmh " + entry.getKey() + " (" + unit + ")",
+                base.path("primaryMetric").path("score").asDouble(),
+                entry.getValue().path("primaryMetric").path("score").asDouble(),
+                higherIsBetter);
+        }
+    }
+
+    /**
+     * 벤치마크 이름 + 파라미터로 결과 식별
+     */
+    private static Map<String, JsonNode> jmhByKey(JsonNode results) {
+        Map<String, JsonNode> byKey = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asString());
+            JsonNode params = result.path("params");
+            if (params.isObject()) {
+                for (Map.Entry<String, JsonNode> param : params.properties()) {
+                    key.append(key.indexOf("[") < 0 ? "[" : ",")
+                        .append(param.getKey()).append('=').append(param.getValue().asString());
+                }
+                key.append(']');
+            }
+            byKey.put(key.toString(), result);
+        }
+        return byKey;
+    }
+
+    private void compareLoad(Path baseline, Path current) throws IOException {
+        JsonNode base = read(baseline);
+        JsonNode now = read(current);
+        if (base == null || now == null) {
+            lines.add("부하 테스트: 기준선 또는 현재 결과 없음 - 건너뜀");
+            return;
+        }
+
+        compare("load throughput (흐름/초)", base.path("throughput").asDouble(), now.path("throughput").asDouble(), true);
+        double baseErrors = base.path("errorRate").asDouble();
+        double errors = now.path("errorRate").asDouble();
+        compared++;
+        if (errors - baseErrors > threshold) {
+            regressions++;
+            lines.add(String.format("REGRESSION load errorRate: %.4f → %.4f", baseErrors, errors));
+        } else {
+            lines.add(String.format("ok         load errorRate: %.4f → %.4f", baseErrors, errors));
+        }
+
+        for (String percentile : LOAD_PERCENTILES) {
+            compare("load flow " + percentile + " (ms)",
+                base.path("flow").path(percentile).asDouble(), now.path("flow").path(percentile).asDouble(), false);
+        }
+        JsonNode baseSteps = base.path("steps");
+        for (Map.Entry<String, JsonNode> step : now.path("steps").properties()) {
+            JsonNode baseStep = baseSteps.path(step.getKey());
+            if (baseStep.isMissingNode()) {
+                continue;
+            }
+            for (String percentile : LOAD_PERCENTILES) {
+                compare("load " + step.getKey() + " " + percentile + " (ms)",
+                    baseStep.path(percentile).asDouble(), step.getValue().path(percentile).asDouble(), false);
+            }
+        }
+    }
+
+    private void compare(String name, double base, double current, boolean higherIsBetter) {
+        if (base <= 0) {
+            return;
+        }
+        compared++;
+        double change = (current - base) / base;
+        boolean regressed = higherIsBetter ? change < -threshold : change > threshold;
+        if (regressed) {
+            regressions++;
+        }
+        lines.add(String.format("%-10s %s: %.3f → %.3f (%+.1f%%)",
+            regressed ? "REGRESSION" : "ok", name, base, current, change * 100));
+    }
+
+    private void finish(Path output) throws IOException {
+        lines.add(String.format("비교 %d건, 회귀 %d건 (임계치 %.0f%%)", compared, regressions, threshold * 100));
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        Files.write(output, lines);
+        lines.forEach(System.out::println);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    private JsonNode read(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        return jsonMapper.readTree(Files.readAllBytes(file));
+    }
+}
@@ -0,0 +1,246 @@
+package com.bootcamp.paymentdemo.perf;
+
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 기동 시간 측정
+ * 모드(perf.startup.modes)마다 애플리케이션을 새 프로세스로 perf.startup.runs번 띄워, 프로세스 시작부터
+ * GET /api/public/config와 POST /api/auth/login이 처음 200을 돌려줄 때까지의 시간을 잽니다.
+ *
+ * - jar: bootJar를 그대로 실행 (기준)
+ * - aot: 압축 해제한 jar + -Dspring.aot.enabled=true
+ * - aot-cds: aot + CDS 아카이브 (-XX:SharedArchiveFile)
+ * - native: GraalVM native image (./gradlew nativeCompile -Pnative로 만든 경우만, 없으면 건너뜀)
+ *
+ * 실행마다 빈 작업 디렉터리를 써서 data/ 저장소가 없는 새 인스턴스와 같은 조건(관리자 계정 시드 포함)에서 잽니다.
+ * jar를 제외한 모드의 login 준비 시간 p50이 perf.startup.budgetMillis를 넘으면 종료 코드 1로 끝납니다.
+ */
+public final class StartupBenchmark {
+
+    // UserDirectory가 빈 저장소에 만드는 관리자 계정 (app.users.seed-admin)
+    private static final String LOGIN_BODY = "{\"email\":\"admin@test.com\",\"password\":\"admin\"}";
+    private static final long POLL_MILLIS = 5;
+
+    private final Settings settings;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(1))
+        .build();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private StartupBenchmark(Settings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws Exception {
+        boolean withinBudget = new StartupBenchmark(Settings.fromSystemProperties()).run();
+        System.exit(withinBudget ? 0 : 1);
+    }
+
+    private boolean run() throws IOException, InterruptedException {
+        ObjectNode report = jsonMapper.createObjectNode()
+            .put("profile", settings.profile())
+            .put("runs", settings.runs())
+            .put("budgetMillis", settings.budget().toMillis());
+        ObjectNode modeNodes = report.putObject("modes");
+        List<String> overBudget = new ArrayList<>();
+
+        System.out.printf("%-10s %-7s %9s %9s %9s %9s%n", "모드", "구간", "성공", "p50ms", "평균ms", "최대ms");
+        for (String mode : settings.modes()) {
+            List<String> command = command(mode);
+            if (command == null) {
+                System.out.printf("%-10s 건너뜀 (실행 파일 없음)%n", mode);
+                continue;
+            }
+
+            LatencyRecorder config = new LatencyRecorder();
+            LatencyRecorder login = new LatencyRecorder();
+            for (int i = 0; i < settings.runs(); i++) {
+                measure(mode, command, config, login);
+            }
+
+            LatencyRecorder.Summary configSummary = config.summarize();
+            LatencyRecorder.Summary loginSummary = login.summarize();
+            ObjectNode modeNode = modeNodes.putObject(mode);
+            modeNode.set("config", jsonMapper.valueToTree(configSummary));
+            modeNode.set("login", jsonMapper.valueToTree(loginSummary));
+            print(mode, "config", configSummary);
+            print(mode, "login", loginSummary);
+
+            if (!mode.equals("jar") && (loginSummary.count() == 0 || loginSummary.p50() > settings.budget().toMillis())) {
+                overBudget.add(mode);
+            }
+        }
+        ArrayNode overBudgetNode = report.putArray("overBudget");
+        overBudget.forEach(overBudgetNode::add);
+
+        Path reportPath = Path.of(settings.report());
+        if (reportPath.getParent() != null) {
+            Files.createDirectories(reportPath.getParent());
+        }
+        Files.write(reportPath, jsonMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(report));
+        System.out.println("리포트: " + reportPath);
+
+        if (!overBudget.isEmpty()) {
+            System.out.printf("기동 시간 목표(%dms) 초과: %s%n", settings.budget().toMillis(), overBudget);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 모드별 실행 명령 (포트 / 프로필 인자 제외), 실행 파일이 없으면 null
+     */
+    private List<String> command(String mode) {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Path extractedJar = Path.of(settings.appDir()).resolve(Path.of(settings.jar()).getFileName());
+        return switch (mode) {
+            case "jar" -> List.of(java, "-jar", settings.jar());
+            case "aot" -> List.of(java, "-Dspring.aot.enabled=true", "-jar", extractedJar.toString());
+            case "aot-cds" -> List.of(java,
+                "-XX:SharedArchiveFile=" + Path.of(settings.appDir()).resolve("application.jsa"),
+                "-Dspring.aot.enabled=true", "-jar", extractedJar.toString());
+            case "native" -> Files.isExecutable(Path.of(settings.nativeImage())) ? List.of(settings.nativeImage()) : null;
+            default -> throw new IllegalArgumentException("알 수 없는 모드: " + mode);
+        };
+    }
+
+    private void measure(String mode, List<String> command, LatencyRecorder config, LatencyRecorder login)
+        throws IOException, InterruptedException {
+        int port = freePort();
+        Path workDir = Files.createTempDirectory("startup-" + mode + "-");
+        List<String> fullCommand = new ArrayList<>(command);
+        fullCommand.add("--server.port=" + port);
+        fullCommand.add("--spring.profiles.active=" + settings.profile());
+
+        long start = System.nanoTime();
+        long deadline = start + settings.timeout().toNanos();
+        Process process = new ProcessBuilder(fullCommand)
+            .directory(workDir.toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(workDir.resolve("application.log").toFile())
+            .start();
+        try {
+            String baseUrl = "http://localhost:" + port;
+            HttpRequest configRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/api/public/config"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+            HttpRequest loginRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .timeout(Duration.ofSeconds(5))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(LOGIN_BODY))
+                .build();
+
+            if (!awaitOk(process, configRequest, deadline, mode, workDir)) {
+                config.error();
+                login.error();
+                return;
+            }
+            config.record(System.nanoTime() - start);
+            if (!awaitOk(process, loginRequest, deadline, mode, workDir)) {
+                login.error();
+                return;
+            }
+            login.record(System.nanoTime() - start);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+            deleteRecursively(workDir);
+        }
+    }
+
+    /**
+     * 200 응답까지 반복 요청 - 연결 거부 / 5xx는 아직 기동 중으로 보고, 4xx는 실패
+     */
+    private boolean awaitOk(Process process, HttpRequest request, long deadline, String mode, Path workDir)
+        throws InterruptedException, IOException {
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                System.err.printf("[%s] 프로세스 종료 (exit %d)%n%s%n", mode, process.exitValue(), logTail(workDir));
+                return false;
+            }
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return true;
+                }
+                if (response.statusCode() < 500) {
+                    System.err.printf("[%s] %s %s → HTTP %d%n", mode, request.method(), request.uri().getPath(),
+                        response.statusCode());
+                    return false;
+                }
+            } catch (IOException e) {
+                // 아직 포트를 열지 않았거나 기동 중 연결이 끊김
+            }
+            Thread.sleep(POLL_MILLIS);
+        }
+        System.err.printf("[%s] %s 시간 초과 (%ds)%n%s%n", mode, request.uri().getPath(), settings.timeout().toSeconds(),
+            logTail(workDir));
+        return false;
+    }
+
+    private static String logTail(Path workDir) throws IOException {
+        Path log = workDir.resolve("application.log");
+        if (!Files.exists(log)) {
+            return "";
+        }
+        List<String> lines = Files.readAllLines(log, StandardCharsets.UTF_8);
+        return String.join("\n", lines.subList(Math.max(0, lines.size() - 20), lines.size()));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static void print(String mode, String stage, LatencyRecorder.Summary summary) {
+        System.out.printf("%-10s %-7s %9d %9.1f %9.1f %9.1f%n", mode, stage, summary.count(),
+            summary.p50(), summary.mean(), summary.max());
+    }
+
+    private record Settings(String jar, String appDir, String nativeImage, String profile, List<String> modes,
+                            int runs, Duration timeout, Duration budget, String report) {
+        static Settings fromSystemProperties() {
+            return new Settings(
+                System.getProperty("perf.startup.jar"),
+                System.getProperty("perf.startup.appDir"),
+                System.getProperty("perf.startup.native", ""),
+                System.getProperty("perf.startup.profile", "prod"),
+                List.of(System.getProperty("perf.startup.modes", "jar,aot,aot-cds,native").split("\\s*,\\s*")),
+                Integer.getInteger("perf.startup.runs", 5),
+                Duration.ofSeconds(Long.getLong("perf.startup.timeoutSeconds", 60)),
+                Duration.ofMillis(Long.getLong("perf.startup.budgetMillis", 2000)),
+                System.getProperty("perf.report", "build/reports/perf/startup.json"));
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.bootcamp.paymentdemo;
 
+import com.bootcamp.paymentdemo.config.AppRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
 @ConfigurationPropertiesScan
+@ImportRuntimeHints(AppRuntimeHints.class)
 public class PaymentDemoApplication {
 
     public static void main(String[] args) {
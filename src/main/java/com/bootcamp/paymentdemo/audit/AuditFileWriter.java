@@ -0,0 +1,219 @@
+package com.bootcamp.paymentdemo.audit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.Deflater;
+
+/**
+ * 감사 로그 파일 기록 (기록 스레드 전용)
+ *
+ * 파일 이름: audit-{첫 기록 시각 epoch ms 13자리}.log, maxFileBytes / maxFileAge를 넘으면 새 파일로 교체
+ * 파일은 프레임의 연속이며, 프레임마다 따로 압축하므로 조회 시 시간 범위 밖의 프레임은 풀지 않고 건너뜁니다.
+ * <pre>
+ * [magic 4][count 4][원본 길이 4][압축 길이 4][crc32c(압축본) 4][예약 4][최소 timestamp 8][최대 timestamp 8][deflate 본문]
+ * </pre>
+ * 기록 도중 종료되어 잘린 마지막 프레임은 조회 시 crc / 길이 검사에서 걸러집니다.
+ */
+@Slf4j
+final class AuditFileWriter implements Closeable {
+
+    static final int FRAME_MAGIC = 0x41554431;   // "AUD1"
+    static final int FRAME_HEADER_SIZE = 40;
+    static final String FILE_PREFIX = "audit-";
+    static final String FILE_SUFFIX = ".log";
+
+    private final Path directory;
+    private final long maxFileBytes;
+    private final long maxFileAgeMillis;
+    private final int maxFiles;
+
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private final CRC32C crc = new CRC32C();
+    private final ByteBuffer header = ByteBuffer.allocate(FRAME_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final ByteBuffer[] frame = new ByteBuffer[2];
+    private byte[] compressed = new byte[64 * 1024];
+
+    private FileChannel channel;
+    private long fileStartMillis;
+    private long fileBytes;
+    private boolean dirty;
+    // 기록 스레드만 갱신, 메트릭 스레드가 읽음
+    private volatile long rotationCount;
+    private volatile int fileCount;
+
+    AuditFileWriter(Path directory, long maxFileBytes, long maxFileAgeMillis, int maxFiles) throws IOException {
+        this.directory = directory;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFileAgeMillis = maxFileAgeMillis;
+        this.maxFiles = maxFiles;
+        Files.createDirectories(directory);
+        this.fileCount = listFiles(directory).size();
+        frame[0] = header;
+    }
+
+    /**
+     * batch의 앞 count건을 한 프레임으로 압축해 기록
+     */
+    void write(byte[] batch, int count, long minTimestamp, long maxTimestamp) throws IOException {
+        int length = count * AuditRecord.SIZE;
+        int compressedLength = deflate(batch, length);
+        crc.reset();
+        crc.update(compressed, 0, compressedLength);
+
+        long frameBytes = FRAME_HEADER_SIZE + compressedLength;
+        if (channel == null
+            || (fileBytes > 0 && fileBytes + frameBytes > maxFileBytes)
+            || minTimestamp - fileStartMillis >= maxFileAgeMillis) {
+            rotate(minTimestamp);
+        }
+
+        header.clear();
+        header.putInt(FRAME_MAGIC)
+            .putInt(count)
+            .putInt(length)
+            .putInt(compressedLength)
+            .putInt((int) crc.getValue())
+            .putInt(0)
+            .putLong(minTimestamp)
+            .putLong(maxTimestamp)
+            .flip();
+        frame[1] = ByteBuffer.wrap(compressed, 0, compressedLength);
+        while (header.hasRemaining() || frame[1].hasRemaining()) {
+            channel.write(frame);
+        }
+        fileBytes += frameBytes;
+        dirty = true;
+    }
+
+    /**
+     * 마지막 force 이후 기록이 있으면 디스크에 반영
+     */
+    void force() throws IOException {
+        if (dirty && channel != null) {
+            channel.force(false);
+            dirty = false;
+        }
+    }
+
+    /**
+     * 새로 연 파일 수 (누적)
+     */
+    long getRotationCount() {
+        return rotationCount;
+    }
+
+    /**
+     * 디렉터리에 남아 있는 감사 로그 파일 수 (보관 개수 초과분을 지우면 줄어듦)
+     */
+    int getFileCount() {
+        return fileCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            force();
+            channel.close();
+            channel = null;
+        }
+        deflater.end();
+    }
+
+    private int deflate(byte[] batch, int length) {
+        deflater.reset();
+        deflater.setInput(batch, 0, length);
+        deflater.finish();
+        int written = 0;
+        while (!deflater.finished()) {
+            if (written == compressed.length) {
+                compressed = Arrays.copyOf(compressed, compressed.length * 2);
+            }
+            written += deflater.deflate(compressed, written, compressed.length - written);
+        }
+        return written;
+    }
+
+    private void rotate(long startMillis) throws IOException {
+        if (channel != null) {
+            force();
+            channel.close();
+        }
+        // 같은 밀리초에 교체되면 다음 밀리초 이름 사용 (파일 이름 순서 = 시간 순서 유지)
+        long nameMillis = Math.max(startMillis, fileStartMillis + 1);
+        while (true) {
+            Path file = directory.resolve(fileName(nameMillis));
+            try {
+                channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                break;
+            } catch (FileAlreadyExistsException e) {
+                nameMillis++;
+            }
+        }
+        fileStartMillis = nameMillis;
+        fileBytes = 0;
+        rotationCount++;
+        fileCount++;
+        deleteExpired();
+    }
+
+    private void deleteExpired() {
+        if (maxFiles <= 0) {
+            return;
+        }
+        try {
+            List<Path> files = listFiles(directory);
+            int remaining = files.size();
+            for (int i = 0; i < files.size() - maxFiles; i++) {
+                if (Files.deleteIfExists(files.get(i))) {
+                    remaining--;
+                }
+            }
+            fileCount = remaining;
+        } catch (IOException e) {
+            log.warn("오래된 감사 로그 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    static String fileName(long startMillis) {
+        return FILE_PREFIX + String.format("%013d", startMillis) + FILE_SUFFIX;
+    }
+
+    /**
+     * 파일 시작 시각 (이름에서 추출)
+     */
+    static long startMillisOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+    }
+
+    /**
+     * 감사 로그 파일 목록 (시작 시각 순)
+     */
+    static List<Path> listFiles(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> stream = Files.list(directory)) {
+            return stream
+                .filter(path -> {
+                    String name = path.getFileName().toString();
+                    return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+                })
+                .sorted()
+                .toList();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.bootcamp.paymentdemo.audit;
+
+import com.bootcamp.paymentdemo.config.AuditProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 감사 로그 (로그인, 토큰 거부, 결제 처리)
+ *
+ * 요청 스레드는 record()로 고정 크기 기록을 링 버퍼에 넣기만 하고 바로 반환합니다 (락, I/O, 객체 생성 없음).
+ * 기록 스레드(audit-writer) 하나가 batchSize건씩 모아 압축 프레임으로 파일에 쓰고, flushInterval마다 fsync합니다.
+ * 링 버퍼가 가득 차면 요청을 기다리게 하지 않고 해당 기록을 버리며 dropped로 집계합니다.
+ *
+ * 조회는 AuditLogReader / AuditQuery (./gradlew auditQuery -Pfrom=... -Pto=...)
+ *
+ * 사용 예 (confirm-payment 구현):
+ * <pre>
+ * auditLog.record(AuditType.PAYMENT_CONFIRMED, AuditReason.NONE, request.getRemoteAddr(), email, paymentId, amount);
+ * </pre>
+ */
+@Slf4j
+@Component
+public class AuditLog {
+
+    private final AuditProperties properties;
+
+    private AuditRingBuffer ring;
+    private AuditFileWriter fileWriter;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    private final LongAdder recordedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    // 기록 스레드만 갱신
+    private volatile long writtenCount;
+    private volatile long writeFailureCount;
+
+    public AuditLog(AuditProperties properties) {
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!properties.isEnabled()) {
+            log.info("감사 로그 비활성화 (app.audit.enabled=false)");
+            return;
+        }
+        Path directory = Path.of(properties.getDir()).toAbsolutePath();
+        fileWriter = new AuditFileWriter(directory, properties.getMaxFileBytes(),
+            properties.getMaxFileAge().toMillis(), properties.getMaxFiles());
+        ring = new AuditRingBuffer(properties.getRingCapacity());
+
+        running = true;
+        writerThread = new Thread(this::writeLoop, "audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("감사 로그 시작: {}", directory);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writerThread);
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    public void record(AuditType type, AuditReason reason, String ip, String subject, String key, long amount) {
+        AuditRingBuffer current = ring;
+        if (current == null) {
+            return;
+        }
+        if (current.publish(System.currentTimeMillis(), type, reason, ip, subject, key, amount)) {
+            recordedCount.increment();
+        } else {
+            droppedCount.increment();
+        }
+    }
+
+    public void record(AuditType type, AuditReason reason, String ip, String subject, String key) {
+        record(type, reason, ip, subject, key, 0);
+    }
+
+    private void writeLoop() {
+        int batchSize = properties.getBatchSize();
+        long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        byte[] batch = new byte[batchSize * AuditRecord.SIZE];
+        long lastForce = System.nanoTime();
+
+        try {
+            while (true) {
+                // running을 먼저 읽어야 종료 직전에 들어온 기록까지 비운 뒤 끝남
+                boolean stopping = !running;
+                int count = ring.drain(batch, batchSize);
+                if (count > 0) {
+                    write(batch, count);
+                }
+                if (count == batchSize) {
+                    continue;
+                }
+
+                long now = System.nanoTime();
+                if (stopping || now - lastForce >= flushIntervalNanos) {
+                    force();
+                    lastForce = now;
+                }
+                if (stopping) {
+                    break;
+                }
+                LockSupport.parkNanos(flushIntervalNanos);
+            }
+        } finally {
+            try {
+                fileWriter.close();
+            } catch (IOException e) {
+                log.warn("감사 로그 파일 닫기 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void write(byte[] batch, int count) {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            long timestamp = AuditRecord.timestampAt(batch, i * AuditRecord.SIZE);
+            min = Math.min(min, timestamp);
+            max = Math.max(max, timestamp);
+        }
+        try {
+            fileWriter.write(batch, count, min, max);
+            writtenCount += count;
+        } catch (IOException e) {
+            writeFailureCount += count;
+            log.error("감사 로그 기록 실패 - {}건 유실: {}", count, e.getMessage());
+        }
+    }
+
+    private void force() {
+        try {
+            fileWriter.force();
+        } catch (IOException e) {
+            log.error("감사 로그 fsync 실패: {}", e.getMessage());
+        }
+    }
+
+    public long getRecordedCount() {
+        return recordedCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount;
+    }
+
+    public long getWriteFailureCount() {
+        return writeFailureCount;
+    }
+
+    public long getRotationCount() {
+        return fileWriter == null ? 0 : fileWriter.getRotationCount();
+    }
+
+    /**
+     * 디렉터리에 남아 있는 감사 로그 파일 수 (보관 정책으로 줄어들 수 있음)
+     */
+    public int getFileCount() {
+        return fileWriter == null ? 0 : fileWriter.getFileCount();
+    }
+
+    /**
+     * 링 버퍼에서 기록 스레드를 기다리는 기록 수
+     */
+    public int getPending() {
+        return ring == null ? 0 : ring.size();
+    }
+}
@@ -0,0 +1,148 @@
+package com.bootcamp.paymentdemo.audit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * 감사 로그 시간 범위 조회
+ * - 파일 이름의 시작 시각으로 범위 밖 파일을 열지 않음
+ * - 프레임 헤더의 최소/최대 시각으로 범위 밖 프레임은 압축을 풀지 않고 건너뜀
+ * 기록 순서는 링 버퍼에 들어온 순서라 같은 프레임 안에서 시각이 약간 뒤섞일 수 있습니다.
+ */
+@Slf4j
+public final class AuditLogReader {
+
+    // 파일 경계 근처 기록은 링 버퍼 대기 시간만큼 앞 파일에 섞일 수 있어 여유를 둠
+    private static final long FILE_BOUNDARY_SLACK_MILLIS = 60_000;
+
+    private AuditLogReader() {
+    }
+
+    /**
+     * [fromMillis, toMillis) 범위의 기록을 파일 순서대로 consumer에 전달
+     *
+     * @param type null이면 전체
+     * @return 전달한 기록 수
+     */
+    public static long read(Path directory, long fromMillis, long toMillis, AuditType type,
+                            Consumer<AuditRecord> consumer) throws IOException {
+        List<Path> files = AuditFileWriter.listFiles(directory);
+        long matched = 0;
+        for (int i = 0; i < files.size(); i++) {
+            long start = AuditFileWriter.startMillisOf(files.get(i));
+            if (start - FILE_BOUNDARY_SLACK_MILLIS >= toMillis) {
+                break;
+            }
+            boolean hasNext = i + 1 < files.size();
+            if (hasNext && AuditFileWriter.startMillisOf(files.get(i + 1)) + FILE_BOUNDARY_SLACK_MILLIS <= fromMillis) {
+                continue;
+            }
+            matched += readFile(files.get(i), fromMillis, toMillis, type, consumer);
+        }
+        return matched;
+    }
+
+    private static long readFile(Path file, long fromMillis, long toMillis, AuditType type,
+                                 Consumer<AuditRecord> consumer) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(AuditFileWriter.FRAME_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        CRC32C crc = new CRC32C();
+        Inflater inflater = new Inflater();
+        long matched = 0;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position + AuditFileWriter.FRAME_HEADER_SIZE <= size) {
+                header.clear();
+                readFully(channel, header, position);
+                header.flip();
+                int magic = header.getInt();
+                int count = header.getInt();
+                int length = header.getInt();
+                int compressedLength = header.getInt();
+                int checksum = header.getInt();
+                header.getInt();
+                long minTimestamp = header.getLong();
+                long maxTimestamp = header.getLong();
+
+                long bodyPosition = position + AuditFileWriter.FRAME_HEADER_SIZE;
+                if (magic != AuditFileWriter.FRAME_MAGIC || count <= 0 || length != count * AuditRecord.SIZE
+                    || compressedLength <= 0 || bodyPosition + compressedLength > size) {
+                    log.warn("감사 로그 {} - {} 위치 이후 프레임 손상 (기록 중 종료)", file.getFileName(), position);
+                    break;
+                }
+                position = bodyPosition + compressedLength;
+                if (maxTimestamp < fromMillis || minTimestamp >= toMillis) {
+                    continue;
+                }
+
+                byte[] compressed = new byte[compressedLength];
+                readFully(channel, ByteBuffer.wrap(compressed), bodyPosition);
+                crc.reset();
+                crc.update(compressed);
+                if ((int) crc.getValue() != checksum) {
+                    log.warn("감사 로그 {} - {} 위치 프레임 체크섬 불일치", file.getFileName(), bodyPosition);
+                    break;
+                }
+
+                byte[] records = inflate(inflater, compressed, length);
+                for (int offset = 0; offset < length; offset += AuditRecord.SIZE) {
+                    long timestamp = AuditRecord.timestampAt(records, offset);
+                    if (timestamp < fromMillis || timestamp >= toMillis) {
+                        continue;
+                    }
+                    AuditRecord record = AuditRecord.decode(records, offset);
+                    if (type == null || record.type() == type) {
+                        consumer.accept(record);
+                        matched++;
+                    }
+                }
+            }
+        } finally {
+            inflater.end();
+        }
+        return matched;
+    }
+
+    private static byte[] inflate(Inflater inflater, byte[] compressed, int length) throws IOException {
+        inflater.reset();
+        inflater.setInput(compressed);
+        byte[] records = new byte[length];
+        try {
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int n = inflater.inflate(records, read, length - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != length) {
+                throw new IOException("감사 로그 프레임 길이 불일치: " + read + " != " + length);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("감사 로그 프레임 압축 해제 실패", e);
+        }
+        return records;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("unexpected end of audit file");
+            }
+        }
+    }
+}
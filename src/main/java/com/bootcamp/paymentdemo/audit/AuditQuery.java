@@ -0,0 +1,83 @@
+package com.bootcamp.paymentdemo.audit;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 감사 로그 조회 도구 (애플리케이션 없이 파일만 읽음)
+ *
+ * 사용: AuditQuery &lt;dir&gt; &lt;from&gt; &lt;to&gt; [type]
+ * - from / to: 2026-01-31T09:00, 2026-01-31 (시스템 시간대), 2026-01-31T00:00:00Z, epoch ms
+ * - type: LOGIN_FAILURE 등 AuditType 이름 (생략 시 전체)
+ * 출력: 탭 구분 한 줄에 한 건 (시각, 종류, 사유, ip, subject, key, amount)
+ */
+public final class AuditQuery {
+
+    private AuditQuery() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("사용: AuditQuery <dir> <from> <to> [type]");
+            System.exit(2);
+        }
+        ZoneId zone = ZoneId.systemDefault();
+        long from = parseTime(args[1], zone);
+        long to = parseTime(args[2], zone);
+        AuditType type = args.length > 3 ? AuditType.valueOf(args[3]) : null;
+
+        BufferedWriter out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        long count = AuditLogReader.read(Path.of(args[0]), from, to, type, record -> {
+            try {
+                out.write(format(record, zone));
+                out.newLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        out.flush();
+        System.err.println(count + "건");
+    }
+
+    private static String format(AuditRecord record, ZoneId zone) {
+        return String.join("\t",
+            Instant.ofEpochMilli(record.timestamp()).atZone(zone).toOffsetDateTime().toString(),
+            String.valueOf(record.type()),
+            record.reason().name(),
+            nullToDash(record.ip()),
+            nullToDash(record.subject()),
+            nullToDash(record.key()),
+            Long.toString(record.amount()));
+    }
+
+    private static String nullToDash(String value) {
+        return value == null ? "-" : value;
+    }
+
+    static long parseTime(String value, ZoneId zone) {
+        if (value.chars().allMatch(Character::isDigit)) {
+            return Long.parseLong(value);
+        }
+        try {
+            return OffsetDateTime.parse(value).toInstant().toEpochMilli();
+        } catch (DateTimeParseException ignored) {
+            // 시간대 없는 형식
+        }
+        try {
+            return LocalDateTime.parse(value).atZone(zone).toInstant().toEpochMilli();
+        } catch (DateTimeParseException ignored) {
+            // 날짜만
+        }
+        return LocalDate.parse(value).atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,57 @@
+package com.bootcamp.paymentdemo.audit;
+
+/**
+ * 감사 기록 사유 / 출처 (code는 파일에 저장되는 값이므로 바꾸지 않음)
+ */
+public enum AuditReason {
+    NONE(0),
+    // 로그인 실패
+    BAD_CREDENTIALS(1),
+    OVERLOADED(2),
+    // 토큰 거부 (JwtAuthenticationFilter 실패 사유와 동일)
+    EXPIRED(3),
+    MALFORMED(4),
+    SIGNATURE(5),
+    REVOKED(6),
+    OTHER(7),
+    // 결제 처리 경로
+    WEBHOOK(8),
+    SCHEDULED(9),
+    BULK(10);
+
+    private static final AuditReason[] BY_CODE = new AuditReason[128];
+
+    static {
+        for (AuditReason reason : values()) {
+            BY_CODE[reason.code] = reason;
+        }
+    }
+
+    private final byte code;
+
+    AuditReason(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte code() {
+        return code;
+    }
+
+    public static AuditReason of(byte code) {
+        AuditReason reason = code >= 0 ? BY_CODE[code] : null;
+        return reason != null ? reason : OTHER;
+    }
+
+    /**
+     * JwtAuthenticationFilter의 실패 사유 이름 → AuditReason (문자열 변환 없이)
+     */
+    public static AuditReason ofTokenFailure(String reason) {
+        return switch (reason) {
+            case "expired" -> EXPIRED;
+            case "malformed" -> MALFORMED;
+            case "signature" -> SIGNATURE;
+            case "revoked" -> REVOKED;
+            default -> OTHER;
+        };
+    }
+}
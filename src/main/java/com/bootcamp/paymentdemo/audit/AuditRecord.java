@@ -0,0 +1,124 @@
+package com.bootcamp.paymentdemo.audit;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 감사 기록 한 건 (조회용)
+ *
+ * 파일/링 버퍼에서는 192바이트 고정 크기로 저장합니다 (little-endian).
+ * <pre>
+ *   0  timestamp (epoch ms, 8)
+ *   8  type (1) / reason (1) / ip 길이 (1) / subject 길이 (1) / key 길이 (1) / 예약 (3)
+ *  16  amount (8)
+ *  24  ip (40, UTF-8)
+ *  64  subject (64, UTF-8) - 이메일 등 행위자
+ * 128  key (64, UTF-8) - paymentId, 요청 경로 등 대상
+ * </pre>
+ * 문자열이 칸보다 길면 문자 경계에서 자릅니다.
+ */
+public record AuditRecord(
+    long timestamp,
+    AuditType type,
+    AuditReason reason,
+    String ip,
+    String subject,
+    String key,
+    long amount
+) {
+    public static final int SIZE = 192;
+
+    static final int TIMESTAMP = 0;
+    private static final int TYPE = 8;
+    private static final int REASON = 9;
+    private static final int IP_LENGTH = 10;
+    private static final int SUBJECT_LENGTH = 11;
+    private static final int KEY_LENGTH = 12;
+    private static final int AMOUNT = 16;
+    private static final int IP = 24;
+    private static final int IP_CAPACITY = 40;
+    private static final int SUBJECT = 64;
+    private static final int SUBJECT_CAPACITY = 64;
+    private static final int KEY = 128;
+    private static final int KEY_CAPACITY = 64;
+
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * 요청 스레드에서 호출 - 새 객체를 만들지 않고 buffer에 바로 기록
+     */
+    static void encode(byte[] buffer, int offset, long timestamp, AuditType type, AuditReason reason,
+                       String ip, String subject, String key, long amount) {
+        LONG.set(buffer, offset + TIMESTAMP, timestamp);
+        buffer[offset + TYPE] = type.code();
+        buffer[offset + REASON] = (reason != null ? reason : AuditReason.NONE).code();
+        buffer[offset + IP_LENGTH] = (byte) writeUtf8(buffer, offset + IP, IP_CAPACITY, ip);
+        buffer[offset + SUBJECT_LENGTH] = (byte) writeUtf8(buffer, offset + SUBJECT, SUBJECT_CAPACITY, subject);
+        buffer[offset + KEY_LENGTH] = (byte) writeUtf8(buffer, offset + KEY, KEY_CAPACITY, key);
+        LONG.set(buffer, offset + AMOUNT, amount);
+    }
+
+    static long timestampAt(byte[] buffer, int offset) {
+        return (long) LONG.get(buffer, offset + TIMESTAMP);
+    }
+
+    static AuditRecord decode(byte[] buffer, int offset) {
+        return new AuditRecord(
+            timestampAt(buffer, offset),
+            AuditType.of(buffer[offset + TYPE]),
+            AuditReason.of(buffer[offset + REASON]),
+            readUtf8(buffer, offset + IP, buffer[offset + IP_LENGTH]),
+            readUtf8(buffer, offset + SUBJECT, buffer[offset + SUBJECT_LENGTH]),
+            readUtf8(buffer, offset + KEY, buffer[offset + KEY_LENGTH]),
+            (long) LONG.get(buffer, offset + AMOUNT));
+    }
+
+    /**
+     * String.getBytes() 없이 UTF-8로 기록, 남는 칸은 0으로 채움 (이전 기록이 남지 않고 압축도 잘 됨)
+     *
+     * @return 기록한 바이트 수
+     */
+    private static int writeUtf8(byte[] buffer, int offset, int capacity, String value) {
+        int length = 0;
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                int codePoint = value.codePointAt(i);
+                int bytes = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+                if (length + bytes > capacity) {
+                    break;
+                }
+                int at = offset + length;
+                switch (bytes) {
+                    case 1 -> buffer[at] = (byte) codePoint;
+                    case 2 -> {
+                        buffer[at] = (byte) (0xC0 | (codePoint >> 6));
+                        buffer[at + 1] = (byte) (0x80 | (codePoint & 0x3F));
+                    }
+                    case 3 -> {
+                        buffer[at] = (byte) (0xE0 | (codePoint >> 12));
+                        buffer[at + 1] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                        buffer[at + 2] = (byte) (0x80 | (codePoint & 0x3F));
+                    }
+                    default -> {
+                        buffer[at] = (byte) (0xF0 | (codePoint >> 18));
+                        buffer[at + 1] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                        buffer[at + 2] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                        buffer[at + 3] = (byte) (0x80 | (codePoint & 0x3F));
+                        i++;
+                    }
+                }
+                length += bytes;
+            }
+        }
+        Arrays.fill(buffer, offset + length, offset + capacity, (byte) 0);
+        return length;
+    }
+
+    private static String readUtf8(byte[] buffer, int offset, byte length) {
+        int size = length & 0xFF;
+        return size == 0 ? null : new String(buffer, offset, size, StandardCharsets.UTF_8);
+    }
+}
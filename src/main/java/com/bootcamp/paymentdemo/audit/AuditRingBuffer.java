@@ -0,0 +1,88 @@
+package com.bootcamp.paymentdemo.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 크기 기록용 다중 생산자 / 단일 소비자 링 버퍼 (락 없음)
+ *
+ * 슬롯마다 시퀀스를 두어 상태를 구분합니다.
+ * - sequence == position: 비어 있음, position 번째 생산자가 쓸 수 있음
+ * - sequence == position + 1: 기록 완료, 소비자가 읽을 수 있음
+ * - 소비자는 읽은 뒤 position + capacity로 돌려놓아 다음 바퀴의 생산자에게 넘김
+ * 생산자는 tail CAS로 자리를 잡고 슬롯에 직접 기록하므로 요청 스레드에서 객체를 만들지 않습니다.
+ * 가득 차면 기다리지 않고 false를 반환합니다 (요청 지연보다 기록 유실을 택함).
+ */
+final class AuditRingBuffer {
+
+    private final int capacity;
+    private final int mask;
+    private final byte[] slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    // 소비자 스레드만 갱신 (size() 조회용으로 volatile)
+    private volatile long head;
+
+    AuditRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("ring capacity must be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.slots = new byte[capacity * AuditRecord.SIZE];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    boolean publish(long timestamp, AuditType type, AuditReason reason,
+                    String ip, String subject, String key, long amount) {
+        long position;
+        int index;
+        while (true) {
+            position = tail.get();
+            index = (int) (position & mask);
+            long diff = sequences.getAcquire(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (diff < 0) {
+                // 소비자가 아직 이전 바퀴를 읽지 않음
+                return false;
+            }
+            // diff > 0: 다른 생산자가 먼저 가져감 - 새 tail로 재시도
+        }
+        AuditRecord.encode(slots, index * AuditRecord.SIZE, timestamp, type, reason, ip, subject, key, amount);
+        sequences.setRelease(index, position + 1);
+        return true;
+    }
+
+    /**
+     * 기록이 끝난 슬롯을 순서대로 target에 복사 (소비자 스레드 전용)
+     * 자리만 잡고 아직 쓰는 중인 슬롯을 만나면 거기서 멈춥니다.
+     *
+     * @return 복사한 기록 수
+     */
+    int drain(byte[] target, int maxRecords) {
+        long position = head;
+        int count = 0;
+        while (count < maxRecords) {
+            int index = (int) (position & mask);
+            if (sequences.getAcquire(index) != position + 1) {
+                break;
+            }
+            System.arraycopy(slots, index * AuditRecord.SIZE, target, count * AuditRecord.SIZE, AuditRecord.SIZE);
+            sequences.setRelease(index, position + capacity);
+            position++;
+            count++;
+        }
+        head = position;
+        return count;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+}
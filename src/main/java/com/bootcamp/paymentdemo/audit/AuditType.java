@@ -0,0 +1,39 @@
+package com.bootcamp.paymentdemo.audit;
+
+/**
+ * 감사 기록 종류 (code는 파일에 저장되는 값이므로 바꾸지 않음)
+ */
+public enum AuditType {
+    LOGIN_SUCCESS(1),
+    LOGIN_FAILURE(2),
+    TOKEN_REFRESHED(3),
+    TOKEN_REJECTED(4),
+    LOGOUT(5),
+    PAYMENT_CONFIRMED(10),
+    PAYMENT_CANCELLED(11),
+    PAYMENT_FAILED(12),
+    BILLING_CHARGED(13),
+    BILLING_FAILED(14);
+
+    private static final AuditType[] BY_CODE = new AuditType[128];
+
+    static {
+        for (AuditType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final byte code;
+
+    AuditType(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte code() {
+        return code;
+    }
+
+    public static AuditType of(byte code) {
+        return code >= 0 ? BY_CODE[code] : null;
+    }
+}
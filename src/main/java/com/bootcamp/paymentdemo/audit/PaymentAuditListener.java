@@ -0,0 +1,47 @@
+package com.bootcamp.paymentdemo.audit;
+
+import com.bootcamp.paymentdemo.billing.BillingCompletedEvent;
+import com.bootcamp.paymentdemo.billing.BillingTarget;
+import com.bootcamp.paymentdemo.webhook.PaymentStatusUpdate;
+import com.bootcamp.paymentdemo.webhook.PaymentWebhookBatchEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미 발행되고 있는 결제 이벤트를 감사 로그에 기록
+ * - 웹훅으로 확인된 결제 상태 (PAID / CANCELLED / FAILED)
+ * - 정기 결제 청구 결과
+ * confirm-payment / cancel-payment 구현에서는 AuditLog.record()를 직접 호출하면 됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentAuditListener {
+
+    private final AuditLog auditLog;
+
+    @EventListener
+    public void onPaymentWebhookBatch(PaymentWebhookBatchEvent event) {
+        for (PaymentStatusUpdate update : event.getUpdates()) {
+            if (update.getStatus() == null) {
+                continue;
+            }
+            AuditType type = switch (update.getStatus()) {
+                case "PAID" -> AuditType.PAYMENT_CONFIRMED;
+                case "CANCELLED" -> AuditType.PAYMENT_CANCELLED;
+                case "FAILED" -> AuditType.PAYMENT_FAILED;
+                default -> null;
+            };
+            if (type != null) {
+                auditLog.record(type, AuditReason.WEBHOOK, null, null, update.getPaymentId());
+            }
+        }
+    }
+
+    @EventListener
+    public void onBillingCompleted(BillingCompletedEvent event) {
+        BillingTarget target = event.getTarget();
+        auditLog.record(event.isSuccess() ? AuditType.BILLING_CHARGED : AuditType.BILLING_FAILED,
+            AuditReason.SCHEDULED, null, target.getCustomerUid(), event.getPaymentId(), target.getAmount());
+    }
+}
@@ -0,0 +1,98 @@
+package com.bootcamp.paymentdemo.billing;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 정기 결제 진행 체크포인트 (append-only 텍스트 로그)
+ * - STARTED {paymentId}: PortOne 결제 요청 직전 기록
+ * - DONE {paymentId}: 결제 완료 확인 후 기록
+ * 재시작 후 STARTED만 있고 DONE이 없는 건은 PortOne 조회로 실제 결제 여부를 먼저 확인합니다.
+ */
+public class BillingCheckpoint implements AutoCloseable {
+
+    private static final String STARTED = "STARTED ";
+    private static final String DONE = "DONE ";
+
+    private final Set<String> started = ConcurrentHashMap.newKeySet();
+    private final Set<String> done = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final FileChannel channel;
+
+    public BillingCheckpoint(Path path) throws IOException {
+        Path file = path.toAbsolutePath();
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        if (Files.exists(file)) {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            for (String line : lines) {
+                if (line.startsWith(STARTED)) {
+                    started.add(line.substring(STARTED.length()));
+                } else if (line.startsWith(DONE)) {
+                    done.add(line.substring(DONE.length()));
+                }
+            }
+        }
+        this.channel = FileChannel.open(file,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    public boolean isDone(String paymentId) {
+        return done.contains(paymentId);
+    }
+
+    public boolean wasStarted(String paymentId) {
+        return started.contains(paymentId);
+    }
+
+    public void markStarted(String paymentId) {
+        if (started.add(paymentId)) {
+            append(STARTED + paymentId);
+        }
+    }
+
+    public void markDone(String paymentId) {
+        if (done.add(paymentId)) {
+            append(DONE + paymentId);
+        }
+    }
+
+    /**
+     * 한 줄씩 fsync - 결제 요청 전에 STARTED가 디스크에 있어야 크래시(전원 차단 포함) 후 중복 청구를 막을 수 있음
+     */
+    private void append(String line) {
+        ByteBuffer buffer = ByteBuffer.wrap((line + '\n').getBytes(StandardCharsets.UTF_8));
+        writeLock.lock();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("체크포인트 기록 실패", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            channel.close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
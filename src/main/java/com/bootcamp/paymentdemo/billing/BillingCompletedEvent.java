@@ -0,0 +1,14 @@
+package com.bootcamp.paymentdemo.billing;
+
+import lombok.Value;
+
+/**
+ * 정기 결제 한 건이 끝났을 때 발행되는 이벤트 (청구 내역 저장 등에 사용)
+ */
+@Value
+public class BillingCompletedEvent {
+    BillingTarget target;
+    String paymentId;
+    boolean success;
+    String failureMessage;
+}
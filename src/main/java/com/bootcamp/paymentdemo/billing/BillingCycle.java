@@ -0,0 +1,26 @@
+package com.bootcamp.paymentdemo.billing;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 주기 (list-plans 계약의 billingCycle 값)
+ */
+public enum BillingCycle {
+    MONTHLY(1),
+    QUARTERLY(3),
+    ANNUAL(12);
+
+    private final int months;
+
+    BillingCycle(int months) {
+        this.months = months;
+    }
+
+    public LocalDateTime next(LocalDateTime periodStart) {
+        return periodStart.plusMonths(months);
+    }
+
+    public static BillingCycle of(String value) {
+        return value == null ? MONTHLY : BillingCycle.valueOf(value.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,13 @@
+package com.bootcamp.paymentdemo.billing;
+
+import lombok.Value;
+
+/**
+ * 정기 결제 1회 실행 결과
+ */
+@Value
+public class BillingRunResult {
+    int charged;
+    int failed;
+    int skipped;
+}
@@ -0,0 +1,42 @@
+package com.bootcamp.paymentdemo.billing;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.With;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정기 결제 대상 구독 (다음 청구 기간 정보 포함)
+ */
+@Value
+@Builder
+@With
+public class BillingTarget {
+    String subscriptionId;
+    String customerUid;
+    String billingKey;
+    long amount;
+    BillingCycle cycle;
+    // 다음 청구 기간 시작 시각
+    LocalDateTime periodStart;
+    // 청구 시도 시각 (보통 periodStart, 실패 후 재시도면 그 이후)
+    LocalDateTime dueAt;
+
+    public LocalDateTime getPeriodEnd() {
+        return cycle.next(periodStart).minusSeconds(1);
+    }
+
+    /**
+     * 청구 기간별 고유 PortOne 결제 ID
+     * 같은 기간을 다시 청구해도 같은 paymentId가 나가므로 PortOne에서 중복 결제가 거부됩니다.
+     */
+    public String getPaymentId() {
+        return "BILL-" + subscriptionId + "-" + periodStart.toLocalDate();
+    }
+
+    public BillingTarget nextPeriod() {
+        LocalDateTime next = cycle.next(periodStart);
+        return withPeriodStart(next).withDueAt(next);
+    }
+}
@@ -0,0 +1,15 @@
+package com.bootcamp.paymentdemo.billing;
+
+/**
+ * 일괄 결제 요청 한 건
+ * paymentId는 호출하는 쪽이 정해서 보내야 합니다. 같은 paymentId로 다시 보내면 PortOne이 이미 결제된 건으로 거절하므로
+ * 실패/미완료 건만 골라 재전송해도 이중 청구가 생기지 않습니다.
+ */
+public record BulkChargeItem(
+    String paymentId,
+    String billingKey,
+    String customerUid,
+    long amount,
+    String orderName
+) {
+}
@@ -0,0 +1,41 @@
+package com.bootcamp.paymentdemo.billing;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 일괄 결제 한 건의 처리 결과 (NDJSON 한 줄)
+ * - PAID: 이번 요청으로 결제됨
+ * - ALREADY_PAID: 같은 paymentId가 이미 결제되어 있음 (이전 요청의 재전송)
+ * - FAILED: PortOne 결제 실패, retryable이면 같은 paymentId로 다시 보내도 됨
+ * - REJECTED: 요청 값이 잘못되어 PortOne을 호출하지 않음
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkChargeResult(
+    int index,
+    String paymentId,
+    String status,
+    boolean retryable,
+    String errorCode,
+    String message
+) {
+    public static final String PAID = "PAID";
+    public static final String ALREADY_PAID = "ALREADY_PAID";
+    public static final String FAILED = "FAILED";
+    public static final String REJECTED = "REJECTED";
+
+    static BulkChargeResult paid(int index, String paymentId) {
+        return new BulkChargeResult(index, paymentId, PAID, false, null, null);
+    }
+
+    static BulkChargeResult alreadyPaid(int index, String paymentId) {
+        return new BulkChargeResult(index, paymentId, ALREADY_PAID, false, null, null);
+    }
+
+    static BulkChargeResult failed(int index, String paymentId, String errorCode, String message, boolean retryable) {
+        return new BulkChargeResult(index, paymentId, FAILED, retryable, errorCode, message);
+    }
+
+    static BulkChargeResult rejected(int index, String paymentId, String message) {
+        return new BulkChargeResult(index, paymentId, REJECTED, false, "INVALID_ITEM", message);
+    }
+}
@@ -0,0 +1,274 @@
+package com.bootcamp.paymentdemo.billing;
+
+import com.bootcamp.paymentdemo.audit.AuditLog;
+import com.bootcamp.paymentdemo.audit.AuditReason;
+import com.bootcamp.paymentdemo.audit.AuditType;
+import com.bootcamp.paymentdemo.config.BillingProperties;
+import com.bootcamp.paymentdemo.config.PortOneProperties;
+import com.bootcamp.paymentdemo.outbox.PaymentOutbox;
+import com.bootcamp.paymentdemo.portone.PortOneApiException;
+import com.bootcamp.paymentdemo.portone.PortOneClient;
+import com.bootcamp.paymentdemo.service.PaymentLookupService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 빌링키 일괄 결제
+ * 1. 요청 순서대로 PortOne 결제 호출을 portOneExecutor에 넘기되, 동시에 진행 중인 호출은 bulk.window개로 제한
+ * 2. 창이 빌 때까지 기다리는 동안 끝난 결과를 먼저 내보내므로, 결과는 요청 순서가 아니라 완료 순서로 기록됨 (index로 대응)
+ * 3. 모든 건의 결과를 내보낸 뒤 요약(BulkChargeSummary) 반환
+ *
+ * 부분 실패
+ * - 건마다 독립적으로 결제되며, 일부가 실패해도 이미 결제된 건을 되돌리지 않음
+ * - 결과 기록(writer)이 실패하면(클라이언트 연결 끊김) 남은 건은 호출하지 않고 중단,
+ *   이미 넘긴 호출은 끝까지 진행되므로 재전송 시 ALREADY_PAID로 확인됨
+ */
+@Slf4j
+@Component
+public class BulkChargeService {
+
+    // 창이 빌 때까지 기다리는 동안 완료된 결과를 확인하는 간격
+    private static final long DRAIN_POLL_MILLIS = 20;
+
+    private final BillingProperties properties;
+    private final PortOneProperties portOneProperties;
+    private final PortOneClient portOneClient;
+    private final PaymentLookupService paymentLookupService;
+    private final PaymentOutbox paymentOutbox;
+    private final AuditLog auditLog;
+    private final ExecutorService portOneExecutor;
+
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder paidCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder abortedCount = new LongAdder();
+
+    public BulkChargeService(
+        BillingProperties properties,
+        PortOneProperties portOneProperties,
+        PortOneClient portOneClient,
+        PaymentLookupService paymentLookupService,
+        PaymentOutbox paymentOutbox,
+        AuditLog auditLog,
+        @Qualifier("portOneExecutor") ExecutorService portOneExecutor
+    ) {
+        this.properties = properties;
+        this.portOneProperties = portOneProperties;
+        this.portOneClient = portOneClient;
+        this.paymentLookupService = paymentLookupService;
+        this.paymentOutbox = paymentOutbox;
+        this.auditLog = auditLog;
+        this.portOneExecutor = portOneExecutor;
+    }
+
+    /**
+     * 결과를 한 건씩 받아 응답에 기록하는 쪽
+     * charge()를 호출한 스레드에서만 불리므로 스레드 안전할 필요는 없습니다.
+     */
+    public interface ResultWriter {
+        void write(BulkChargeResult result) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    public int getMaxItems() {
+        return properties.getBulk().getMaxItems();
+    }
+
+    /**
+     * @throws IOException writer 기록 실패 - 남은 건은 호출하지 않음
+     */
+    public BulkChargeSummary charge(List<BulkChargeItem> items, ResultWriter writer) throws IOException {
+        requestCount.increment();
+        Semaphore window = new Semaphore(properties.getBulk().getWindow());
+        BlockingQueue<BulkChargeResult> completed = new LinkedBlockingQueue<>();
+        Tally tally = new Tally();
+        Set<String> paymentIds = new HashSet<>();
+        int inFlight = 0;
+        int submitted = 0;
+
+        try {
+            for (int i = 0; i < items.size(); i++) {
+                BulkChargeItem item = items.get(i);
+                String paymentId = item == null ? null : item.paymentId();
+                String invalid = validate(item, paymentIds);
+                if (invalid != null) {
+                    tally.write(writer, BulkChargeResult.rejected(i, paymentId, invalid));
+                    continue;
+                }
+
+                while (!window.tryAcquire(DRAIN_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    inFlight -= drain(completed, writer, tally);
+                }
+                int index = i;
+                try {
+                    CompletableFuture.supplyAsync(() -> chargeOne(index, item), portOneExecutor)
+                        .exceptionally(e -> BulkChargeResult.failed(index, paymentId, "INTERNAL_ERROR", e.getMessage(), true))
+                        .thenAccept(result -> {
+                            completed.add(result);
+                            window.release();
+                        });
+                    inFlight++;
+                    submitted = i + 1;
+                } catch (RejectedExecutionException e) {
+                    window.release();
+                    tally.write(writer, BulkChargeResult.failed(i, paymentId, "UNAVAILABLE", "결제 실행기가 종료되었습니다.", true));
+                }
+                inFlight -= drain(completed, writer, tally);
+            }
+            writer.flush();
+
+            while (inFlight > 0) {
+                tally.write(writer, completed.take());
+                inFlight--;
+                inFlight -= drain(completed, writer, tally);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abortedCount.increment();
+            throw new InterruptedIOException("일괄 결제 대기 중 인터럽트");
+        } catch (IOException e) {
+            abortedCount.increment();
+            log.warn("일괄 결제 결과 기록 실패 - {}/{}건 호출 후 중단: {}", submitted, items.size(), e.getMessage());
+            throw e;
+        }
+
+        return tally.summary(items.size());
+    }
+
+    /**
+     * 이미 끝난 결과를 기다리지 않고 모두 기록
+     */
+    private int drain(BlockingQueue<BulkChargeResult> completed, ResultWriter writer, Tally tally) throws IOException {
+        int drained = 0;
+        BulkChargeResult result;
+        while ((result = completed.poll()) != null) {
+            tally.write(writer, result);
+            drained++;
+        }
+        if (drained > 0) {
+            writer.flush();
+        }
+        return drained;
+    }
+
+    private String validate(BulkChargeItem item, Set<String> paymentIds) {
+        if (item == null) {
+            return "항목이 비어 있습니다.";
+        }
+        if (item.paymentId() == null || item.paymentId().isBlank()) {
+            return "paymentId는 필수입니다.";
+        }
+        if (item.billingKey() == null || item.billingKey().isBlank()) {
+            return "billingKey는 필수입니다.";
+        }
+        if (item.customerUid() == null || item.customerUid().isBlank()) {
+            return "customerUid는 필수입니다.";
+        }
+        if (item.amount() <= 0) {
+            return "amount는 0보다 커야 합니다.";
+        }
+        if (!paymentIds.add(item.paymentId())) {
+            return "같은 요청 안에 중복된 paymentId입니다.";
+        }
+        return null;
+    }
+
+    private BulkChargeResult chargeOne(int index, BulkChargeItem item) {
+        String paymentId = item.paymentId();
+        try {
+            portOneClient.payWithBillingKey(paymentId, chargeRequest(item));
+        } catch (PortOneApiException e) {
+            if (e.getStatusCode() == 409 && e.getResponseBody() != null && e.getResponseBody().contains("ALREADY_PAID")) {
+                return BulkChargeResult.alreadyPaid(index, paymentId);
+            }
+            failedCount.increment();
+            auditLog.record(AuditType.BILLING_FAILED, AuditReason.BULK, null, item.customerUid(), paymentId, item.amount());
+            String errorCode = e.getStatusCode() == 0 ? "PORTONE_UNAVAILABLE" : "PORTONE_" + e.getStatusCode();
+            // 응답 없이 실패한 건은 실제로 결제됐을 수도 있지만, 같은 paymentId로 재전송하면 ALREADY_PAID로 확인됨
+            return BulkChargeResult.failed(index, paymentId, errorCode, e.getMessage(), e.isTransient());
+        }
+
+        paidCount.increment();
+        auditLog.record(AuditType.BILLING_CHARGED, AuditReason.BULK, null, item.customerUid(), paymentId, item.amount());
+        paymentLookupService.invalidate(paymentId);
+        paymentOutbox.record(PaymentOutbox.BILLING_CHARGED, paymentId, Map.of(
+            "customerUid", item.customerUid(),
+            "amount", item.amount(),
+            "bulk", true));
+        return BulkChargeResult.paid(index, paymentId);
+    }
+
+    private Map<String, Object> chargeRequest(BulkChargeItem item) {
+        String orderName = item.orderName() == null || item.orderName().isBlank()
+            ? properties.getOrderName() : item.orderName();
+        return Map.of(
+            "storeId", portOneProperties.getStore().getId(),
+            "billingKey", item.billingKey(),
+            "orderName", orderName,
+            "customer", Map.of("id", item.customerUid()),
+            "amount", Map.of("total", item.amount()),
+            "currency", properties.getCurrency()
+        );
+    }
+
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    public long getPaidCount() {
+        return paidCount.sum();
+    }
+
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    public long getAbortedCount() {
+        return abortedCount.sum();
+    }
+
+    /**
+     * 기록한 결과 집계 (charge()를 호출한 스레드 전용)
+     */
+    private static final class Tally {
+        private int paid;
+        private int alreadyPaid;
+        private int failed;
+        private int rejected;
+        private int retryable;
+
+        void write(ResultWriter writer, BulkChargeResult result) throws IOException {
+            switch (result.status()) {
+                case BulkChargeResult.PAID -> paid++;
+                case BulkChargeResult.ALREADY_PAID -> alreadyPaid++;
+                case BulkChargeResult.FAILED -> failed++;
+                default -> rejected++;
+            }
+            if (result.retryable()) {
+                retryable++;
+            }
+            writer.write(result);
+        }
+
+        BulkChargeSummary summary(int total) {
+            return new BulkChargeSummary(total, paid, alreadyPaid, failed, rejected, retryable);
+        }
+    }
+}
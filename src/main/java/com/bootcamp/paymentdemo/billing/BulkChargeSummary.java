@@ -0,0 +1,14 @@
+package com.bootcamp.paymentdemo.billing;
+
+/**
+ * 일괄 결제 마지막 줄 - 이 줄이 없으면 응답이 중간에 끊긴 것이므로 결과가 없는 건을 다시 보내야 합니다.
+ */
+public record BulkChargeSummary(
+    int total,
+    int paid,
+    int alreadyPaid,
+    int failed,
+    int rejected,
+    int retryable
+) {
+}
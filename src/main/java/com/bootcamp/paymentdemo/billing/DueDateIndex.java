@@ -0,0 +1,94 @@
+package com.bootcamp.paymentdemo.billing;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 시간 버킷 기반 만기일 인덱스
+ * dueAt을 bucketMillis 단위 버킷으로 묶어 정렬 맵에 보관하므로,
+ * 만기 대상 조회는 현재 시각 이전 버킷만 훑으면 됩니다. (전체 구독 스캔 없음)
+ */
+public class DueDateIndex {
+
+    private final long bucketMillis;
+    private final ZoneId zone;
+    private final ConcurrentSkipListMap<Long, Map<String, BillingTarget>> buckets = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<String, Long> bucketBySubscription = new ConcurrentHashMap<>();
+
+    public DueDateIndex(long bucketMillis, ZoneId zone) {
+        this.bucketMillis = bucketMillis;
+        this.zone = zone;
+    }
+
+    /**
+     * 구독 등록 또는 만기일 변경 (기존 위치에서 제거 후 새 버킷에 추가)
+     */
+    public void schedule(BillingTarget target) {
+        long bucket = bucketOf(target.getDueAt());
+        bucketBySubscription.compute(target.getSubscriptionId(), (id, previous) -> {
+            if (previous != null) {
+                Map<String, BillingTarget> old = buckets.get(previous);
+                if (old != null) {
+                    old.remove(id);
+                }
+            }
+            buckets.computeIfAbsent(bucket, key -> new ConcurrentHashMap<>()).put(id, target);
+            return bucket;
+        });
+    }
+
+    public void remove(String subscriptionId) {
+        bucketBySubscription.computeIfPresent(subscriptionId, (id, bucket) -> {
+            Map<String, BillingTarget> targets = buckets.get(bucket);
+            if (targets != null) {
+                targets.remove(id);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 만기가 지난 구독을 최대 limit개 꺼냄 (꺼낸 항목은 인덱스에서 제거됨)
+     */
+    public List<BillingTarget> pollDue(LocalDateTime now, int limit) {
+        List<BillingTarget> due = new ArrayList<>(Math.min(limit, 1024));
+        ConcurrentNavigableMap<Long, Map<String, BillingTarget>> candidates = buckets.headMap(bucketOf(now), true);
+
+        for (Map.Entry<Long, Map<String, BillingTarget>> bucket : candidates.entrySet()) {
+            Iterator<BillingTarget> iterator = bucket.getValue().values().iterator();
+            while (iterator.hasNext() && due.size() < limit) {
+                BillingTarget target = iterator.next();
+                if (target.getDueAt().isAfter(now)) {
+                    continue;
+                }
+                // 동시에 재등록된 경우 새 위치가 우선
+                if (bucketBySubscription.remove(target.getSubscriptionId(), bucket.getKey())) {
+                    iterator.remove();
+                    due.add(target);
+                }
+            }
+            if (bucket.getValue().isEmpty()) {
+                candidates.remove(bucket.getKey(), bucket.getValue());
+            }
+            if (due.size() >= limit) {
+                break;
+            }
+        }
+        return due;
+    }
+
+    public int size() {
+        return bucketBySubscription.size();
+    }
+
+    private long bucketOf(LocalDateTime time) {
+        return time.atZone(zone).toInstant().toEpochMilli() / bucketMillis;
+    }
+}
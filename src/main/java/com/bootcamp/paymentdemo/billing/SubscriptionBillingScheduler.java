@@ -0,0 +1,268 @@
+package com.bootcamp.paymentdemo.billing;
+
+import com.bootcamp.paymentdemo.config.BillingProperties;
+import com.bootcamp.paymentdemo.config.PortOneProperties;
+import com.bootcamp.paymentdemo.portone.PortOneApiException;
+import com.bootcamp.paymentdemo.portone.PortOneClient;
+import com.bootcamp.paymentdemo.service.PaymentLookupService;
+import com.bootcamp.paymentdemo.subscription.SubscriptionStore;
+import com.bootcamp.paymentdemo.subscription.SubscriptionView;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 구독 정기 결제 스케줄러
+ * 1. DueDateIndex에서 만기가 지난 구독을 batchSize씩 꺼냄
+ * 2. 배치 안에서는 maxConcurrency개까지 동시에 PortOne 빌링키 결제 호출
+ * 3. 성공하면 다음 기간으로 재등록, 실패하면 retryDelay 뒤로 재등록
+ *
+ * 중복 청구 방지
+ * - paymentId는 구독 + 기간으로 고정되어 같은 기간은 PortOne에서도 한 번만 결제됨
+ * - 결제 요청 전 STARTED, 완료 후 DONE을 체크포인트에 기록하고,
+ *   재시작 후 STARTED만 남은 건은 PortOne 조회로 결제 여부를 먼저 확인
+ *
+ * 인덱스는 메모리에만 있으므로 기동 시 SubscriptionStore의 ACTIVE / SUSPENDED 구독으로 다시 채웁니다.
+ * (다음 청구 기간 = currentPeriodEnd 다음 시각, 미납 구독은 실패한 기간부터 바로 재시도)
+ */
+@Slf4j
+@Component
+public class SubscriptionBillingScheduler {
+
+    private final BillingProperties properties;
+    private final PortOneProperties portOneProperties;
+    private final PortOneClient portOneClient;
+    private final PaymentLookupService paymentLookupService;
+    private final SubscriptionStore subscriptionStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService portOneExecutor;
+    private final DueDateIndex index;
+
+    private BillingCheckpoint checkpoint;
+    private ScheduledExecutorService scheduler;
+
+    public SubscriptionBillingScheduler(
+        BillingProperties properties,
+        PortOneProperties portOneProperties,
+        PortOneClient portOneClient,
+        PaymentLookupService paymentLookupService,
+        SubscriptionStore subscriptionStore,
+        ApplicationEventPublisher eventPublisher,
+        @Qualifier("portOneExecutor") ExecutorService portOneExecutor
+    ) {
+        this.properties = properties;
+        this.portOneProperties = portOneProperties;
+        this.portOneClient = portOneClient;
+        this.paymentLookupService = paymentLookupService;
+        this.subscriptionStore = subscriptionStore;
+        this.eventPublisher = eventPublisher;
+        this.portOneExecutor = portOneExecutor;
+        this.index = new DueDateIndex(properties.getBucketSize().toMillis(), ZoneId.systemDefault());
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        checkpoint = new BillingCheckpoint(Path.of(properties.getCheckpointPath()));
+        rebuildIndex();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "subscription-billing");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getRunInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::runSafely, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("정기 결제 스케줄러 시작 (주기 {}ms)", interval);
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (checkpoint != null) {
+            checkpoint.close();
+        }
+    }
+
+    /**
+     * 저장된 구독으로 인덱스 재구성 - 빌링키(paymentMethodId)가 없는 구독은 청구할 수 없으므로 제외
+     */
+    private void rebuildIndex() throws IOException {
+        int registered = 0;
+        for (SubscriptionView subscription : subscriptionStore.findAll()) {
+            boolean billable = SubscriptionView.ACTIVE.equals(subscription.status())
+                || SubscriptionView.SUSPENDED.equals(subscription.status());
+            if (!billable || subscription.paymentMethodId() == null || subscription.currentPeriodEnd() == null) {
+                continue;
+            }
+            LocalDateTime periodStart = subscription.currentPeriodEnd().plusSeconds(1);
+            index.schedule(BillingTarget.builder()
+                .subscriptionId(subscription.subscriptionId())
+                .customerUid(subscription.customerUid())
+                .billingKey(subscription.paymentMethodId())
+                .amount(subscription.amount())
+                .cycle(BillingCycle.of(subscription.billingCycle()))
+                .periodStart(periodStart)
+                .dueAt(periodStart)
+                .build());
+            registered++;
+        }
+        log.info("정기 결제 인덱스 재구성: {}건", registered);
+    }
+
+    /**
+     * 구독 등록 / 다음 청구일 변경 (create-subscription 구현에서 호출)
+     * 재시작 후에는 rebuildIndex()가 저장소 기준으로 다시 등록하므로 구독 저장 후 호출하면 됩니다.
+     */
+    public void register(BillingTarget target) {
+        index.schedule(target);
+    }
+
+    /**
+     * 구독 해지 시 정기 결제 대상에서 제외
+     */
+    public void cancel(String subscriptionId) {
+        index.remove(subscriptionId);
+    }
+
+    public int getScheduledCount() {
+        return index.size();
+    }
+
+    /**
+     * 현재 시각 기준 만기 구독 전체를 배치 단위로 청구
+     */
+    public BillingRunResult runOnce() {
+        if (checkpoint == null) {
+            throw new IllegalStateException("정기 결제 스케줄러가 비활성화되어 있습니다. (app.billing.enabled)");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        AtomicInteger charged = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+
+        List<BillingTarget> batch;
+        while (!(batch = index.pollDue(now, properties.getBatchSize())).isEmpty()) {
+            chargeBatch(batch, now, charged, failed, skipped);
+        }
+
+        BillingRunResult result = new BillingRunResult(charged.get(), failed.get(), skipped.get());
+        if (result.getCharged() + result.getFailed() + result.getSkipped() > 0) {
+            log.info("정기 결제 실행 완료 - 성공 {}, 실패 {}, 건너뜀 {}",
+                result.getCharged(), result.getFailed(), result.getSkipped());
+        }
+        return result;
+    }
+
+    private void runSafely() {
+        try {
+            runOnce();
+        } catch (Exception e) {
+            log.error("정기 결제 실행 실패", e);
+        }
+    }
+
+    private void chargeBatch(List<BillingTarget> batch, LocalDateTime now,
+                             AtomicInteger charged, AtomicInteger failed, AtomicInteger skipped) {
+        Semaphore window = new Semaphore(properties.getMaxConcurrency());
+        List<CompletableFuture<Void>> calls = new ArrayList<>(batch.size());
+
+        for (BillingTarget target : batch) {
+            window.acquireUninterruptibly();
+            calls.add(CompletableFuture.runAsync(() -> {
+                try {
+                    switch (charge(target)) {
+                        case CHARGED -> charged.incrementAndGet();
+                        case ALREADY_PAID -> skipped.incrementAndGet();
+                        case FAILED -> failed.incrementAndGet();
+                    }
+                } finally {
+                    window.release();
+                }
+            }, portOneExecutor).exceptionally(e -> {
+                // charge()에서 처리하지 못한 예외 - 다음 실행에서 다시 시도
+                log.error("정기 결제 처리 오류: {}", target.getSubscriptionId(), e);
+                index.schedule(target.withDueAt(now.plus(properties.getRetryDelay())));
+                failed.incrementAndGet();
+                return null;
+            }));
+        }
+        CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private Outcome charge(BillingTarget target) {
+        String paymentId = target.getPaymentId();
+
+        if (checkpoint.isDone(paymentId) || (checkpoint.wasStarted(paymentId) && isPaid(paymentId))) {
+            checkpoint.markDone(paymentId);
+            index.schedule(target.nextPeriod());
+            return Outcome.ALREADY_PAID;
+        }
+
+        checkpoint.markStarted(paymentId);
+        try {
+            portOneClient.payWithBillingKey(paymentId, chargeRequest(target));
+            checkpoint.markDone(paymentId);
+            paymentLookupService.invalidate(paymentId);
+            index.schedule(target.nextPeriod());
+            eventPublisher.publishEvent(new BillingCompletedEvent(target, paymentId, true, null));
+            return Outcome.CHARGED;
+        } catch (PortOneApiException e) {
+            log.warn("정기 결제 실패 - 구독 {}: {}", target.getSubscriptionId(), e.getMessage());
+            index.schedule(target.withDueAt(LocalDateTime.now().plus(properties.getRetryDelay())));
+            eventPublisher.publishEvent(new BillingCompletedEvent(target, paymentId, false, e.getMessage()));
+            return Outcome.FAILED;
+        }
+    }
+
+    /**
+     * 이전 실행이 결제 요청 후 중단된 경우 PortOne에서 실제 결제 여부 확인
+     */
+    private boolean isPaid(String paymentId) {
+        try {
+            JsonNode payment = paymentLookupService.getPayment(paymentId);
+            return "PAID".equals(payment.path("status").asString());
+        } catch (PortOneApiException e) {
+            if (e.getStatusCode() == 404) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private Map<String, Object> chargeRequest(BillingTarget target) {
+        return Map.of(
+            "storeId", portOneProperties.getStore().getId(),
+            "billingKey", target.getBillingKey(),
+            "orderName", properties.getOrderName(),
+            "customer", Map.of("id", target.getCustomerUid()),
+            "amount", Map.of("total", target.getAmount()),
+            "currency", properties.getCurrency()
+        );
+    }
+
+    private enum Outcome { CHARGED, ALREADY_PAID, FAILED }
+}
@@ -0,0 +1,184 @@
+package com.bootcamp.paymentdemo.catalog;
+
+import lombok.Getter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카탈로그의 불변 스냅샷
+ * 생성 시점에 전체 목록 / 카테고리별 목록 / 페이지별 응답을 모두 직렬화하고 역색인을 만들어 둡니다.
+ * 요청 경로에서는 미리 만든 byte[]를 그대로 돌려주거나 (검색) 상품별 JSON 조각을 이어 붙이기만 합니다.
+ * 카탈로그가 바뀌면 새 스냅샷을 만들어 통째로 교체합니다 (copy-on-write).
+ */
+final class CatalogSnapshot {
+
+    private static final byte[] EMPTY_ARRAY = "[]".getBytes(StandardCharsets.US_ASCII);
+
+    @Getter
+    private final long version;
+    @Getter
+    private final List<Product> products;
+    private final Map<String, Integer> positionById;
+    private final byte[][] productJson;
+    private final String[] productCategory;
+    private final int pageSize;
+
+    private final Listing all;
+    private final Map<String, Listing> byCategory;
+    private final SearchIndex searchIndex;
+
+    CatalogSnapshot(long version, List<Product> products, int pageSize, JsonMapper jsonMapper) {
+        this.version = version;
+        this.products = List.copyOf(products);
+        this.pageSize = Math.max(1, pageSize);
+
+        int size = this.products.size();
+        this.positionById = new HashMap<>(size * 2);
+        this.productJson = new byte[size][];
+        this.productCategory = new String[size];
+        Map<String, List<Integer>> categoryPositions = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            Product product = this.products.get(i);
+            if (positionById.putIfAbsent(product.id(), i) != null) {
+                throw new IllegalArgumentException("중복된 상품 ID: " + product.id());
+            }
+            productJson[i] = jsonMapper.writeValueAsBytes(product);
+            productCategory[i] = product.category();
+            if (product.category() != null) {
+                categoryPositions.computeIfAbsent(product.category(), key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        int[] allPositions = new int[size];
+        for (int i = 0; i < size; i++) {
+            allPositions[i] = i;
+        }
+        this.all = new Listing(allPositions);
+
+        Map<String, Listing> categories = new HashMap<>(categoryPositions.size() * 2);
+        categoryPositions.forEach((category, positions) ->
+            categories.put(category, new Listing(positions.stream().mapToInt(Integer::intValue).toArray())));
+        this.byCategory = Collections.unmodifiableMap(categories);
+        this.searchIndex = SearchIndex.build(this.products);
+    }
+
+    /**
+     * 전체 또는 카테고리 목록 (page가 null이면 전체, 아니면 0부터 시작하는 페이지)
+     * 존재하지 않는 카테고리나 범위를 벗어난 페이지는 빈 배열
+     */
+    CatalogView list(String category, Integer page) {
+        Listing listing = category == null ? all : byCategory.get(category);
+        if (listing == null) {
+            return new CatalogView(EMPTY_ARRAY, null, 0);
+        }
+        return page == null ? listing.full : listing.page(page);
+    }
+
+    /**
+     * 검색 결과 - 역색인으로 위치를 구한 뒤 상품별 JSON 조각을 이어 붙임
+     */
+    CatalogView search(String query, String category, Integer page, int maxQueryTerms) {
+        int[] matches = searchIndex.search(query, maxQueryTerms);
+        if (category != null) {
+            int kept = 0;
+            for (int position : matches) {
+                if (category.equals(productCategory[position])) {
+                    matches[kept++] = position;
+                }
+            }
+            matches = Arrays.copyOf(matches, kept);
+        }
+
+        int from = 0;
+        int to = matches.length;
+        if (page != null) {
+            from = (int) Math.min((long) page * pageSize, matches.length);
+            to = Math.min(from + pageSize, matches.length);
+        }
+        return new CatalogView(join(matches, from, to), null, matches.length);
+    }
+
+    Product find(String productId) {
+        Integer position = positionById.get(productId);
+        return position == null ? null : products.get(position);
+    }
+
+    List<String> getCategories() {
+        return List.copyOf(byCategory.keySet());
+    }
+
+    int getTermCount() {
+        return searchIndex.termCount();
+    }
+
+    private byte[] join(int[] positions, int from, int to) {
+        if (from >= to) {
+            return EMPTY_ARRAY;
+        }
+        int length = 2 + (to - from - 1);
+        for (int i = from; i < to; i++) {
+            length += productJson[positions[i]].length;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(length);
+        out.write('[');
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                out.write(',');
+            }
+            out.writeBytes(productJson[positions[i]]);
+        }
+        out.write(']');
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            // 응답 식별용이므로 앞 16바이트면 충분
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 하나의 목록(전체 또는 카테고리)에 대한 전체 응답 + 페이지별 응답
+     */
+    private final class Listing {
+
+        private final CatalogView full;
+        private final CatalogView[] pages;
+
+        private Listing(int[] positions) {
+            byte[] body = join(positions, 0, positions.length);
+            this.full = new CatalogView(body, etag(body), positions.length);
+
+            int pageCount = (positions.length + pageSize - 1) / pageSize;
+            this.pages = new CatalogView[pageCount];
+            for (int i = 0; i < pageCount; i++) {
+                int from = i * pageSize;
+                byte[] pageBody = join(positions, from, Math.min(from + pageSize, positions.length));
+                pages[i] = new CatalogView(pageBody, etag(pageBody), positions.length);
+            }
+        }
+
+        private CatalogView page(int page) {
+            if (page >= 0 && page < pages.length) {
+                return pages[page];
+            }
+            return new CatalogView(EMPTY_ARRAY, null, full.totalCount());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.bootcamp.paymentdemo.catalog;
+
+import java.util.Arrays;
+
+/**
+ * 직렬화가 끝난 상품 목록 응답 (JSON 배열)
+ * 카탈로그 스냅샷에 미리 만들어 둔 것을 그대로 돌려주므로 요청마다 새로 만들지 않습니다.
+ * 검색 결과처럼 요청마다 조합되는 응답은 etag가 null입니다.
+ *
+ * @param body       JSON 배열 본문
+ * @param etag       강한 ETag (따옴표 포함) 또는 null
+ * @param totalCount 페이지와 무관한 전체 건수
+ */
+public record CatalogView(byte[] body, String etag, int totalCount) {
+
+    /**
+     * If-None-Match 헤더가 이 응답과 일치하는지 확인 (GET이므로 W/ 무시)
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (etag == null || ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+            .map(String::trim)
+            .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+            .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+    }
+}
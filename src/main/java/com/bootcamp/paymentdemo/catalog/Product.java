@@ -0,0 +1,28 @@
+package com.bootcamp.paymentdemo.catalog;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * 카탈로그 상품
+ * 응답에는 list-products 계약 필드(id, name, price, stock)와 category만 노출되고,
+ * keywords는 검색 색인에만 사용합니다.
+ */
+public record Product(
+    String id,
+    String name,
+    long price,
+    int stock,
+    String category,
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY) List<String> keywords
+) {
+
+    public Product {
+        keywords = keywords == null ? List.of() : List.copyOf(keywords);
+    }
+
+    public Product withStock(int newStock) {
+        return new Product(id, name, price, newStock, category, keywords);
+    }
+}
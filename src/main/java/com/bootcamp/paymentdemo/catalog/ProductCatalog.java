@@ -0,0 +1,177 @@
+package com.bootcamp.paymentdemo.catalog;
+
+import com.bootcamp.paymentdemo.config.CatalogProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메모리 상품 카탈로그 (list-products)
+ * - 읽기: 현재 CatalogSnapshot을 참조해 미리 직렬화된 응답을 반환 (락/할당 없음, 검색만 결과 배열 조합)
+ * - 쓰기: 전체 교체 / 재고 변경 시 새 스냅샷을 만든 뒤 한 번에 교체 (copy-on-write)
+ *   읽는 쪽은 항상 완성된 이전 또는 새 스냅샷만 보게 됩니다.
+ * 쓰기끼리는 ReentrantLock으로 직렬화해 동시에 들어온 변경이 서로를 덮어쓰지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class ProductCatalog {
+
+    private static final TypeReference<List<Product>> PRODUCT_LIST = new TypeReference<>() {
+    };
+
+    private final CatalogProperties properties;
+    private final ResourceLoader resourceLoader;
+    private final JsonMapper jsonMapper;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>();
+
+    private final LongAdder listCount = new LongAdder();
+    private final LongAdder searchCount = new LongAdder();
+    private final LongAdder refreshCount = new LongAdder();
+
+    public ProductCatalog(CatalogProperties properties, ResourceLoader resourceLoader, JsonMapper jsonMapper) {
+        this.properties = properties;
+        this.resourceLoader = resourceLoader;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        List<Product> products = load();
+        replaceAll(products);
+        log.info("상품 카탈로그 로드: {}건, 카테고리 {}개, 색인 용어 {}개",
+            products.size(), snapshot.get().getCategories().size(), snapshot.get().getTermCount());
+    }
+
+    /**
+     * 전체 또는 카테고리 목록 조회
+     *
+     * @param category null이면 전체
+     * @param page     null이면 페이지 없이 전체, 아니면 0부터 시작하는 페이지 번호
+     */
+    public CatalogView list(String category, Integer page) {
+        listCount.increment();
+        return snapshot.get().list(category, page);
+    }
+
+    /**
+     * 상품명/카테고리/키워드 검색 (공백으로 구분된 토큰 AND, 토큰별 접두사 매칭)
+     */
+    public CatalogView search(String query, String category, Integer page) {
+        searchCount.increment();
+        return snapshot.get().search(query, category, page, properties.getMaxQueryTerms());
+    }
+
+    public Product find(String productId) {
+        return snapshot.get().find(productId);
+    }
+
+    public List<Product> getProducts() {
+        return snapshot.get().getProducts();
+    }
+
+    public List<String> getCategories() {
+        return snapshot.get().getCategories();
+    }
+
+    /**
+     * 카탈로그 전체 교체
+     */
+    public void replaceAll(List<Product> products) {
+        writeLock.lock();
+        try {
+            publish(products);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 재고 변경 - 해당 상품만 바꾼 새 스냅샷으로 교체
+     *
+     * @return 상품이 없으면 false
+     */
+    public boolean updateStock(String productId, int stock) {
+        if (stock < 0) {
+            throw new IllegalArgumentException("재고는 0 이상이어야 합니다: " + stock);
+        }
+        writeLock.lock();
+        try {
+            CatalogSnapshot current = snapshot.get();
+            Product product = current.find(productId);
+            if (product == null) {
+                return false;
+            }
+            if (product.stock() == stock) {
+                return true;
+            }
+            List<Product> products = new ArrayList<>(current.getProducts());
+            products.replaceAll(p -> p.id().equals(productId) ? p.withStock(stock) : p);
+            publish(products);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 설정된 원본(app.catalog.source)을 다시 읽어 교체
+     * 읽기/파싱에 실패하면 기존 스냅샷을 그대로 유지합니다.
+     */
+    public void reload() throws IOException {
+        replaceAll(load());
+    }
+
+    public long getVersion() {
+        CatalogSnapshot current = snapshot.get();
+        return current == null ? 0 : current.getVersion();
+    }
+
+    public int size() {
+        CatalogSnapshot current = snapshot.get();
+        return current == null ? 0 : current.getProducts().size();
+    }
+
+    public long getListCount() {
+        return listCount.sum();
+    }
+
+    public long getSearchCount() {
+        return searchCount.sum();
+    }
+
+    public long getRefreshCount() {
+        return refreshCount.sum();
+    }
+
+    private void publish(List<Product> products) {
+        // 직렬화/색인은 교체 전에 모두 끝내고, 교체는 참조 하나만 바꿈
+        CatalogSnapshot next = new CatalogSnapshot(getVersion() + 1, products, properties.getPageSize(), jsonMapper);
+        snapshot.set(next);
+        refreshCount.increment();
+    }
+
+    private List<Product> load() throws IOException {
+        Resource resource = resourceLoader.getResource(properties.getSource());
+        if (!resource.exists()) {
+            log.warn("상품 카탈로그 원본 없음: {} - 빈 카탈로그로 시작합니다.", properties.getSource());
+            return List.of();
+        }
+        try (InputStream in = resource.getInputStream()) {
+            return jsonMapper.readValue(in, PRODUCT_LIST);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.bootcamp.paymentdemo.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 상품명/카테고리/키워드 역색인
+ * - 용어는 정렬된 배열, 용어별 포스팅은 상품 위치(오름차순) int[]로 보관
+ * - 검색 토큰은 접두사로 매칭 (이진 탐색으로 범위를 찾음), 토큰 간에는 AND
+ * - 한글 토큰은 띄어쓰기 없이 붙여 쓰는 경우가 많아 접미사까지 색인 ("무선이어폰" → "이어폰"으로도 검색)
+ * 생성 후에는 변경되지 않으므로 스냅샷과 함께 그대로 공유합니다.
+ */
+final class SearchIndex {
+
+    private final String[] terms;
+    private final int[][] postings;
+    private final int documentCount;
+
+    private SearchIndex(String[] terms, int[][] postings, int documentCount) {
+        this.terms = terms;
+        this.postings = postings;
+        this.documentCount = documentCount;
+    }
+
+    static SearchIndex build(List<Product> products) {
+        TreeMap<String, List<Integer>> termMap = new TreeMap<>();
+        for (int position = 0; position < products.size(); position++) {
+            Product product = products.get(position);
+            List<String> tokens = new ArrayList<>(tokenize(product.name()));
+            tokens.addAll(tokenize(product.category()));
+            for (String keyword : product.keywords()) {
+                tokens.addAll(tokenize(keyword));
+            }
+            for (String token : tokens) {
+                for (String term : indexTerms(token)) {
+                    List<Integer> list = termMap.computeIfAbsent(term, key -> new ArrayList<>());
+                    // 같은 상품에서 같은 용어가 여러 번 나와도 포스팅은 한 번만
+                    if (list.isEmpty() || list.get(list.size() - 1) != position) {
+                        list.add(position);
+                    }
+                }
+            }
+        }
+
+        String[] terms = new String[termMap.size()];
+        int[][] postings = new int[termMap.size()][];
+        int i = 0;
+        for (Map.Entry<String, List<Integer>> entry : termMap.entrySet()) {
+            terms[i] = entry.getKey();
+            postings[i] = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+            i++;
+        }
+        return new SearchIndex(terms, postings, products.size());
+    }
+
+    /**
+     * 모든 검색 토큰을 만족하는 상품 위치 (오름차순 = 카탈로그 순서)
+     * 토큰이 하나도 없으면 빈 배열
+     */
+    int[] search(String query, int maxTerms) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return new int[0];
+        }
+
+        BitSet result = null;
+        for (String token : tokens.subList(0, Math.min(tokens.size(), maxTerms))) {
+            BitSet matches = prefixMatches(token);
+            if (result == null) {
+                result = matches;
+            } else {
+                result.and(matches);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result.stream().toArray();
+    }
+
+    int termCount() {
+        return terms.length;
+    }
+
+    private BitSet prefixMatches(String prefix) {
+        BitSet matches = new BitSet(documentCount);
+        int from = Arrays.binarySearch(terms, prefix);
+        if (from < 0) {
+            from = -from - 1;
+        }
+        for (int i = from; i < terms.length && terms[i].startsWith(prefix); i++) {
+            for (int position : postings[i]) {
+                matches.set(position);
+            }
+        }
+        return matches;
+    }
+
+    private static List<String> indexTerms(String token) {
+        if (!containsHangul(token)) {
+            return List.of(token);
+        }
+        // 접미사 색인 + 접두사 검색 = 부분 문자열 검색
+        List<String> suffixes = new ArrayList<>(token.length());
+        for (int i = 0; i < token.length(); i++) {
+            suffixes.add(token.substring(i));
+        }
+        return suffixes;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean containsHangul(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            if (Character.UnicodeScript.of(token.charAt(i)) == Character.UnicodeScript.HANGUL) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
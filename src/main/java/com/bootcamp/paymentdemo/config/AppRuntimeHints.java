@@ -0,0 +1,40 @@
+package com.bootcamp.paymentdemo.config;
+
+import com.bootcamp.paymentdemo.billing.BulkChargeResult;
+import com.bootcamp.paymentdemo.billing.BulkChargeSummary;
+import com.bootcamp.paymentdemo.catalog.Product;
+import com.bootcamp.paymentdemo.dto.PublicConfigResponse;
+import com.bootcamp.paymentdemo.subscription.BillingHistoryEntry;
+import com.bootcamp.paymentdemo.subscription.SubscriptionView;
+import com.bootcamp.paymentdemo.user.UserRecord;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * GraalVM native image용 런타임 힌트 (JVM 실행에는 영향 없음)
+ *
+ * 컨트롤러 요청/응답 타입과 @ConfigurationProperties는 Spring AOT가 힌트를 만들지만,
+ * 아래는 코드에서 직접 읽고 쓰므로 따로 등록합니다.
+ * - 리소스: spring.config.import로 읽는 계약 파일, ProductCatalog의 상품 JSON
+ * - Jackson 직렬화: 파일 저장소 레코드(사용자, 구독, 청구 이력), 상품 캐시, 미리 직렬화하는 /api/public/config 응답,
+ *   일괄 결제 NDJSON 결과
+ */
+public class AppRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources()
+            .registerPattern("client-api-config.yml")
+            .registerPattern("catalog/*.json");
+
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+            Product.class,
+            PublicConfigResponse.class,
+            UserRecord.class,
+            SubscriptionView.class,
+            BillingHistoryEntry.class,
+            BulkChargeResult.class,
+            BulkChargeSummary.class);
+    }
+}
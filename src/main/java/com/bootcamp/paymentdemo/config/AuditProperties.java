@@ -0,0 +1,29 @@
+package com.bootcamp.paymentdemo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 감사 로그 설정 (로그인, 토큰 거부, 결제 처리 기록)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.audit")
+public class AuditProperties {
+    private boolean enabled = true;
+    private String dir = "data/audit";
+    // 요청 스레드 → 기록 스레드 링 버퍼 크기 (2의 거듭제곱, 가득 차면 새 기록은 버리고 dropped로 집계)
+    private int ringCapacity = 32768;
+    // 압축 프레임 하나에 담는 최대 기록 수
+    private int batchSize = 1024;
+    // 기록 스레드가 새 기록을 확인하는 주기이자 fsync 주기
+    private Duration flushInterval = Duration.ofMillis(200);
+    // 파일 교체 기준 (압축 후 크기 / 파일이 덮는 시간)
+    private long maxFileBytes = 64L * 1024 * 1024;
+    private Duration maxFileAge = Duration.ofHours(1);
+    // 보관할 최대 파일 수 (넘으면 오래된 파일부터 삭제, 0이면 삭제하지 않음)
+    private int maxFiles = 24 * 90;
+}
@@ -0,0 +1,39 @@
+package com.bootcamp.paymentdemo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 정기 결제(구독 갱신) 스케줄러 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.billing")
+public class BillingProperties {
+    private boolean enabled = false;
+    // 만기 구독을 찾는 주기
+    private Duration runInterval = Duration.ofMinutes(1);
+    // 만기일 인덱스 버킷 크기
+    private Duration bucketSize = Duration.ofHours(1);
+    private int batchSize = 500;
+    private int maxConcurrency = 32;
+    // 결제 실패 시 다음 시도까지 대기
+    private Duration retryDelay = Duration.ofDays(1);
+    // 진행 상황 체크포인트 파일 (재시작 시 이어서 처리)
+    private String checkpointPath = "data/billing-checkpoint.log";
+    private String currency = "KRW";
+    private String orderName = "정기 구독 결제";
+    // 일괄 빌링키 결제 API (POST /api/billings/bulk)
+    private Bulk bulk = new Bulk();
+
+    @Data
+    public static class Bulk {
+        // 한 요청에 담을 수 있는 최대 건수 (초과 시 스트리밍 전에 400)
+        private int maxItems = 5000;
+        // 동시에 진행 중인 PortOne 결제 호출 수
+        private int window = 32;
+    }
+}
@@ -0,0 +1,20 @@
+package com.bootcamp.paymentdemo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 카탈로그 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.catalog")
+public class CatalogProperties {
+    // 시작 시 읽을 상품 목록 (JSON 배열, Spring 리소스 경로)
+    private String source = "classpath:catalog/products.json";
+    // 미리 직렬화해 둘 페이지 크기 (page 파라미터 사용 시)
+    private int pageSize = 20;
+    // 검색어에서 사용할 최대 토큰 수 (초과분은 무시)
+    private int maxQueryTerms = 8;
+}
@@ -26,6 +26,7 @@ public class ClientApiProperties {
         private List<PathParamDefinition> pathParams;
         private RequestSchema request;
         private ResponseSchema response;
+        private PaginationSchema pagination;
     }
 
     @Data
@@ -63,6 +64,22 @@ public class ClientApiProperties {
         private String description;
     }
 
+    /**
+     * 커서(keyset) 기반 페이지네이션 계약
+     * 응답 본문 형식은 그대로 두고, 다음 페이지 커서는 응답 헤더로 전달합니다.
+     */
+    @Data
+    public static class PaginationSchema {
+        private String type;              // "cursor"
+        private String cursorParam;       // 커서 쿼리 파라미터명 (예: cursor)
+        private String limitParam;        // 페이지 크기 쿼리 파라미터명 (예: limit)
+        private Integer defaultLimit;
+        private Integer maxLimit;
+        private String nextCursorHeader;  // 다음 페이지 커서 응답 헤더 (없으면 마지막 페이지)
+        private String streamMediaType;   // Accept가 이 값이면 NDJSON 스트리밍 (예: application/x-ndjson)
+        private String itemsField;        // 목록을 담는 응답 본문 필드 (예: billings, 없으면 본문 자체가 배열)
+    }
+
     @Data
     public static class PathParamDefinition {
         private String name;
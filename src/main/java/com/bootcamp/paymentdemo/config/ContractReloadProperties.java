@@ -0,0 +1,18 @@
+package com.bootcamp.paymentdemo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * API 계약 파일 핫 리로드 설정
+ * enabled=true이면 path의 client-api-config.yml 변경을 감지해 재시작 없이 반영합니다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.contract-reload")
+public class ContractReloadProperties {
+    private boolean enabled = false;
+    private String path = "src/main/resources/client-api-config.yml";
+    private long debounceMillis = 200;
+}
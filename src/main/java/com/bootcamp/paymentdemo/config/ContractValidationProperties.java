@@ -0,0 +1,20 @@
+package com.bootcamp.paymentdemo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 측 API 계약 검증 설정
+ * - reject-invalid-requests: true면 계약 위반 요청을 400으로 거부, false면 로그만 남김
+ * - validate-responses: 응답 본문도 계약과 비교해 위반 시 로그 (응답은 거부하지 않음)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.contract-validation")
+public class ContractValidationProperties {
+    private boolean enabled = true;
+    private boolean rejectInvalidRequests = true;
+    private boolean validateResponses = false;
+    private int maxBodyBytes = 1024 * 1024;
+}
@@ -0,0 +1,28 @@
+package com.bootcamp.paymentdemo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Idempotency-Key 설정
+ * endpoints에 나열된 계약(client-api-config.yml의 키)에 Idempotency-Key 헤더가 오면
+ * 같은 키의 재요청에 저장된 응답을 그대로 돌려줍니다. 같은 키로 본문이 다른 요청이 오면 422로 거부합니다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.idempotency")
+public class IdempotencyProperties {
+    private boolean enabled = true;
+    private List<String> endpoints = List.of("create-payment", "create-billing");
+    private Duration ttl = Duration.ofHours(24);
+    private Duration waitTimeout = Duration.ofSeconds(30);
+    private int maxKeyLength = 255;
+    // 본문 해시 계산을 위해 읽는 요청 본문 최대 크기 (넘으면 413)
+    private int maxBodyBytes = 1024 * 1024;
+    // 비어 있으면 메모리에만 보관 (재시작 시 사라짐)
+    private String logPath;
+}
@@ -0,0 +1,17 @@
+package com.bootcamp.paymentdemo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Prometheus 스크레이프 계정 (GET /actuator/prometheus, HTTP Basic)
+ * password가 비어 있으면 계정을 만들지 않아 스크레이프 요청은 모두 401
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.metrics.scrape")
+public class MetricsScrapeProperties {
+    private String username = "prometheus";
+    private String password = "";
+}
@@ -0,0 +1,20 @@
+package com.bootcamp.paymentdemo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 주문 상태 머신 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.orders")
+public class OrderProperties {
+    // 주문별 직렬화에 쓰는 락 개수 (2의 거듭제곱으로 올림) - 서로 다른 주문이 같은 락을 공유할 확률을 낮춤
+    private int lockStripes = 256;
+    // 같은 주문의 다른 전이가 끝나기를 기다리는 최대 시간
+    private Duration lockTimeout = Duration.ofSeconds(5);
+}
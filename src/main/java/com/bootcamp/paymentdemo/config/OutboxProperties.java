@@ -0,0 +1,42 @@
+package com.bootcamp.paymentdemo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 결제 이벤트 아웃박스 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+    private boolean enabled = true;
+    // 세그먼트 파일 디렉터리 / 세그먼트 크기 (전달이 끝난 세그먼트는 삭제)
+    private String dir = "data/outbox";
+    private long segmentBytes = 16L * 1024 * 1024;
+
+    // true면 기록이 디스크에 내려갈 때까지(그룹 커밋) 기다린 뒤 반환
+    private boolean awaitCommit = true;
+    // 그룹 커밋 대기 상한 - 넘기면 기다리지 않고 반환 (기록은 이미 로그에 있음)
+    private Duration commitTimeout = Duration.ofSeconds(1);
+
+    // 릴레이가 한 번에 싱크로 넘기는 최대 이벤트 수
+    private int relayBatchSize = 256;
+    // 새 기록이 없을 때 릴레이가 다시 확인하는 주기 (커밋 시에는 바로 깨어남)
+    private Duration relayPollInterval = Duration.ofMillis(200);
+    // 싱크 전달 실패 시 재시도 간격 (실패할 때마다 두 배, 최대 maxRetryBackoff)
+    private Duration retryBackoff = Duration.ofMillis(500);
+    private Duration maxRetryBackoff = Duration.ofSeconds(30);
+
+    private FileSink fileSink = new FileSink();
+
+    @Data
+    public static class FileSink {
+        // 테스트/개발용 - 전달된 이벤트를 JSON Lines 파일로 기록
+        private boolean enabled = false;
+        private String path = "data/outbox-events.jsonl";
+    }
+}
@@ -0,0 +1,24 @@
+package com.bootcamp.paymentdemo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 포인트 원장 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.points")
+public class PointProperties {
+    // 첫 로그인 시 지급하는 포인트 (데모용)
+    private long initialBalance = 1000L;
+    private int stripes = 64;
+    private int initialCapacityPerStripe = 1024;
+    private String journalDir = "data/points";
+    private long segmentBytes = 64L * 1024 * 1024;
+    // 저널을 디스크로 내리는 주기
+    private Duration forceInterval = Duration.ofSeconds(1);
+}
@@ -4,6 +4,7 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.Map;
 
 @Data
@@ -13,15 +14,79 @@ public class PortOneProperties {
     private Api api;
     private Store store;
     private Map<String, String> channel;
+    private Stub stub = new Stub();
+    private Webhook webhook = new Webhook();
 
     @Data
     public static class Api {
         private String baseUrl;
         private String secret;
+
+        // PortOneClient 설정
+        private Duration connectTimeout = Duration.ofSeconds(3);
+        private Duration requestTimeout = Duration.ofSeconds(10);
+        private int maxConcurrentRequests = 64;
+        private Duration acquireTimeout = Duration.ofSeconds(2);
+        // 호출 작업(portOneExecutor, send()에서 블로킹)과 HttpClient 내부 응답 처리(portOneHttpExecutor)는 풀을 나눔
+        private int executorThreads = 64;
+        private int httpClientThreads = 4;
+        private Retry retry = new Retry();
+        private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+        // 결제 단건 조회 결과 캐시 (PaymentLookupService)
+        private Duration lookupCacheTtl = Duration.ofSeconds(2);
+        private int lookupCacheMaxEntries = 10000;
+    }
+
+    /**
+     * 재시도 설정 (멱등한 GET 요청에만 적용)
+     */
+    @Data
+    public static class Retry {
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(100);
+        private Duration maxBackoff = Duration.ofSeconds(1);
+    }
+
+    @Data
+    public static class CircuitBreaker {
+        private int failureThreshold = 5;
+        private Duration openDuration = Duration.ofSeconds(10);
     }
 
     @Data
     public static class Store {
         private String id;
     }
+
+    /**
+     * PortOne 웹훅 수신 설정
+     */
+    @Data
+    public static class Webhook {
+        // 서명 검증 키 (비우면 api.secret 사용, "whsec_" 접두사면 Base64 디코딩)
+        private String secret;
+        // webhook-timestamp 허용 오차 (재전송 공격 방지)
+        private Duration tolerance = Duration.ofMinutes(5);
+        // 워커 수 / 워커당 링 버퍼 크기 (2의 거듭제곱으로 올림)
+        private int workers = 2;
+        private int queueCapacity = 4096;
+        // 한 번에 처리할 최대 이벤트 수
+        private int batchSize = 64;
+        // PortOne 조회 실패 시 재시도
+        private int maxAttempts = 5;
+        private Duration retryBackoff = Duration.ofSeconds(2);
+    }
+
+    /**
+     * 로컬 PortOne 스텁 서버 (오프라인 개발/테스트용)
+     */
+    @Data
+    public static class Stub {
+        private boolean enabled = false;
+        private int port = 8099;
+        private Duration latency = Duration.ofMillis(50);
+        private Duration latencyJitter = Duration.ofMillis(50);
+        private double failureRate = 0.0;
+    }
 }
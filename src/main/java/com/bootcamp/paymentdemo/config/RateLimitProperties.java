@@ -0,0 +1,44 @@
+package com.bootcamp.paymentdemo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 속도 제한 (토큰 버킷) 설정
+ * endpoints의 키는 client-api-config.yml의 계약 이름입니다.
+ * 계약 url이 아직 비어 있는 엔드포인트는 path("POST /api/auth/login" 형식)로 대신 매칭합니다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    // 엔드포인트/차원(IP, 이메일)별 버킷 테이블 슬롯 수 (2의 거듭제곱으로 올림) - 키가 아무리 많아도 메모리는 고정
+    private int tableSlots = 16384;
+    // 이메일을 꺼내기 위해 읽는 요청 본문 최대 크기
+    private int maxBodyBytes = 16384;
+    private Map<String, EndpointLimit> endpoints = new LinkedHashMap<>();
+
+    @Data
+    public static class EndpointLimit {
+        // 계약 url이 비어 있을 때 사용할 "METHOD /path"
+        private String path;
+        // 클라이언트 IP 기준 버킷 (없으면 미적용)
+        private Bucket ip;
+        // 계정 기준 버킷 - 요청 본문의 email, 없으면 Bearer 토큰 기준 (없으면 미적용)
+        private Bucket email;
+    }
+
+    @Data
+    public static class Bucket {
+        // 연속으로 허용하는 최대 요청 수 (최대 65535)
+        private int capacity = 10;
+        // 토큰 1개가 다시 채워지는 간격
+        private Duration refillPeriod = Duration.ofSeconds(6);
+    }
+}
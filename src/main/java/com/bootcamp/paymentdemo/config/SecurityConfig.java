@@ -1,10 +1,16 @@
 package com.bootcamp.paymentdemo.config;
 
+import com.bootcamp.paymentdemo.ratelimit.RateLimitFilter;
 import com.bootcamp.paymentdemo.security.JwtAuthenticationFilter;
+import com.bootcamp.paymentdemo.user.BoundedPasswordEncoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -12,13 +18,15 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.security.config.Customizer.withDefaults;
 import static org.springframework.boot.security.autoconfigure.web.servlet.PathRequest.toStaticResources;
 
 /**
@@ -34,12 +42,49 @@ import static org.springframework.boot.security.autoconfigure.web.servlet.PathRe
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, RateLimitFilter rateLimitFilter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.rateLimitFilter = rateLimitFilter;
     }
 
+    /**
+     * Prometheus 스크레이프 전용 체인 - JWT 대신 app.metrics.scrape 계정으로 HTTP Basic 인증
+     * (스크레이퍼는 만료되는 액세스 토큰을 갱신할 수 없으므로 고정 계정 사용)
+     */
     @Bean
+    @Order(1)
+    public SecurityFilterChain metricsFilterChain(
+        HttpSecurity http,
+        MetricsScrapeProperties scrapeProperties,
+        BoundedPasswordEncoder passwordEncoder
+    ) throws Exception {
+        List<UserDetails> users = new ArrayList<>();
+        if (scrapeProperties.getPassword() != null && !scrapeProperties.getPassword().isBlank()) {
+            users.add(User.withUsername(scrapeProperties.getUsername())
+                .password(passwordEncoder.encode(scrapeProperties.getPassword()))
+                .roles("METRICS")
+                .build());
+        }
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(new InMemoryUserDetailsManager(users));
+        provider.setPasswordEncoder(passwordEncoder);
+
+        http
+            .securityMatcher("/actuator/prometheus")
+            .csrf(AbstractHttpConfigurer::disable)
+            .sessionManagement(session -> session
+                .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+            )
+            .authenticationManager(new ProviderManager(provider))
+            .authorizeHttpRequests(authorize -> authorize.anyRequest().hasRole("METRICS"))
+            .httpBasic(withDefaults());
+
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
             // CSRF 비활성화 (JWT 사용 시 불필요)
@@ -62,8 +107,14 @@ public class SecurityConfig {
                     // 3) 공개 API
                     .requestMatchers(HttpMethod.GET, "/api/public/**").permitAll()
 
+                    // 3-1) 헬스 체크 (Prometheus 스크레이프는 metricsFilterChain, 그 외 actuator는 인증 필요)
+                    .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+
                     // 4) 인증 API
-                    .requestMatchers(HttpMethod.POST, "/api/auth/login", "/api/auth/register").permitAll()
+                    .requestMatchers(HttpMethod.POST, "/api/auth/login", "/api/auth/register", "/api/auth/refresh").permitAll()
+
+                    // 4-1) PortOne 웹훅 (JWT 대신 webhook-signature로 검증)
+                    .requestMatchers(HttpMethod.POST, "/api/webhooks/portone").permitAll()
 
                     // 5) 그 외 API는 인증 필요
                     .requestMatchers("/api/**").authenticated()
@@ -72,32 +123,28 @@ public class SecurityConfig {
                     .anyRequest().authenticated()
             )
 
+            // 인증 실패 시 403 대신 401 - 클라이언트가 토큰 재발급(/api/auth/refresh)을 시도하는 기준
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+            )
+
             // JWT 필터 추가
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+
+            // 속도 제한은 토큰 검증 / BCrypt보다 먼저
+            .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
 
     /**
      * PasswordEncoder Bean
+     * BCrypt를 전용 스레드 풀에서 실행 (cost / 스레드 수는 app.users 설정)
+     * UserDetailsService는 파일 기반 UserDirectory(@Component)가 담당합니다.
      */
-    @Bean
-    public static PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
-    /**
-     * Admin 계정 (InMemory - 데모용)
-     */
-    @Bean
-    public UserDetailsService userDetailsService(PasswordEncoder passwordEncoder) {
-        UserDetails admin = User.builder()
-            .username("admin@test.com")
-            .password(passwordEncoder.encode("admin"))
-            .roles("USER", "ADMIN")
-            .build();
-
-        return new InMemoryUserDetailsManager(admin);
+    @Bean(destroyMethod = "shutdown")
+    public static BoundedPasswordEncoder passwordEncoder(UserDirectoryProperties userDirectoryProperties) {
+        return new BoundedPasswordEncoder(userDirectoryProperties);
     }
 
     @Bean
@@ -0,0 +1,59 @@
+package com.bootcamp.paymentdemo.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+/**
+ * 정적 리소스 캐시 버스팅 설정 (app.static-assets.fingerprint=true)
+ * - 빌드 단계(build.gradle의 buildStaticAssets)에서 JS/CSS minify + .gz/.br 사전 압축
+ * - 실행 시 내용 MD5로 버전 URL 생성 (/js/app-config.js → /js/app-config-{md5}.js), 결과는 resource chain 캐시에 보관
+ * - 템플릿의 th:src / th:href="@{...}"는 ResourceUrlEncodingFilter가 버전 URL로 바꿔서 렌더링
+ * - Accept-Encoding에 따라 .br / .gz 파일을 그대로 내려줌 (요청마다 압축하지 않음)
+ * 내용이 바뀌면 URL이 바뀌므로 1년 immutable 캐시를 걸어도 안전합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.static-assets", name = "fingerprint", havingValue = "true")
+public class StaticAssetConfig implements WebMvcConfigurer {
+
+    private final StaticAssetProperties properties;
+
+    public StaticAssetConfig(StaticAssetProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        CacheControl immutable = CacheControl.maxAge(properties.getMaxAge())
+            .cachePublic()
+            .immutable();
+
+        addVersionedHandler(registry, "/js/**", "classpath:/static/js/", immutable);
+        addVersionedHandler(registry, "/css/**", "classpath:/static/css/", immutable);
+    }
+
+    /**
+     * 템플릿 렌더링 시 리소스 URL을 버전 URL로 변환
+     */
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+
+    private static void addVersionedHandler(
+        ResourceHandlerRegistry registry, String pattern, String location, CacheControl cacheControl
+    ) {
+        registry.addResourceHandler(pattern)
+            .addResourceLocations(location)
+            .setCacheControl(cacheControl)
+            .resourceChain(true)
+            .addResolver(new EncodedResourceResolver())
+            .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+}
@@ -0,0 +1,20 @@
+package com.bootcamp.paymentdemo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 정적 리소스(JS/CSS) 캐시 설정 - 운영 프로필(application-prod.yml)에서 활성화
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.static-assets")
+public class StaticAssetProperties {
+    // 내용 해시 기반 URL(/js/app-config-{md5}.js) + immutable 캐시 헤더 사용 여부
+    private boolean fingerprint = false;
+    // 해시가 붙은 리소스의 Cache-Control max-age
+    private Duration maxAge = Duration.ofDays(365);
+}
@@ -0,0 +1,27 @@
+package com.bootcamp.paymentdemo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 구독 읽기 모델 / 저장소 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.subscriptions")
+public class SubscriptionProperties {
+    // 파일 저장소 경로 (JSON Lines, 데모용)
+    private String storePath = "data/subscriptions.jsonl";
+    private String historyPath = "data/billing-history.jsonl";
+
+    // 캐시 최대 항목 수 (구독 / 구독별 청구 내역)
+    private int cacheMaximumSize = 10000;
+    private int historyCacheMaximumSize = 2000;
+
+    // 청구 내역 쓰기 지연(write-behind) - 모아서 한 번에 저장
+    private Duration writeBehindInterval = Duration.ofSeconds(1);
+    private int writeBehindBatchSize = 500;
+}
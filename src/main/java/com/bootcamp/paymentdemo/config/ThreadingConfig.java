@@ -0,0 +1,67 @@
+package com.bootcamp.paymentdemo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실행 스레드 설정
+ * spring.threads.virtual.enabled=true이면 Tomcat 요청 처리(Spring Boot 자동 설정)와
+ * PortOne 외부 호출(portOneExecutor)을 모두 가상 스레드에서 실행합니다.
+ *
+ * 가상 스레드 점검 사항
+ * - SecurityContextHolder 기본 전략(ThreadLocal)은 가상 스레드별로 분리되어 그대로 동작
+ * - JwtAuthenticationFilter / JwtTokenCache 경로에는 I/O를 감싼 synchronized 블록이 없어 pinning 없음
+ * - 외부 호출 코드에서는 synchronized 대신 ReentrantLock / Semaphore 사용
+ */
+@Configuration
+public class ThreadingConfig {
+
+    /**
+     * PortOne API 호출 전용 Executor (정기 결제, 웹훅 조회, 일괄 결제 작업)
+     * 작업은 HttpClient.send()에서 블로킹되므로 HttpClient 자체의 executor로 쓰지 않습니다.
+     * 가상 스레드 모드가 아니면 크기가 고정된 플랫폼 스레드 풀을 사용하며,
+     * 기본 크기는 max-concurrent-requests와 같아 작업만으로 동시 호출 한도를 채울 수 있습니다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService portOneExecutor(
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+        @Value("${portone.api.executor-threads:64}") int platformThreads
+    ) {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("portone-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(platformThreads, namedDaemonThreads("portone-"));
+    }
+
+    /**
+     * PortOneClient의 HttpClient 전용 Executor (응답 수신 / 본문 처리 등 비동기 단계)
+     * 호출 작업과 같은 풀을 쓰면, 작업이 풀을 모두 차지하고 send()에서 기다리는 동안
+     * 응답을 완료할 스레드가 남지 않아 모든 호출이 request-timeout까지 멈춥니다.
+     * 여기서 실행되는 작업은 블로킹하지 않으므로 작은 풀로 충분합니다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService portOneHttpExecutor(
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+        @Value("${portone.api.http-client-threads:4}") int platformThreads
+    ) {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("portone-http-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(platformThreads, namedDaemonThreads("portone-http-"));
+    }
+
+    private static ThreadFactory namedDaemonThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.bootcamp.paymentdemo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 사용자 저장소 / 비밀번호 검증 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.users")
+public class UserDirectoryProperties {
+    // 사용자 레코드 파일 (JSON Lines)
+    private String storePath = "data/users.jsonl";
+    // 저장소가 비어 있으면 admin@test.com / admin 계정 생성 (데모용)
+    private boolean seedAdmin = true;
+
+    // BCrypt cost (2^strength 라운드)
+    private int bcryptStrength = 10;
+    // BCrypt 전용 스레드 수 / 대기열 크기 - 로그인 폭주 시 요청 스레드를 점유하지 않도록 제한
+    private int hashingThreads = Runtime.getRuntime().availableProcessors();
+    private int hashingQueueCapacity = 256;
+    private Duration hashingTimeout = Duration.ofSeconds(5);
+}
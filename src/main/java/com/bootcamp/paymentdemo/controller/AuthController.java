@@ -1,10 +1,23 @@
 package com.bootcamp.paymentdemo.controller;
 
+import com.bootcamp.paymentdemo.audit.AuditLog;
+import com.bootcamp.paymentdemo.audit.AuditReason;
+import com.bootcamp.paymentdemo.audit.AuditType;
+import com.bootcamp.paymentdemo.points.PointLedger;
+import io.jsonwebtoken.JwtException;
+import com.bootcamp.paymentdemo.security.JwtPrincipal;
 import com.bootcamp.paymentdemo.security.JwtTokenProvider;
+import com.bootcamp.paymentdemo.security.RefreshTokenService;
+import com.bootcamp.paymentdemo.security.RefreshTokenService.TokenPair;
+import com.bootcamp.paymentdemo.user.DuplicateEmailException;
+import com.bootcamp.paymentdemo.user.UserDirectory;
+import com.bootcamp.paymentdemo.user.UserRecord;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -13,6 +26,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.security.Principal;
 import java.util.HashMap;
 import java.util.Map;
@@ -28,6 +42,10 @@ public class AuthController {
 
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final PointLedger pointLedger;
+    private final UserDirectory userDirectory;
+    private final AuditLog auditLog;
 
     /**
      * 로그인 API
@@ -45,11 +63,13 @@ public class AuthController {
      * 응답 본문:
      * {
      *   "success": true,
-     *   "email": "user@example.com"
+     *   "email": "user@example.com",
+     *   "refreshToken": "eyJhbGc..."
      * }
      */
     @PostMapping("/login")
-    public ResponseEntity<Map<String, Object>> login(@RequestBody Map<String, String> request) {
+    public ResponseEntity<Map<String, Object>> login(@RequestBody Map<String, String> request,
+                                                     HttpServletRequest httpRequest) {
         String email = request.get("email");
         String password = request.get("password");
 
@@ -57,29 +77,171 @@ public class AuthController {
 
         try {
             // 1. 인증 시도
-            authenticationManager.authenticate(
+            Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(email, password)
             );
+            // 저장소에 정규화된 이메일(소문자) 기준으로 토큰 발급
+            email = authentication.getName();
+
+            // 2. JWT 토큰 생성 (Access + Refresh)
+            TokenPair tokens = refreshTokenService.issue(email);
+
+            // 포인트 계좌 개설 (이미 있으면 무시)
+            UserRecord user = userDirectory.findByEmail(email);
+            if (user != null) {
+                pointLedger.openAccount(user.userId());
+            }
 
-            // 2. JWT 토큰 생성
-            String token = jwtTokenProvider.createToken(email);
+            auditLog.record(AuditType.LOGIN_SUCCESS, AuditReason.NONE, httpRequest.getRemoteAddr(), email, null);
 
             // 3. 응답
             response.put("success", true);
             response.put("email", email);
+            response.put("refreshToken", tokens.refreshToken());
 
             return ResponseEntity.ok()
-                .header("Authorization", "Bearer " + token)
+                .header("Authorization", "Bearer " + tokens.accessToken())
                 .body(response);
 
+        } catch (AuthenticationServiceException e) {
+            // 비밀번호 검증 풀 포화 / 시간 초과 - 자격 증명 문제가 아니므로 503
+            auditLog.record(AuditType.LOGIN_FAILURE, AuditReason.OVERLOADED, httpRequest.getRemoteAddr(), email, null);
+            response.put("success", false);
+            response.put("message", "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+
         } catch (AuthenticationException e) {
             // 인증 실패
+            auditLog.record(AuditType.LOGIN_FAILURE, AuditReason.BAD_CREDENTIALS, httpRequest.getRemoteAddr(), email, null);
             response.put("success", false);
             response.put("message", "이메일 또는 비밀번호가 올바르지 않습니다.");
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
         }
     }
 
+    /**
+     * 토큰 재발급 API
+     * POST /api/auth/refresh
+     *
+     * 요청 본문:
+     * {
+     *   "refreshToken": "eyJhbGc..."
+     * }
+     *
+     * 응답 헤더:
+     * Authorization: Bearer eyJhbGc... (새 Access Token)
+     *
+     * 응답 본문:
+     * {
+     *   "success": true,
+     *   "refreshToken": "eyJhbGc..." (새 Refresh Token - 이전 토큰은 더 이상 사용 불가)
+     * }
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<Map<String, Object>> refresh(@RequestBody Map<String, String> request,
+                                                       HttpServletRequest httpRequest) {
+        String refreshToken = request.get("refreshToken");
+
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            if (refreshToken == null || refreshToken.isBlank()) {
+                throw new JwtException("Missing refresh token");
+            }
+            TokenPair tokens = refreshTokenService.rotate(refreshToken);
+            auditLog.record(AuditType.TOKEN_REFRESHED, AuditReason.NONE, httpRequest.getRemoteAddr(), null, null);
+
+            response.put("success", true);
+            response.put("refreshToken", tokens.refreshToken());
+
+            return ResponseEntity.ok()
+                .header("Authorization", "Bearer " + tokens.accessToken())
+                .body(response);
+
+        } catch (JwtException | IllegalArgumentException e) {
+            auditLog.record(AuditType.TOKEN_REJECTED, AuditReason.OTHER, httpRequest.getRemoteAddr(), null,
+                httpRequest.getRequestURI());
+            response.put("success", false);
+            response.put("message", "다시 로그인해주세요.");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        }
+    }
+
+    /**
+     * 로그아웃 API
+     * POST /api/auth/logout
+     *
+     * 현재 Access Token이 속한 로그인 세션의 Access / Refresh Token을 모두 폐기합니다.
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Map<String, Object>> logout(@RequestHeader("Authorization") String authorization,
+                                                      HttpServletRequest httpRequest) {
+        String token = authorization.startsWith("Bearer ") ? authorization.substring(7) : authorization;
+        try {
+            JwtPrincipal principal = jwtTokenProvider.parseAndVerify(token);
+            refreshTokenService.revokeSession(principal.getFamilyId());
+            auditLog.record(AuditType.LOGOUT, AuditReason.NONE, httpRequest.getRemoteAddr(), principal.getEmail(), null);
+        } catch (JwtException e) {
+            // 그 사이 만료/폐기된 토큰 - 이미 사용할 수 없으므로 그대로 성공 처리
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 회원가입 API
+     * POST /api/auth/register
+     *
+     * 요청 본문:
+     * {
+     *   "name": "홍길동",
+     *   "email": "user@example.com",
+     *   "password": "password123",
+     *   "phone": "010-1234-5678"
+     * }
+     *
+     * 응답 본문:
+     * {
+     *   "success": true,
+     *   "message": "회원가입이 완료되었습니다."
+     * }
+     */
+    @PostMapping("/register")
+    public ResponseEntity<Map<String, Object>> register(@RequestBody Map<String, String> request) throws IOException {
+        String name = request.get("name");
+        String email = request.get("email");
+        String password = request.get("password");
+        String phone = request.get("phone");
+
+        Map<String, Object> response = new HashMap<>();
+
+        if (isBlank(name) || isBlank(email) || isBlank(password) || isBlank(phone)) {
+            response.put("success", false);
+            response.put("message", "이름, 이메일, 비밀번호, 전화번호는 필수입니다.");
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        try {
+            userDirectory.register(name.trim(), email, password, phone.trim());
+
+            response.put("success", true);
+            response.put("message", "회원가입이 완료되었습니다.");
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+
+        } catch (DuplicateEmailException e) {
+            response.put("success", false);
+            response.put("message", "이미 가입된 이메일입니다.");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+
+        } catch (AuthenticationServiceException e) {
+            response.put("success", false);
+            response.put("message", "요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+        }
+    }
+
     /**
      * 현재 로그인한 사용자 정보 조회 API
      * GET /api/auth/me
@@ -99,18 +261,27 @@ public class AuthController {
 
         String email = principal.getName();
 
-        // TODO: 구현
-        // 데이터베이스에서 사용자 정보 조회
-        // customerUid 생성은 조회 한 사용자 정보로 조합하여 생성, 추천 조합 : CUST_{userId}_{rand6:난수}
-        // 임시 구현
         Map<String, Object> response = new HashMap<>();
+
+        // customerUid는 가입 시 CUST_{userId}_{rand6} 형태로 생성되어 저장됨
+        UserRecord user = userDirectory.findByEmail(email);
+        if (user == null) {
+            response.put("success", false);
+            response.put("message", "사용자를 찾을 수 없습니다.");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+
         response.put("success", true);
-        response.put("email", email);
-        response.put("customerUid", "CUST_" + Math.abs(email.hashCode()));  // PortOne 고객 UID
-        response.put("name", email.split("@")[0]);  // 이메일에서 이름 추출
-        response.put("phone", "010-0000-0000");  // Kg 이니시스 전화번호 필수
-        response.put("pointBalance", 1000L);  // 포인트 잔액
+        response.put("email", user.email());
+        response.put("customerUid", user.customerUid());  // PortOne 고객 UID
+        response.put("name", user.name());
+        response.put("phone", user.phone());  // Kg 이니시스 전화번호 필수
+        response.put("pointBalance", pointLedger.getBalance(user.userId()));  // 포인트 잔액
 
         return ResponseEntity.ok(response);
     }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
 }
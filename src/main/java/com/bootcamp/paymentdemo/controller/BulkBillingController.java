@@ -0,0 +1,95 @@
+package com.bootcamp.paymentdemo.controller;
+
+import com.bootcamp.paymentdemo.billing.BulkChargeItem;
+import com.bootcamp.paymentdemo.billing.BulkChargeResult;
+import com.bootcamp.paymentdemo.billing.BulkChargeService;
+import com.bootcamp.paymentdemo.billing.BulkChargeSummary;
+import com.bootcamp.paymentdemo.pagination.PagedResponses;
+import com.bootcamp.paymentdemo.user.UserDirectory;
+import com.bootcamp.paymentdemo.user.UserRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/billings")
+@RequiredArgsConstructor
+public class BulkBillingController {
+
+    private final BulkChargeService bulkChargeService;
+    private final UserDirectory userDirectory;
+    private final JsonMapper jsonMapper;
+
+    public record BulkChargeRequest(List<BulkChargeItem> items) {
+    }
+
+    /**
+     * POST /api/billings/bulk (관리자 전용)
+     * 요청: { items: [{ paymentId, billingKey, customerUid, amount, orderName? }] }
+     *
+     * 응답: application/x-ndjson, 결제가 끝나는 순서대로 한 줄씩
+     * - { index, paymentId, status, retryable, errorCode?, message? } (status: PAID / ALREADY_PAID / FAILED / REJECTED)
+     * - 마지막 줄 { summary: { total, paid, alreadyPaid, failed, rejected, retryable } }
+     *
+     * 요청 자체가 잘못된 경우(비어 있음, 최대 건수 초과)만 스트리밍 전에 400으로 거절하고,
+     * 그 외에는 항상 200으로 시작해 건별 결과로 성공/실패를 알립니다.
+     * summary 줄 없이 끝났다면 결과를 받지 못한 건을 같은 paymentId로 다시 보내면 됩니다.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<?> bulkCharge(@RequestBody BulkChargeRequest request, Principal principal) {
+        UserRecord user = principal == null ? null : userDirectory.findByEmail(principal.getName());
+        if (user == null || !user.roles().contains("ADMIN")) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Map.of("success", false, "message", "관리자만 일괄 결제를 요청할 수 있습니다."));
+        }
+
+        List<BulkChargeItem> items = request == null ? null : request.items();
+        if (items == null || items.isEmpty()) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("success", false, "message", "items가 비어 있습니다."));
+        }
+        if (items.size() > bulkChargeService.getMaxItems()) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("success", false,
+                    "message", "한 번에 최대 " + bulkChargeService.getMaxItems() + "건까지 요청할 수 있습니다."));
+        }
+
+        ObjectWriter writer = jsonMapper.writer();
+        StreamingResponseBody body = out -> {
+            BulkChargeSummary summary = bulkChargeService.charge(items, new NdjsonResultWriter(writer, out));
+            out.write(writer.writeValueAsBytes(Map.of("summary", summary)));
+            out.write('\n');
+            out.flush();
+        };
+        return ResponseEntity.ok()
+            .contentType(PagedResponses.NDJSON)
+            .body(body);
+    }
+
+    private record NdjsonResultWriter(ObjectWriter writer, OutputStream out) implements BulkChargeService.ResultWriter {
+
+        @Override
+        public void write(BulkChargeResult result) throws IOException {
+            out.write(writer.writeValueAsBytes(result));
+            out.write('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+    }
+}
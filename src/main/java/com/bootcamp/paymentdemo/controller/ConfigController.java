@@ -1,23 +1,37 @@
 package com.bootcamp.paymentdemo.controller;
 
-import com.bootcamp.paymentdemo.config.AppProperties;
-import com.bootcamp.paymentdemo.config.ClientApiProperties;
-import com.bootcamp.paymentdemo.config.PortOneProperties;
-import com.bootcamp.paymentdemo.dto.PublicConfigResponse;
-import lombok.RequiredArgsConstructor;
+import com.bootcamp.paymentdemo.service.PublicConfigService;
+import com.bootcamp.paymentdemo.service.PublicConfigSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.TimeUnit;
+
 @RestController
 @RequestMapping("/api/public")
-@RequiredArgsConstructor
 public class ConfigController {
 
-    private final PortOneProperties portOneProperties;
-    private final ClientApiProperties clientApiProperties;
-    private final AppProperties appProperties;
+    private final PublicConfigService publicConfigService;
+    // config.serve (result=ok|not_modified, encoding=gzip|identity)
+    private final Timer okGzipTimer;
+    private final Timer okIdentityTimer;
+    private final Timer notModifiedTimer;
+
+    public ConfigController(PublicConfigService publicConfigService, MeterRegistry meterRegistry) {
+        this.publicConfigService = publicConfigService;
+        this.okGzipTimer = serveTimer(meterRegistry, "ok", "gzip");
+        this.okIdentityTimer = serveTimer(meterRegistry, "ok", "identity");
+        this.notModifiedTimer = serveTimer(meterRegistry, "not_modified", "none");
+    }
 
     /**
      * GET /api/public/config
@@ -25,25 +39,94 @@ public class ConfigController {
      * - PortOne 채널 정보
      * - 클라이언트 API 계약 정보 (URL, 요청/응답 스키마)
      * - UI 브랜딩 정보
+     *
+     * 미리 직렬화된 응답을 그대로 내려주며, If-None-Match가 일치하면 304를 반환합니다.
      */
     @GetMapping("/config")
-    public ResponseEntity<PublicConfigResponse> getPublicConfig() {
-        PublicConfigResponse response = PublicConfigResponse.builder()
-            .portone(PublicConfigResponse.PortOneConfig.builder()
-                .storeId(portOneProperties.getStore().getId())
-                .channelKeys(portOneProperties.getChannel())
-                .build())
-            .api(PublicConfigResponse.ClientApiConfig.builder()
-                .baseUrl(clientApiProperties.getBaseUrl())
-                .endpoints(clientApiProperties.getEndpoints())
-                .build())
-            .branding(PublicConfigResponse.BrandingConfig.builder()
-                .appName(appProperties.getAppName())
-                .tagline(appProperties.getTagline())
-                .logoText(appProperties.getLogoText())
-                .build())
-            .build();
-
-        return ResponseEntity.ok(response);
+    public ResponseEntity<byte[]> getPublicConfig(
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        long start = System.nanoTime();
+        PublicConfigSnapshot snapshot = publicConfigService.getSnapshot();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = gzip ? snapshot.getGzipEtag() : snapshot.getEtag();
+        boolean notModified = snapshot.matches(ifNoneMatch);
+
+        // 브라우저는 매번 재검증하되, 변경이 없으면 본문 없이 304
+        ResponseEntity.BodyBuilder builder = ResponseEntity
+            .status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+            .eTag(etag)
+            .cacheControl(CacheControl.noCache())
+            .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (notModified) {
+            ResponseEntity<byte[]> response = builder.build();
+            notModifiedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return response;
+        }
+
+        if (gzip) {
+            ResponseEntity<byte[]> response = builder
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(snapshot.getGzipBody());
+            okGzipTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return response;
+        }
+
+        ResponseEntity<byte[]> response = builder
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(snapshot.getBody());
+        okIdentityTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return response;
+    }
+
+    /**
+     * Accept-Encoding이 gzip을 허용하는지 (q=0은 거부)
+     * gzip이 명시되면 그 q값을 따르고, 없으면 "*"의 q값을 따릅니다.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double gzipQuality = -1;
+        double wildcardQuality = -1;
+        for (String part : acceptEncoding.split(",")) {
+            int semicolon = part.indexOf(';');
+            String coding = (semicolon < 0 ? part : part.substring(0, semicolon)).trim();
+            double quality = semicolon < 0 ? 1.0 : quality(part.substring(semicolon + 1));
+            if (coding.equalsIgnoreCase("gzip") || coding.equalsIgnoreCase("x-gzip")) {
+                gzipQuality = Math.max(gzipQuality, quality);
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        return gzipQuality >= 0 ? gzipQuality > 0 : wildcardQuality > 0;
+    }
+
+    /**
+     * ";q=0.5" 형식의 파라미터에서 q값, 없거나 잘못된 값이면 1 / 0
+     */
+    private static double quality(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.length() > 2 && (trimmed.charAt(0) == 'q' || trimmed.charAt(0) == 'Q') && trimmed.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(trimmed.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1.0;
+    }
+
+    private static Timer serveTimer(MeterRegistry registry, String result, String encoding) {
+        return Timer.builder("config.serve")
+            .description("공개 설정 응답 생성 시간 (직렬화 캐시 조회 + 헤더 구성)")
+            .tag("result", result)
+            .tag("encoding", encoding)
+            .register(registry);
     }
 }
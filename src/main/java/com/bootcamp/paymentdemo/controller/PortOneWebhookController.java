@@ -0,0 +1,89 @@
+package com.bootcamp.paymentdemo.controller;
+
+import com.bootcamp.paymentdemo.webhook.WebhookDispatcher;
+import com.bootcamp.paymentdemo.webhook.WebhookEvent;
+import com.bootcamp.paymentdemo.webhook.WebhookSignatureVerifier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Map;
+
+/**
+ * PortOne 웹훅 수신 API
+ * 브라우저가 confirm-payment를 호출하지 못하고 닫혀도(탭 종료 등) 결제 상태가 반영되도록
+ * PortOne이 보내는 결제 상태 변경 알림을 받습니다.
+ *
+ * 서명만 확인하고 바로 응답하며, 실제 처리(PortOne 재조회 + 주문 반영)는 WebhookDispatcher 워커가 배치로 수행합니다.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/webhooks")
+public class PortOneWebhookController {
+
+    private final WebhookSignatureVerifier signatureVerifier;
+    private final WebhookDispatcher webhookDispatcher;
+    private final JsonMapper jsonMapper;
+
+    /**
+     * POST /api/webhooks/portone
+     *
+     * 요청 헤더: webhook-id, webhook-timestamp, webhook-signature
+     * 요청 본문 예:
+     * {
+     *   "type": "Transaction.Paid",
+     *   "timestamp": "2024-04-25T10:00:00.000Z",
+     *   "data": { "paymentId": "PAY-123", "storeId": "store-...", "transactionId": "..." }
+     * }
+     *
+     * 응답: 200 접수 / 400 형식 오류 / 401 서명 오류 / 503 처리 대기열 포화 (PortOne이 재전송)
+     */
+    @PostMapping("/portone")
+    public ResponseEntity<Map<String, Object>> receive(
+        @RequestHeader(value = "webhook-id", required = false) String webhookId,
+        @RequestHeader(value = "webhook-timestamp", required = false) String timestamp,
+        @RequestHeader(value = "webhook-signature", required = false) String signature,
+        @RequestBody byte[] body
+    ) {
+        if (!signatureVerifier.verify(webhookId, timestamp, signature, body)) {
+            log.warn("웹훅 서명 검증 실패: webhook-id={}", webhookId);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(Map.of("success", false, "message", "서명이 올바르지 않습니다."));
+        }
+
+        String type;
+        String paymentId;
+        try {
+            JsonNode root = jsonMapper.readTree(body);
+            type = root.path("type").asString();
+            paymentId = root.path("data").path("paymentId").asString();
+        } catch (JacksonException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("success", false, "message", "본문 형식이 올바르지 않습니다."));
+        }
+
+        // 결제와 무관한 이벤트(빌링키 발급 등)는 접수만 하고 무시
+        if (paymentId.isEmpty()) {
+            return ResponseEntity.ok(Map.of("success", true));
+        }
+
+        WebhookEvent event = new WebhookEvent(webhookId, type, paymentId, System.currentTimeMillis(), 0);
+        if (!webhookDispatcher.submit(event)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("success", false, "message", "처리 대기열이 가득 찼습니다."));
+        }
+        return ResponseEntity.ok(Map.of("success", true));
+    }
+}
@@ -0,0 +1,71 @@
+package com.bootcamp.paymentdemo.controller;
+
+import com.bootcamp.paymentdemo.catalog.CatalogView;
+import com.bootcamp.paymentdemo.catalog.ProductCatalog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/api/products")
+@RequiredArgsConstructor
+public class ProductController {
+
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    private final ProductCatalog productCatalog;
+
+    /**
+     * GET /api/products
+     * 상품 목록 조회 (list-products) - 응답 형식: [{ id, name, price, stock, category }]
+     * - category: 카테고리 필터
+     * - q: 상품명/카테고리/키워드 검색 (토큰 AND, 접두사 매칭)
+     * - page: 0부터 시작하는 페이지 번호 (생략 시 전체, 페이지 크기는 app.catalog.page-size)
+     *
+     * 검색이 아니면 카탈로그 스냅샷에 미리 직렬화된 응답을 그대로 내려주며, If-None-Match가 일치하면 304를 반환합니다.
+     */
+    @GetMapping
+    public ResponseEntity<byte[]> listProducts(
+        @RequestParam(required = false) String category,
+        @RequestParam(required = false) String q,
+        @RequestParam(required = false) Integer page,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        if (page != null && page < 0) {
+            return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body("{\"success\":false,\"message\":\"page는 0 이상이어야 합니다.\"}".getBytes(StandardCharsets.UTF_8));
+        }
+
+        String categoryFilter = category == null || category.isBlank() ? null : category;
+        CatalogView view = q == null || q.isBlank()
+            ? productCatalog.list(categoryFilter, page)
+            : productCatalog.search(q, categoryFilter, page);
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .header(TOTAL_COUNT_HEADER, Integer.toString(view.totalCount()));
+        if (view.etag() != null) {
+            if (view.matches(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(view.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+            }
+            builder.eTag(view.etag());
+        }
+        return builder
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(view.body());
+    }
+}
@@ -0,0 +1,173 @@
+package com.bootcamp.paymentdemo.idempotency;
+
+import com.bootcamp.paymentdemo.config.IdempotencyProperties;
+import com.bootcamp.paymentdemo.validation.CachedBodyHttpServletRequest;
+import com.bootcamp.paymentdemo.validation.CompiledContract;
+import com.bootcamp.paymentdemo.validation.ContractValidator;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.util.Base64;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 필터
+ * 설정된 엔드포인트(기본: create-payment, create-billing)에 Idempotency-Key 헤더가 있으면
+ * - 처음 보는 키: 요청을 처리하고 응답을 저장
+ * - 처리 중인 키: 첫 요청이 끝날 때까지 기다렸다가 같은 응답 반환
+ * - 완료된 키: 결제 로직을 거치지 않고 저장된 응답 반환 (Idempotent-Replayed: true)
+ * - 같은 키에 본문이 다른 요청: 422 (첫 요청 본문의 SHA-256을 키와 함께 저장해 비교)
+ * 키는 사용자별로 구분됩니다.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final IdempotencyStore idempotencyStore;
+    private final IdempotencyProperties properties;
+    private final ContractValidator contractValidator;
+
+    public IdempotencyFilter(
+        IdempotencyStore idempotencyStore,
+        IdempotencyProperties properties,
+        ContractValidator contractValidator
+    ) {
+        this.idempotencyStore = idempotencyStore;
+        this.properties = properties;
+        this.contractValidator = contractValidator;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        CompiledContract contract = contractValidator.find(request.getMethod(), path);
+        if (contract == null || !properties.getEndpoints().contains(contract.getEndpointName())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > properties.getMaxKeyLength()) {
+            writeError(response, HttpStatus.BAD_REQUEST, "Idempotency-Key 형식이 올바르지 않습니다.");
+            return;
+        }
+
+        Principal principal = request.getUserPrincipal();
+        String key = contract.getEndpointName() + '|' + (principal != null ? principal.getName() : "")
+            + '|' + path + '|' + idempotencyKey;
+
+        // 계약 검증 필터가 먼저 본문을 읽었으면 그 본문을 쓰고, 아니면 여기서 읽어 다시 읽을 수 있게 감쌈
+        CachedBodyHttpServletRequest cachedRequest =
+            WebUtils.getNativeRequest(request, CachedBodyHttpServletRequest.class);
+        if (cachedRequest == null) {
+            byte[] body = request.getInputStream().readNBytes(properties.getMaxBodyBytes() + 1);
+            if (body.length > properties.getMaxBodyBytes()) {
+                writeError(response, HttpStatus.CONTENT_TOO_LARGE, "요청 본문이 너무 큽니다.");
+                return;
+            }
+            cachedRequest = new CachedBodyHttpServletRequest(request, body);
+            request = cachedRequest;
+        }
+        String requestHash = sha256(cachedRequest.getBody());
+
+        while (true) {
+            IdempotencyStore.Claim claim = idempotencyStore.claim(key, requestHash);
+            if (claim.owner()) {
+                process(request, response, filterChain, key, claim);
+                return;
+            }
+            if (!claim.matches(requestHash)) {
+                writeError(response, HttpStatus.UNPROCESSABLE_CONTENT,
+                    "같은 Idempotency-Key로 다른 요청 본문이 전송되었습니다.");
+                return;
+            }
+
+            StoredResponse stored;
+            try {
+                stored = claim.await(properties.getWaitTimeout().toMillis());
+            } catch (TimeoutException e) {
+                writeError(response, HttpStatus.CONFLICT, "같은 Idempotency-Key 요청이 아직 처리 중입니다.");
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException("Idempotency 대기 중단", e);
+            }
+
+            // null이면 첫 요청이 예외로 끝나 키가 풀린 것 → 다시 선점 시도
+            if (stored != null) {
+                replay(response, stored);
+                return;
+            }
+        }
+    }
+
+    private void process(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                         String key, IdempotencyStore.Claim claim) throws ServletException, IOException {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            idempotencyStore.complete(key, claim, new StoredResponse(
+                responseWrapper.getStatus(),
+                responseWrapper.getContentType(),
+                responseWrapper.getContentAsByteArray()));
+            completed = true;
+        } finally {
+            if (!completed) {
+                idempotencyStore.abandon(key, claim);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private static void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        byte[] body = ("{\"success\":false,\"message\":\"" + message + "\"}").getBytes(StandardCharsets.UTF_8);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,163 @@
+package com.bootcamp.paymentdemo.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 완료된 Idempotency 응답의 append-only 로그
+ * 레코드 형식: [keyLen:int][key][hashLen:int][요청 본문 해시][expiresAt:long][status:int]
+ *             [contentTypeLen:int][contentType][bodyLen:int][body]
+ * 요청 해시가 비어 있는 레코드는 본문 비교를 할 수 없으므로 복원하지 않습니다.
+ * 시작 시 재생(replay)하면서 만료된 레코드를 버리고, 살아 있는 레코드만 남기도록 파일을 다시 씁니다.
+ */
+@Slf4j
+class IdempotencyLog implements AutoCloseable {
+
+    interface Replayer {
+        void accept(String key, String requestHash, long expiresAt, StoredResponse response);
+    }
+
+    private final Path path;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private FileChannel channel;
+
+    IdempotencyLog(Path path) throws IOException {
+        this.path = path.toAbsolutePath();
+        Path parent = this.path.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+    }
+
+    /**
+     * 로그 재생 + 압축 후 append 모드로 열기
+     */
+    void replay(long nowMillis, Replayer replayer) throws IOException {
+        Map<String, Record> live = new LinkedHashMap<>();
+        if (Files.exists(path)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+                while (true) {
+                    Record record = read(in);
+                    if (record == null) {
+                        break;
+                    }
+                    if (record.requestHash != null && record.expiresAt > nowMillis) {
+                        live.put(record.key, record);
+                    }
+                }
+            }
+        }
+
+        // 살아 있는 레코드만 임시 파일에 쓰고 원자적으로 교체
+        Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+        try (FileChannel out = FileChannel.open(compacted,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (Record record : live.values()) {
+                writeFully(out, encode(record.key, record.requestHash, record.expiresAt, record.response));
+            }
+            out.force(true);
+        }
+        Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        live.values().forEach(record ->
+            replayer.accept(record.key, record.requestHash, record.expiresAt, record.response));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    void append(String key, String requestHash, long expiresAt, StoredResponse response) {
+        ByteBuffer buffer = encode(key, requestHash, expiresAt, response);
+        writeLock.lock();
+        try {
+            writeFully(channel, buffer);
+        } catch (IOException e) {
+            // 로그 실패는 메모리 저장소 동작에 영향을 주지 않음 (재시작 시에만 유실)
+            log.warn("Idempotency 로그 기록 실패: {}", e.getMessage());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static ByteBuffer encode(String key, String requestHash, long expiresAt, StoredResponse response) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] hash = requestHash.getBytes(StandardCharsets.US_ASCII);
+        byte[] contentType = response.contentType() == null
+            ? new byte[0] : response.contentType().getBytes(StandardCharsets.UTF_8);
+        byte[] body = response.body() == null ? new byte[0] : response.body();
+
+        ByteBuffer buffer = ByteBuffer.allocate(4 + keyBytes.length + 4 + hash.length
+            + 8 + 4 + 4 + contentType.length + 4 + body.length);
+        buffer.putInt(keyBytes.length).put(keyBytes)
+            .putInt(hash.length).put(hash)
+            .putLong(expiresAt)
+            .putInt(response.status())
+            .putInt(contentType.length).put(contentType)
+            .putInt(body.length).put(body);
+        return buffer.flip();
+    }
+
+    /**
+     * 레코드 하나 읽기 - 파일 끝이거나 마지막 레코드가 잘려 있으면 null
+     */
+    private static Record read(DataInputStream in) throws IOException {
+        try {
+            String key = new String(readBytes(in), StandardCharsets.UTF_8);
+            byte[] hash = readBytes(in);
+            String requestHash = hash.length == 0 ? null : new String(hash, StandardCharsets.US_ASCII);
+            long expiresAt = in.readLong();
+            int status = in.readInt();
+            byte[] contentType = readBytes(in);
+            byte[] body = readBytes(in);
+            return new Record(key, requestHash, expiresAt, new StoredResponse(status,
+                contentType.length == 0 ? null : new String(contentType, StandardCharsets.UTF_8), body));
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new EOFException("corrupted record");
+        }
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length < length) {
+            throw new EOFException("truncated record");
+        }
+        return bytes;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private record Record(String key, String requestHash, long expiresAt, StoredResponse response) {
+    }
+}
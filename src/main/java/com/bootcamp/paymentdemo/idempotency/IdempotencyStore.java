@@ -0,0 +1,172 @@
+package com.bootcamp.paymentdemo.idempotency;
+
+import com.bootcamp.paymentdemo.config.IdempotencyProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 저장소
+ * ConcurrentHashMap(버킷 단위 분할, 조회는 락 없음) 위에서 키마다 하나의 Entry를 putIfAbsent로 선점합니다.
+ * - 선점한 요청(owner)만 실제 처리를 진행하고, 결과를 Entry에 완료시킵니다.
+ * - 동시에 들어온 중복 요청은 같은 Entry의 결과를 기다립니다.
+ * - 완료된 Entry는 TTL 동안 보관되고 주기적으로 정리됩니다.
+ * - Entry에는 첫 요청 본문의 해시가 함께 저장되어, 같은 키로 다른 본문이 오면 Claim.matches()가 false를 반환합니다.
+ * logPath가 설정되면 완료된 응답을 append 로그에 남겨 재시작 후에도 복원합니다.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final IdempotencyLog appendLog;
+    private final ScheduledExecutorService sweeper;
+
+    public IdempotencyStore(IdempotencyProperties properties) throws IOException {
+        this.ttlMillis = properties.getTtl().toMillis();
+
+        if (properties.getLogPath() != null && !properties.getLogPath().isBlank()) {
+            this.appendLog = new IdempotencyLog(Path.of(properties.getLogPath()));
+            long now = System.currentTimeMillis();
+            appendLog.replay(now, (key, requestHash, expiresAt, response) ->
+                entries.put(key, Entry.completed(requestHash, response, expiresAt)));
+            log.info("Idempotency 로그 복원: {}건", entries.size());
+        } else {
+            this.appendLog = null;
+        }
+
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "idempotency-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1000L, Math.min(ttlMillis, 60_000L));
+        sweeper.scheduleWithFixedDelay(this::evictExpired, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 키 선점 시도
+     * 반환된 Claim.owner()가 true면 호출자가 처리 후 complete/abandon을 반드시 호출해야 합니다.
+     *
+     * @param requestHash 요청 본문 해시 (먼저 저장된 Entry와 다르면 Claim.matches()가 false)
+     */
+    public Claim claim(String key, String requestHash) {
+        Objects.requireNonNull(requestHash, "requestHash");
+        Entry fresh = Entry.inProgress(requestHash);
+        while (true) {
+            Entry existing = entries.putIfAbsent(key, fresh);
+            if (existing == null) {
+                return new Claim(fresh, true);
+            }
+            if (!existing.isExpired(System.currentTimeMillis())) {
+                return new Claim(existing, false);
+            }
+            if (entries.replace(key, existing, fresh)) {
+                return new Claim(fresh, true);
+            }
+        }
+    }
+
+    /**
+     * 처리 결과 저장 - 5xx는 일시 오류일 수 있으므로 보관하지 않고 다음 재시도가 다시 처리하게 함
+     */
+    public void complete(String key, Claim claim, StoredResponse response) {
+        Entry entry = claim.entry();
+        if (response.status() >= 500) {
+            entries.remove(key, entry);
+        } else {
+            entry.expiresAt = System.currentTimeMillis() + ttlMillis;
+            if (appendLog != null) {
+                appendLog.append(key, entry.requestHash, entry.expiresAt, response);
+            }
+        }
+        entry.result.complete(response);
+    }
+
+    /**
+     * 처리 중 예외 - 키를 풀어 대기 중인 요청이 다시 선점할 수 있게 함
+     */
+    public void abandon(String key, Claim claim) {
+        entries.remove(key, claim.entry());
+        claim.entry().result.complete(null);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        sweeper.shutdownNow();
+        if (appendLog != null) {
+            appendLog.close();
+        }
+    }
+
+    public record Claim(Entry entry, boolean owner) {
+
+        /**
+         * 같은 본문의 재요청인지 (어느 쪽이든 해시가 없으면 불일치)
+         */
+        public boolean matches(String requestHash) {
+            return entry.requestHash != null && entry.requestHash.equals(requestHash);
+        }
+
+        /**
+         * owner가 아닐 때 첫 요청의 결과 대기
+         *
+         * @return 저장된 응답, 첫 요청이 실패해 키가 풀렸으면 null
+         * @throws TimeoutException 제한 시간 내에 첫 요청이 끝나지 않음
+         */
+        public StoredResponse await(long timeoutMillis) throws TimeoutException, InterruptedException {
+            try {
+                return entry.result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                return null;
+            }
+        }
+    }
+
+    static final class Entry {
+        final String requestHash;
+        final CompletableFuture<StoredResponse> result;
+        // 처리 중에는 만료되지 않음
+        volatile long expiresAt = Long.MAX_VALUE;
+
+        private Entry(String requestHash, CompletableFuture<StoredResponse> result) {
+            this.requestHash = requestHash;
+            this.result = result;
+        }
+
+        static Entry inProgress(String requestHash) {
+            return new Entry(requestHash, new CompletableFuture<>());
+        }
+
+        static Entry completed(String requestHash, StoredResponse response, long expiresAt) {
+            Entry entry = new Entry(requestHash, CompletableFuture.completedFuture(response));
+            entry.expiresAt = expiresAt;
+            return entry;
+        }
+
+        boolean isExpired(long nowMillis) {
+            return expiresAt <= nowMillis;
+        }
+    }
+}
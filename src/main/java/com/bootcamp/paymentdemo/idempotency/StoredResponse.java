@@ -0,0 +1,7 @@
+package com.bootcamp.paymentdemo.idempotency;
+
+/**
+ * Idempotency-Key로 저장된 첫 요청의 응답
+ */
+public record StoredResponse(int status, String contentType, byte[] body) {
+}
@@ -0,0 +1,109 @@
+package com.bootcamp.paymentdemo.metrics;
+
+import com.bootcamp.paymentdemo.validation.CompiledContract;
+import com.bootcamp.paymentdemo.validation.ContractValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /api/** 요청 처리 시간 - client-api-config.yml의 엔드포인트 이름 기준
+ * 지표: api.contract.requests (endpoint={계약 이름}|unmatched, outcome=SUCCESS|REDIRECTION|CLIENT_ERROR|SERVER_ERROR)
+ * Spring Security 필터보다 앞에서 실행되어 인증 실패(401)와 검증 실패(400)까지 포함해 측정합니다.
+ * 스트리밍(비동기) 응답은 응답이 끝난 시점까지 측정합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class ApiEndpointMetricsFilter extends OncePerRequestFilter {
+
+    static final String UNMATCHED = "unmatched";
+    private static final String[] OUTCOMES = {"INFORMATIONAL", "SUCCESS", "REDIRECTION", "CLIENT_ERROR", "SERVER_ERROR"};
+
+    private final ContractValidator contractValidator;
+    private final MeterRegistry meterRegistry;
+    // 엔드포인트별 Timer 배열 (인덱스 = 상태 코드 / 100 - 1)
+    private final ConcurrentHashMap<String, Timer[]> timers = new ConcurrentHashMap<>();
+
+    public ApiEndpointMetricsFilter(ContractValidator contractValidator, MeterRegistry meterRegistry) {
+        this.contractValidator = contractValidator;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        CompiledContract contract = contractValidator.find(request.getMethod(), path);
+        Timer[] endpointTimers = timers.computeIfAbsent(
+            contract != null ? contract.getEndpointName() : UNMATCHED, this::createTimers);
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (!failed && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        record(endpointTimers, response.getStatus(), start);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                record(endpointTimers, failed ? 500 : response.getStatus(), start);
+            }
+        }
+    }
+
+    private static void record(Timer[] endpointTimers, int status, long start) {
+        int index = Math.min(Math.max(status / 100 - 1, 0), endpointTimers.length - 1);
+        endpointTimers[index].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer[] createTimers(String endpoint) {
+        Timer[] created = new Timer[OUTCOMES.length];
+        for (int i = 0; i < OUTCOMES.length; i++) {
+            created[i] = Timer.builder("api.contract.requests")
+                .description("API 계약 엔드포인트별 처리 시간")
+                .tag("endpoint", endpoint)
+                .tag("outcome", OUTCOMES[i])
+                .register(meterRegistry);
+        }
+        return created;
+    }
+}
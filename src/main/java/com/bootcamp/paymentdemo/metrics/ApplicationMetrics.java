@@ -0,0 +1,160 @@
+package com.bootcamp.paymentdemo.metrics;
+
+import com.bootcamp.paymentdemo.audit.AuditLog;
+import com.bootcamp.paymentdemo.billing.BulkChargeService;
+import com.bootcamp.paymentdemo.billing.SubscriptionBillingScheduler;
+import com.bootcamp.paymentdemo.catalog.ProductCatalog;
+import com.bootcamp.paymentdemo.idempotency.IdempotencyStore;
+import com.bootcamp.paymentdemo.order.LatePaymentRefunder;
+import com.bootcamp.paymentdemo.order.OrderStateMachine;
+import com.bootcamp.paymentdemo.outbox.PaymentOutbox;
+import com.bootcamp.paymentdemo.portone.PortOneClient;
+import com.bootcamp.paymentdemo.ratelimit.RateLimitFilter;
+import com.bootcamp.paymentdemo.security.JwtTokenCache;
+import com.bootcamp.paymentdemo.security.JwtTokenProvider;
+import com.bootcamp.paymentdemo.security.TokenRevocationList;
+import com.bootcamp.paymentdemo.service.PaymentLookupService;
+import com.bootcamp.paymentdemo.subscription.SubscriptionReadModel;
+import com.bootcamp.paymentdemo.user.BoundedPasswordEncoder;
+import com.bootcamp.paymentdemo.user.UserDirectory;
+import com.bootcamp.paymentdemo.webhook.WebhookDispatcher;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 각 컴포넌트가 이미 LongAdder 등으로 집계하고 있는 값을 Micrometer에 연결
+ * FunctionCounter / Gauge는 스크레이프 시점에만 값을 읽으므로 요청 경로에 추가 비용이 없습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationMetrics implements MeterBinder {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationList tokenRevocationList;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final UserDirectory userDirectory;
+    private final PaymentLookupService paymentLookupService;
+    private final PortOneClient portOneClient;
+    private final IdempotencyStore idempotencyStore;
+    private final SubscriptionBillingScheduler billingScheduler;
+    private final BulkChargeService bulkChargeService;
+    private final WebhookDispatcher webhookDispatcher;
+    private final OrderStateMachine orderStateMachine;
+    private final LatePaymentRefunder latePaymentRefunder;
+    private final ProductCatalog productCatalog;
+    private final RateLimitFilter rateLimitFilter;
+    private final PaymentOutbox paymentOutbox;
+    private final SubscriptionReadModel subscriptionReadModel;
+    private final AuditLog auditLog;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // JWT 검증 캐시
+        JwtTokenCache tokenCache = jwtTokenProvider.getTokenCache();
+        counter(registry, "auth.token.cache.hits", tokenCache, JwtTokenCache::getHitCount);
+        counter(registry, "auth.token.cache.misses", tokenCache, JwtTokenCache::getMissCount);
+        counter(registry, "auth.token.cache.evictions", tokenCache, JwtTokenCache::getEvictionCount);
+        gauge(registry, "auth.token.cache.size", tokenCache, JwtTokenCache::size);
+
+        // 토큰 폐기 목록
+        counter(registry, "auth.token.revocation.checks", tokenRevocationList, TokenRevocationList::getCheckCount);
+        counter(registry, "auth.token.revocation.filter.positives", tokenRevocationList, TokenRevocationList::getFilterPositiveCount);
+        counter(registry, "auth.token.revocation.false.positives", tokenRevocationList, TokenRevocationList::getFalsePositiveCount);
+        gauge(registry, "auth.token.revocation.size", tokenRevocationList, TokenRevocationList::size);
+
+        // 비밀번호 검증
+        counter(registry, "auth.password.hash.operations", passwordEncoder, BoundedPasswordEncoder::getHashOperationCount);
+        counter(registry, "auth.password.rejections", passwordEncoder, BoundedPasswordEncoder::getRejectionCount);
+        gauge(registry, "auth.password.queued", passwordEncoder, BoundedPasswordEncoder::getQueuedCount);
+        gauge(registry, "users.registered", userDirectory, UserDirectory::size);
+
+        // 감사 로그
+        counter(registry, "audit.recorded", auditLog, AuditLog::getRecordedCount);
+        counter(registry, "audit.dropped", auditLog, AuditLog::getDroppedCount);
+        counter(registry, "audit.written", auditLog, AuditLog::getWrittenCount);
+        counter(registry, "audit.write.failures", auditLog, AuditLog::getWriteFailureCount);
+        counter(registry, "audit.rotations", auditLog, AuditLog::getRotationCount);
+        gauge(registry, "audit.files", auditLog, AuditLog::getFileCount);
+        gauge(registry, "audit.pending", auditLog, AuditLog::getPending);
+
+        // 요청 속도 제한
+        counter(registry, "ratelimit.allowed", rateLimitFilter, RateLimitFilter::getAllowedCount);
+        counter(registry, "ratelimit.rejected.ip", rateLimitFilter, RateLimitFilter::getIpLimitedCount);
+        counter(registry, "ratelimit.rejected.email", rateLimitFilter, RateLimitFilter::getEmailLimitedCount);
+        counter(registry, "ratelimit.collisions", rateLimitFilter, RateLimitFilter::getCollisionCount);
+
+        // PortOne
+        counter(registry, "portone.lookup.cache.hits", paymentLookupService, PaymentLookupService::getCacheHitCount);
+        counter(registry, "portone.lookup.coalesced", paymentLookupService, PaymentLookupService::getCoalescedCount);
+        counter(registry, "portone.lookup.remote.calls", paymentLookupService, PaymentLookupService::getRemoteCallCount);
+        gauge(registry, "portone.permits.available", portOneClient, PortOneClient::getAvailablePermits);
+        // 0=CLOSED, 1=OPEN, 2=HALF_OPEN
+        gauge(registry, "portone.circuit.state", portOneClient, client -> client.getCircuitState().ordinal());
+
+        // 웹훅
+        counter(registry, "portone.webhook.accepted", webhookDispatcher, WebhookDispatcher::getAcceptedCount);
+        counter(registry, "portone.webhook.rejected", webhookDispatcher, WebhookDispatcher::getRejectedCount);
+        counter(registry, "portone.webhook.batches", webhookDispatcher, WebhookDispatcher::getBatchCount);
+        counter(registry, "portone.webhook.applied", webhookDispatcher, WebhookDispatcher::getAppliedCount);
+        counter(registry, "portone.webhook.retried", webhookDispatcher, WebhookDispatcher::getRetriedCount);
+        counter(registry, "portone.webhook.dropped", webhookDispatcher, WebhookDispatcher::getDroppedCount);
+        gauge(registry, "portone.webhook.queued", webhookDispatcher, WebhookDispatcher::getQueuedCount);
+
+        // 주문 상태 전이
+        counter(registry, "orders.transitions.applied", orderStateMachine, OrderStateMachine::getAppliedCount);
+        counter(registry, "orders.transitions.unchanged", orderStateMachine, OrderStateMachine::getUnchangedCount);
+        counter(registry, "orders.transitions.rejected", orderStateMachine, OrderStateMachine::getRejectedCount);
+        counter(registry, "orders.late.payments.refunded", latePaymentRefunder, LatePaymentRefunder::getRefundedCount);
+        counter(registry, "orders.late.payments.refund.failures", latePaymentRefunder, LatePaymentRefunder::getFailedCount);
+
+        // 결제 이벤트 아웃박스
+        counter(registry, "outbox.recorded", paymentOutbox, PaymentOutbox::getRecordedCount);
+        counter(registry, "outbox.commits", paymentOutbox, PaymentOutbox::getCommitCount);
+        counter(registry, "outbox.commit.timeouts", paymentOutbox, PaymentOutbox::getCommitTimeoutCount);
+        counter(registry, "outbox.delivered", paymentOutbox, PaymentOutbox::getDeliveredCount);
+        counter(registry, "outbox.delivery.failures", paymentOutbox, PaymentOutbox::getDeliveryFailureCount);
+        gauge(registry, "outbox.backlog", paymentOutbox, PaymentOutbox::getBacklog);
+
+        // 구독 읽기 모델
+        counter(registry, "subscriptions.cache.hits", subscriptionReadModel, SubscriptionReadModel::getSubscriptionCacheHitCount);
+        counter(registry, "subscriptions.cache.misses", subscriptionReadModel, SubscriptionReadModel::getSubscriptionCacheMissCount);
+        counter(registry, "subscriptions.cache.evictions", subscriptionReadModel, SubscriptionReadModel::getSubscriptionCacheEvictionCount);
+        gauge(registry, "subscriptions.cache.hit.ratio", subscriptionReadModel, SubscriptionReadModel::getSubscriptionCacheHitRatio);
+        gauge(registry, "subscriptions.cache.size", subscriptionReadModel, SubscriptionReadModel::getSubscriptionCacheSize);
+        counter(registry, "subscriptions.history.cache.hits", subscriptionReadModel, SubscriptionReadModel::getHistoryCacheHitCount);
+        counter(registry, "subscriptions.history.cache.misses", subscriptionReadModel, SubscriptionReadModel::getHistoryCacheMissCount);
+        counter(registry, "subscriptions.history.cache.evictions", subscriptionReadModel, SubscriptionReadModel::getHistoryCacheEvictionCount);
+        gauge(registry, "subscriptions.history.cache.hit.ratio", subscriptionReadModel, SubscriptionReadModel::getHistoryCacheHitRatio);
+        gauge(registry, "subscriptions.history.pending", subscriptionReadModel, SubscriptionReadModel::getPendingHistoryCount);
+        counter(registry, "subscriptions.history.flushed", subscriptionReadModel, SubscriptionReadModel::getFlushedHistoryCount);
+        counter(registry, "subscriptions.history.flush.failures", subscriptionReadModel, SubscriptionReadModel::getFlushFailureCount);
+
+        // 상품 카탈로그
+        counter(registry, "catalog.requests.list", productCatalog, ProductCatalog::getListCount);
+        counter(registry, "catalog.requests.search", productCatalog, ProductCatalog::getSearchCount);
+        counter(registry, "catalog.refreshes", productCatalog, ProductCatalog::getRefreshCount);
+        gauge(registry, "catalog.products", productCatalog, ProductCatalog::size);
+
+        // 기타 저장소
+        gauge(registry, "idempotency.entries", idempotencyStore, IdempotencyStore::size);
+        gauge(registry, "billing.scheduled", billingScheduler, SubscriptionBillingScheduler::getScheduledCount);
+        counter(registry, "billing.bulk.requests", bulkChargeService, BulkChargeService::getRequestCount);
+        counter(registry, "billing.bulk.paid", bulkChargeService, BulkChargeService::getPaidCount);
+        counter(registry, "billing.bulk.failed", bulkChargeService, BulkChargeService::getFailedCount);
+        counter(registry, "billing.bulk.aborted", bulkChargeService, BulkChargeService::getAbortedCount);
+    }
+
+    private static <T> void counter(MeterRegistry registry, String name, T target, ToDoubleFunction<T> count) {
+        FunctionCounter.builder(name, target, count).register(registry);
+    }
+
+    private static <T> void gauge(MeterRegistry registry, String name, T target, ToDoubleFunction<T> value) {
+        Gauge.builder(name, target, value).register(registry);
+    }
+}
@@ -0,0 +1,64 @@
+package com.bootcamp.paymentdemo.metrics;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 구간당 기록 건수를 제한하는 로그 래퍼
+ * 공격/장애 상황에서 같은 실패가 초당 수천 건 발생해도 스택 트레이스 출력 비용이 요청 경로를 잡아먹지 않도록,
+ * interval마다 최대 permits건만 기록하고 나머지는 건수만 세어 다음 기록에 덧붙입니다.
+ */
+public final class RateLimitedLog {
+
+    private final Logger logger;
+    private final int permits;
+    private final long intervalNanos;
+
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger used = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+
+    public RateLimitedLog(Logger logger, int permits, Duration interval) {
+        this.logger = logger;
+        this.permits = permits;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    public void warn(String message, Throwable error) {
+        if (logger.isWarnEnabled() && tryAcquire()) {
+            logger.warn(withSuppressed(message), error);
+        }
+    }
+
+    public void error(String message, Throwable error) {
+        if (logger.isErrorEnabled() && tryAcquire()) {
+            logger.error(withSuppressed(message), error);
+        }
+    }
+
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+
+    private boolean tryAcquire() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= intervalNanos && windowStart.compareAndSet(start, now)) {
+            used.set(0);
+        }
+        if (used.incrementAndGet() <= permits) {
+            return true;
+        }
+        suppressed.increment();
+        return false;
+    }
+
+    private String withSuppressed(String message) {
+        long skipped = suppressed.sumThenReset();
+        return skipped == 0 ? message : message + " (이전 " + skipped + "건 생략)";
+    }
+}
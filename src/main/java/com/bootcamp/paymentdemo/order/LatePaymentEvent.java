@@ -0,0 +1,13 @@
+package com.bootcamp.paymentdemo.order;
+
+import lombok.Value;
+
+/**
+ * 이미 취소된 주문에 결제 완료(PAID)가 늦게 도착했을 때 발행되는 이벤트
+ * 주문은 CANCELLED로 남으므로 결제된 금액은 LatePaymentRefunder가 환불합니다.
+ */
+@Value
+public class LatePaymentEvent {
+    long orderId;
+    String paymentId;
+}
@@ -0,0 +1,128 @@
+package com.bootcamp.paymentdemo.order;
+
+import com.bootcamp.paymentdemo.config.OutboxProperties;
+import com.bootcamp.paymentdemo.outbox.OutboxEvent;
+import com.bootcamp.paymentdemo.outbox.OutboxSink;
+import com.bootcamp.paymentdemo.outbox.PaymentOutbox;
+import com.bootcamp.paymentdemo.portone.PortOneApiException;
+import com.bootcamp.paymentdemo.portone.PortOneClient;
+import com.bootcamp.paymentdemo.service.PaymentLookupService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 취소된 주문에 늦게 도착한 결제 환불
+ * - 아웃박스의 payment.refund-required 이벤트를 받아 PortOne 결제 취소 호출 (재시작 후에도 전달됨)
+ * - 일시적 실패(네트워크, 429, 5xx)는 예외를 던져 릴레이가 같은 배치를 다시 전달하게 함
+ * - 그 외 실패는 PortOne 조회로 이미 취소되었는지 확인하고, 아니면 수동 처리 대상으로 로그만 남김
+ * 아웃박스가 꺼져 있으면 LatePaymentEvent를 받는 즉시 한 번만 시도합니다.
+ */
+@Slf4j
+@Component
+public class LatePaymentRefunder implements OutboxSink {
+
+    static final String REFUND_REASON = "주문 취소 후 결제 완료 - 자동 환불";
+
+    private final PortOneClient portOneClient;
+    private final PaymentLookupService paymentLookupService;
+    private final OutboxProperties outboxProperties;
+    private final ExecutorService portOneExecutor;
+
+    private final LongAdder refunded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public LatePaymentRefunder(
+        PortOneClient portOneClient,
+        PaymentLookupService paymentLookupService,
+        OutboxProperties outboxProperties,
+        @Qualifier("portOneExecutor") ExecutorService portOneExecutor
+    ) {
+        this.portOneClient = portOneClient;
+        this.paymentLookupService = paymentLookupService;
+        this.outboxProperties = outboxProperties;
+        this.portOneExecutor = portOneExecutor;
+    }
+
+    @Override
+    public String name() {
+        return "late-payment-refund";
+    }
+
+    @Override
+    public void deliver(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            if (PaymentOutbox.PAYMENT_REFUND_REQUIRED.equals(event.type())) {
+                refund(event.key(), event.data().path("orderId").asLong());
+            }
+        }
+    }
+
+    /**
+     * 아웃박스가 꺼져 있을 때만 직접 환불 (켜져 있으면 PaymentOutboxListener가 기록한 이벤트로 처리)
+     */
+    @EventListener
+    public void onLatePayment(LatePaymentEvent event) {
+        if (outboxProperties.isEnabled()) {
+            return;
+        }
+        try {
+            portOneExecutor.execute(() -> {
+                try {
+                    refund(event.getPaymentId(), event.getOrderId());
+                } catch (PortOneApiException e) {
+                    failed.increment();
+                    log.error("늦은 결제 환불 실패 - 수동 환불 필요: orderId={}, paymentId={}: {}",
+                        event.getOrderId(), event.getPaymentId(), e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            failed.increment();
+            log.error("늦은 결제 환불 요청 거부 - 수동 환불 필요: orderId={}, paymentId={}",
+                event.getOrderId(), event.getPaymentId());
+        }
+    }
+
+    public long getRefundedCount() {
+        return refunded.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * @throws PortOneApiException 일시적 실패 (다시 시도해야 함)
+     */
+    private void refund(String paymentId, long orderId) {
+        try {
+            portOneClient.cancelPayment(paymentId, REFUND_REASON);
+        } catch (PortOneApiException e) {
+            if (e.isTransient()) {
+                throw e;
+            }
+            // 같은 이벤트가 다시 전달되었거나 다른 경로로 이미 취소된 경우
+            if (!isCancelled(paymentId)) {
+                failed.increment();
+                log.error("늦은 결제 환불 실패 - 수동 환불 필요: orderId={}, paymentId={}, status={}: {}",
+                    orderId, paymentId, e.getStatusCode(), e.getMessage());
+                return;
+            }
+        } finally {
+            paymentLookupService.invalidate(paymentId);
+        }
+        refunded.increment();
+        log.info("취소된 주문의 늦은 결제 환불: orderId={}, paymentId={}", orderId, paymentId);
+    }
+
+    private boolean isCancelled(String paymentId) {
+        String status = portOneClient.getPayment(paymentId).path("status").asString();
+        return "CANCELLED".equals(status) || "PARTIAL_CANCELLED".equals(status);
+    }
+}
@@ -0,0 +1,17 @@
+package com.bootcamp.paymentdemo.order;
+
+/**
+ * 주문 상태를 바꾸는 사건
+ */
+public enum OrderEvent {
+    // create-payment: 결제 시작 (PortOne SDK 호출 전)
+    PAYMENT_STARTED,
+    // confirm-payment 또는 웹훅(Transaction.Paid): PortOne 조회 결과 PAID
+    PAYMENT_CONFIRMED,
+    // PortOne 결제 실패 - 다시 결제할 수 있도록 PENDING 유지
+    PAYMENT_FAILED,
+    // cancel-payment 또는 웹훅(Transaction.Cancelled)
+    CANCEL,
+    SHIP,
+    DELIVER
+}
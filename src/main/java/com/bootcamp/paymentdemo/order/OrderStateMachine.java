@@ -0,0 +1,193 @@
+package com.bootcamp.paymentdemo.order;
+
+import com.bootcamp.paymentdemo.config.OrderProperties;
+import com.bootcamp.paymentdemo.webhook.PaymentStatusUpdate;
+import com.bootcamp.paymentdemo.webhook.PaymentWebhookBatchEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 주문 상태 머신
+ * - 전이 판단은 OrderTransitions의 배열 조회
+ * - 같은 주문에 대한 사건은 orderId 해시로 고른 락(striped lock)으로 직렬화,
+ *   다른 주문은 다른 락을 잡으므로 병렬로 진행 (전역 락 없음)
+ * - 상태 조회는 락 없이 ConcurrentHashMap에서 읽음
+ *
+ * 확정(confirm)과 취소(cancel)가 동시에 들어와도 한쪽이 먼저 락을 잡고 전이를 끝낸 뒤,
+ * 다른 쪽은 바뀐 상태를 기준으로 판단하므로 갱신이 유실되지 않습니다.
+ * 예) 취소가 먼저 반영된 주문에 결제 확정이 늦게 도착하면 REJECTED - 호출자가 환불(cancelPayment)을 진행
+ *     웹훅으로 도착한 경우에는 LatePaymentEvent를 발행하고 LatePaymentRefunder가 환불합니다.
+ */
+@Slf4j
+@Component
+public class OrderStateMachine {
+
+    /**
+     * 전이와 함께 락 안에서 실행할 작업 (주문 테이블 갱신 등)
+     * 예외가 발생하면 상태는 바뀌지 않습니다. 락을 잡고 있는 동안 실행되므로 외부 API 호출은 밖에서 하세요.
+     */
+    @FunctionalInterface
+    public interface TransitionAction {
+        void apply(long orderId, OrderStatus from, OrderStatus to);
+    }
+
+    private static final TransitionAction NO_ACTION = (orderId, from, to) -> { };
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final ConcurrentHashMap<Long, OrderStatus> statuses = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> paymentOrders = new ConcurrentHashMap<>();
+    private final ReentrantLock[] locks;
+    private final int lockMask;
+    private final long lockTimeoutNanos;
+
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder unchanged = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public OrderStateMachine(OrderProperties properties, ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+        int stripes = Integer.highestOneBit(Math.max(2, properties.getLockStripes()) - 1) << 1;
+        this.locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.lockMask = stripes - 1;
+        this.lockTimeoutNanos = properties.getLockTimeout().toNanos();
+    }
+
+    /**
+     * 새 주문 등록 (PENDING), 이미 있으면 현재 상태 유지
+     */
+    public OrderStatus register(long orderId) {
+        OrderStatus existing = statuses.putIfAbsent(orderId, OrderStatus.PENDING);
+        return existing != null ? existing : OrderStatus.PENDING;
+    }
+
+    /**
+     * 기존 저장소에서 읽은 상태로 복원 (재시작 시)
+     */
+    public void restore(long orderId, OrderStatus status) {
+        statuses.put(orderId, status);
+    }
+
+    /**
+     * 현재 상태, 등록되지 않은 주문이면 null
+     */
+    public OrderStatus getStatus(long orderId) {
+        return statuses.get(orderId);
+    }
+
+    /**
+     * 결제 시작 - paymentId와 주문을 연결 (웹훅 반영에 사용)
+     */
+    public TransitionResult startPayment(long orderId, String paymentId, TransitionAction action) {
+        TransitionResult result = fire(orderId, OrderEvent.PAYMENT_STARTED, action);
+        if (!result.isRejected()) {
+            paymentOrders.put(paymentId, orderId);
+        }
+        return result;
+    }
+
+    /**
+     * paymentId로 연결된 주문 ID, 없으면 null
+     */
+    public Long findOrderId(String paymentId) {
+        return paymentOrders.get(paymentId);
+    }
+
+    public TransitionResult fire(long orderId, OrderEvent event) {
+        return fire(orderId, event, NO_ACTION);
+    }
+
+    /**
+     * 사건 적용 - 같은 주문에 대해서는 한 번에 하나씩 실행됩니다.
+     *
+     * @throws IllegalStateException lockTimeout 안에 주문 락을 얻지 못한 경우
+     */
+    public TransitionResult fire(long orderId, OrderEvent event, TransitionAction action) {
+        ReentrantLock lock = locks[stripe(orderId)];
+        try {
+            if (!lock.tryLock(lockTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new IllegalStateException("주문 상태 변경 대기 시간 초과: orderId=" + orderId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("주문 상태 변경 중단: orderId=" + orderId, e);
+        }
+
+        try {
+            OrderStatus from = statuses.get(orderId);
+            OrderStatus to = from != null ? OrderTransitions.next(from, event) : null;
+            if (to == null) {
+                rejected.increment();
+                return new TransitionResult(orderId, event, from, from, TransitionResult.Outcome.REJECTED);
+            }
+            if (to == from) {
+                unchanged.increment();
+                return new TransitionResult(orderId, event, from, to, TransitionResult.Outcome.UNCHANGED);
+            }
+
+            action.apply(orderId, from, to);
+            statuses.put(orderId, to);
+            applied.increment();
+            return new TransitionResult(orderId, event, from, to, TransitionResult.Outcome.APPLIED);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 웹훅 배치 반영 - PortOne 조회 상태를 사건으로 바꿔 적용
+     */
+    @EventListener
+    public void onPaymentWebhookBatch(PaymentWebhookBatchEvent event) {
+        for (PaymentStatusUpdate update : event.getUpdates()) {
+            Long orderId = paymentOrders.get(update.getPaymentId());
+            OrderEvent orderEvent = toOrderEvent(update.getStatus());
+            if (orderId == null || orderEvent == null) {
+                continue;
+            }
+            TransitionResult result = fire(orderId, orderEvent);
+            if (result.isRejected() && orderEvent == OrderEvent.PAYMENT_CONFIRMED && result.from() == OrderStatus.CANCELLED) {
+                log.warn("취소된 주문에 결제 완료 도착 - 환불 진행: orderId={}, paymentId={}", orderId, update.getPaymentId());
+                eventPublisher.publishEvent(new LatePaymentEvent(orderId, update.getPaymentId()));
+            } else if (result.isRejected()) {
+                log.warn("웹훅 상태 반영 거부: orderId={}, paymentId={}, status={}, current={}",
+                    orderId, update.getPaymentId(), update.getStatus(), result.from());
+            }
+        }
+    }
+
+    public long getAppliedCount() {
+        return applied.sum();
+    }
+
+    public long getUnchangedCount() {
+        return unchanged.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    private int stripe(long orderId) {
+        long hash = orderId * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & lockMask;
+    }
+
+    private static OrderEvent toOrderEvent(String paymentStatus) {
+        return switch (paymentStatus) {
+            case "PAID" -> OrderEvent.PAYMENT_CONFIRMED;
+            case "CANCELLED" -> OrderEvent.CANCEL;
+            case "FAILED" -> OrderEvent.PAYMENT_FAILED;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package com.bootcamp.paymentdemo.order;
+
+/**
+ * 주문 상태 - 프론트엔드(orders.html)와 약속된 이름 그대로 사용
+ * (docs/ORDER_STATUS_MISMATCH_GUIDE.md 참고)
+ */
+public enum OrderStatus {
+    PENDING,
+    PAID,
+    CANCELLED,
+    SHIPPED,
+    DELIVERED
+}
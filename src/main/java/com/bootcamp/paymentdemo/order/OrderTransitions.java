@@ -0,0 +1,58 @@
+package com.bootcamp.paymentdemo.order;
+
+import static com.bootcamp.paymentdemo.order.OrderEvent.*;
+import static com.bootcamp.paymentdemo.order.OrderStatus.*;
+
+/**
+ * 주문 상태 전이표
+ * 클래스 로딩 시 [현재 상태 ordinal][사건 ordinal] → 다음 상태 배열로 한 번 펼쳐 두므로,
+ * 전이 판단은 배열 조회 한 번입니다. null은 허용되지 않는 전이를 뜻합니다.
+ * 다음 상태가 현재 상태와 같으면 "이미 반영됨"(중복 확정, 웹훅과 브라우저 확정 동시 도착 등)으로 보고 무시합니다.
+ */
+public final class OrderTransitions {
+
+    private static final OrderStatus[][] MATRIX = new OrderStatus[OrderStatus.values().length][OrderEvent.values().length];
+
+    static {
+        // 결제 전
+        allow(PENDING, PAYMENT_STARTED, PENDING);
+        allow(PENDING, PAYMENT_FAILED, PENDING);
+        allow(PENDING, PAYMENT_CONFIRMED, PAID);
+        allow(PENDING, CANCEL, CANCELLED);
+
+        // 결제 완료
+        allow(PAID, PAYMENT_CONFIRMED, PAID);
+        allow(PAID, CANCEL, CANCELLED);
+        allow(PAID, SHIP, SHIPPED);
+
+        // 배송
+        allow(SHIPPED, SHIP, SHIPPED);
+        allow(SHIPPED, DELIVER, DELIVERED);
+        allow(DELIVERED, DELIVER, DELIVERED);
+
+        // 취소된 주문에 늦게 도착한 취소/실패 알림은 무시
+        allow(CANCELLED, CANCEL, CANCELLED);
+        allow(CANCELLED, PAYMENT_FAILED, CANCELLED);
+    }
+
+    private OrderTransitions() {
+    }
+
+    /**
+     * @return 다음 상태, 허용되지 않는 전이면 null
+     */
+    public static OrderStatus next(OrderStatus current, OrderEvent event) {
+        return MATRIX[current.ordinal()][event.ordinal()];
+    }
+
+    public static boolean isAllowed(OrderStatus current, OrderEvent event) {
+        return next(current, event) != null;
+    }
+
+    private static void allow(OrderStatus from, OrderEvent event, OrderStatus to) {
+        if (MATRIX[from.ordinal()][event.ordinal()] != null) {
+            throw new ExceptionInInitializerError("중복된 전이 정의: " + from + " --" + event + "-->");
+        }
+        MATRIX[from.ordinal()][event.ordinal()] = to;
+    }
+}
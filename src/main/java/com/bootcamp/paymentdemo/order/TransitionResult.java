@@ -0,0 +1,21 @@
+package com.bootcamp.paymentdemo.order;
+
+/**
+ * 상태 전이 시도 결과
+ *
+ * @param from    전이 시도 시점의 상태 (등록되지 않은 주문이면 null)
+ * @param to      전이 후 상태 (거부되었으면 from과 같음)
+ * @param outcome APPLIED: 상태 변경 / UNCHANGED: 이미 반영된 사건(중복) / REJECTED: 허용되지 않는 전이
+ */
+public record TransitionResult(long orderId, OrderEvent event, OrderStatus from, OrderStatus to, Outcome outcome) {
+
+    public enum Outcome { APPLIED, UNCHANGED, REJECTED }
+
+    public boolean isRejected() {
+        return outcome == Outcome.REJECTED;
+    }
+
+    public boolean isChanged() {
+        return outcome == Outcome.APPLIED;
+    }
+}
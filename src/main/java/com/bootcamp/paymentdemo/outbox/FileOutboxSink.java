@@ -0,0 +1,64 @@
+package com.bootcamp.paymentdemo.outbox;
+
+import com.bootcamp.paymentdemo.config.OutboxProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 전달된 이벤트를 JSON Lines 파일에 기록하는 싱크 (테스트/개발용)
+ * app.outbox.file-sink.enabled=true일 때만 등록됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.outbox.file-sink", name = "enabled", havingValue = "true")
+public class FileOutboxSink implements OutboxSink {
+
+    private final JsonMapper jsonMapper;
+    private final FileChannel channel;
+
+    public FileOutboxSink(OutboxProperties properties, JsonMapper jsonMapper) throws IOException {
+        this.jsonMapper = jsonMapper;
+        Path path = Path.of(properties.getFileSink().getPath()).toAbsolutePath();
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        log.info("아웃박스 파일 싱크: {}", path);
+    }
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    public void deliver(List<OutboxEvent> events) throws IOException {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream(events.size() * 256);
+        for (OutboxEvent event : events) {
+            lines.writeBytes(jsonMapper.writeValueAsBytes(event));
+            lines.write('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        channel.close();
+    }
+}
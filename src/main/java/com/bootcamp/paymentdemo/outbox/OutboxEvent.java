@@ -0,0 +1,16 @@
+package com.bootcamp.paymentdemo.outbox;
+
+import tools.jackson.databind.JsonNode;
+
+/**
+ * 아웃박스에서 싱크로 전달되는 이벤트
+ * sequence는 로그 전체에서 단조 증가하므로, 재시작 후 같은 이벤트가 다시 전달되면 싱크 쪽에서 이 값으로 걸러낼 수 있습니다.
+ *
+ * @param sequence  로그 시퀀스
+ * @param timestamp 기록 시각 (epoch millis)
+ * @param type      이벤트 종류 (payment.confirmed 등)
+ * @param key       대상 식별자 (paymentId 등) - 같은 key의 이벤트는 기록 순서대로 전달됨
+ * @param data      이벤트 본문
+ */
+public record OutboxEvent(long sequence, long timestamp, String type, String key, JsonNode data) {
+}
@@ -0,0 +1,412 @@
+package com.bootcamp.paymentdemo.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 아웃박스 append-only 로그 (메모리 매핑 세그먼트 파일 + 그룹 커밋)
+ * 레코드: [length:int][crc:int][sequence:long][timestamp:long][payload] - 8바이트 단위로 정렬
+ * - append는 짧은 락 안에서 매핑된 버퍼에 복사만 하고, length를 마지막에 release로 기록
+ * - 커밋 스레드 하나가 밀린 기록을 한 번의 force()로 디스크에 내리고 기다리던 스레드를 모두 깨움 (그룹 커밋)
+ *   force 중에 들어온 기록은 다음 force에 함께 묶이므로 동시 요청이 많을수록 건당 비용이 줄어듦
+ * - 세그먼트에 남은 공간이 부족하면 끝 표시(-1)를 남기고 다음 세그먼트로 넘어감
+ * - 위치는 세그먼트 번호 * 세그먼트 크기 + 오프셋의 전역 값으로 다룸
+ * 읽기(릴레이)는 커밋된 위치까지만 합니다. 재시작 시 length가 0이거나 CRC가 맞지 않는 곳에서 끝난 것으로 봅니다.
+ */
+@Slf4j
+class OutboxLog implements AutoCloseable {
+
+    static final int HEADER_SIZE = 24;
+    private static final int END_OF_SEGMENT = -1;
+    private static final String SUFFIX = ".outbox";
+    private static final VarHandle INT_VIEW = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    interface RecordConsumer {
+        void accept(long sequence, long timestamp, byte[] payload);
+    }
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+
+    // append 직렬화 (버퍼 복사만 하므로 짧음)
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private volatile Segment current;
+    private int offset;
+    private volatile long lastSequence;
+    private volatile long written;
+
+    // 그룹 커밋
+    private final ReentrantLock commitLock = new ReentrantLock();
+    private final Condition committedCondition = commitLock.newCondition();
+    // 읽기 한도(위치)와 대기 기준(시퀀스)
+    private volatile long committed;
+    private volatile long committedSequence;
+    private volatile boolean running;
+    private Thread committer;
+    private Runnable commitListener = () -> {
+    };
+
+    private final LongAdder commitCount = new LongAdder();
+
+    OutboxLog(Path directory, long segmentBytes) throws IOException {
+        this.directory = directory.toAbsolutePath();
+        this.segmentBytes = (int) Math.min(Integer.MAX_VALUE, Math.max(64 * 1024, segmentBytes)) & ~7;
+        Files.createDirectories(this.directory);
+        recover();
+    }
+
+    /**
+     * 커밋 스레드 시작 - listener는 커밋될 때마다 호출 (릴레이 깨우기용)
+     */
+    void start(Runnable listener) {
+        this.commitListener = listener;
+        running = true;
+        committer = new Thread(this::commitLoop, "outbox-committer");
+        committer.setDaemon(true);
+        committer.start();
+    }
+
+    /**
+     * 레코드 추가
+     *
+     * @return 레코드 시퀀스 (awaitCommitted에 사용)
+     */
+    long append(long timestamp, byte[] payload) {
+        int size = align(HEADER_SIZE + payload.length);
+        if (size > segmentBytes) {
+            throw new IllegalArgumentException("아웃박스 레코드가 세그먼트보다 큽니다: " + payload.length + " bytes");
+        }
+
+        long sequence;
+        appendLock.lock();
+        try {
+            if (offset + size > segmentBytes) {
+                roll();
+            }
+            Segment segment = current;
+            sequence = lastSequence + 1;
+            MappedByteBuffer buffer = segment.buffer;
+            buffer.putInt(offset + 4, crc(sequence, timestamp, payload));
+            buffer.putLong(offset + 8, sequence);
+            buffer.putLong(offset + 16, timestamp);
+            buffer.put(offset + HEADER_SIZE, payload);
+            INT_VIEW.setRelease(buffer, offset, payload.length);
+
+            offset += size;
+            lastSequence = sequence;
+            written = position(segment.index, offset);
+        } finally {
+            appendLock.unlock();
+        }
+        LockSupport.unpark(committer);
+        return sequence;
+    }
+
+    /**
+     * sequence까지 디스크에 내려갈 때까지 대기
+     *
+     * @return 시간 안에 커밋되면 true
+     */
+    boolean awaitCommitted(long sequence, long timeoutNanos) throws InterruptedException {
+        if (committedSequence >= sequence) {
+            return true;
+        }
+        commitLock.lock();
+        try {
+            long remaining = timeoutNanos;
+            while (committedSequence < sequence) {
+                if (remaining <= 0 || !running) {
+                    return false;
+                }
+                remaining = committedCondition.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    /**
+     * position부터 커밋된 레코드를 최대 maxRecords개 읽음
+     *
+     * @return 다음에 읽을 위치
+     */
+    long read(long position, int maxRecords, RecordConsumer consumer) {
+        long limit = committed;
+        int count = 0;
+        while (count < maxRecords && position < limit) {
+            long index = position / segmentBytes;
+            int recordOffset = (int) (position % segmentBytes);
+            Segment segment = segments.get(index);
+            if (segment == null) {
+                Long next = segments.ceilingKey(index + 1);
+                if (next == null) {
+                    break;
+                }
+                position = next * segmentBytes;
+                continue;
+            }
+
+            int length = recordOffset + HEADER_SIZE > segmentBytes
+                ? END_OF_SEGMENT : (int) INT_VIEW.getAcquire(segment.buffer, recordOffset);
+            if (length == END_OF_SEGMENT) {
+                position = (index + 1) * segmentBytes;
+                continue;
+            }
+            if (length <= 0) {
+                break;
+            }
+
+            byte[] payload = new byte[length];
+            segment.buffer.get(recordOffset + HEADER_SIZE, payload);
+            consumer.accept(segment.buffer.getLong(recordOffset + 8), segment.buffer.getLong(recordOffset + 16), payload);
+            position += align(HEADER_SIZE + length);
+            count++;
+        }
+        return position;
+    }
+
+    /**
+     * position 앞쪽의 다 읽은 세그먼트 삭제 (현재 쓰는 세그먼트는 제외)
+     */
+    void release(long position) {
+        long currentIndex = current.index;
+        long upTo = Math.min(position / segmentBytes, currentIndex);
+        for (Map.Entry<Long, Segment> entry : segments.headMap(upTo).entrySet()) {
+            Segment segment = segments.remove(entry.getKey());
+            if (segment != null) {
+                segment.close();
+                try {
+                    Files.deleteIfExists(segment.path);
+                } catch (IOException e) {
+                    log.warn("아웃박스 세그먼트 삭제 실패: {} - {}", segment.path, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 남아 있는 가장 앞 레코드의 위치
+     */
+    long firstPosition() {
+        return position(segments.firstKey(), 0);
+    }
+
+    long getLastSequence() {
+        return lastSequence;
+    }
+
+    long getCommitCount() {
+        return commitCount.sum();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        if (committer != null) {
+            LockSupport.unpark(committer);
+            try {
+                committer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        commit();
+        segments.values().forEach(Segment::close);
+    }
+
+    private void commitLoop() {
+        while (running) {
+            if (!commit()) {
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(100));
+            }
+        }
+    }
+
+    /**
+     * 밀린 기록을 한 번에 디스크로 내리고 대기 중인 스레드를 깨움
+     */
+    private boolean commit() {
+        // 시퀀스를 먼저 읽음 - 그 레코드는 lastSequence 갱신 전에 버퍼에 복사되었으므로 이번 force에 포함됨
+        long targetSequence = lastSequence;
+        long target = written;
+        if (target <= committed) {
+            return false;
+        }
+        // 이전 세그먼트는 roll()에서 이미 force됨
+        current.buffer.force();
+        commitCount.increment();
+
+        commitLock.lock();
+        try {
+            committed = target;
+            committedSequence = targetSequence;
+            committedCondition.signalAll();
+        } finally {
+            commitLock.unlock();
+        }
+        commitListener.run();
+        return true;
+    }
+
+    private void roll() {
+        Segment full = current;
+        if (offset + HEADER_SIZE <= segmentBytes) {
+            INT_VIEW.setRelease(full.buffer, offset, END_OF_SEGMENT);
+        }
+        full.buffer.force();
+        try {
+            Segment next = Segment.map(segmentPath(full.index + 1), full.index + 1, segmentBytes);
+            segments.put(next.index, next);
+            current = next;
+            offset = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("아웃박스 세그먼트 생성 실패", e);
+        }
+    }
+
+    /**
+     * 기존 세그먼트를 훑어 마지막 시퀀스와 이어 쓸 위치를 찾음
+     * 마지막 세그먼트의 이어 쓸 위치부터 끝까지는 0으로 지우고 force한 뒤에 append를 받음
+     * (크래시로 남은 꼬리 레코드가 새 기록과 섞여 다음 복구 때 유효한 레코드로 읽히지 않도록)
+     */
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(path -> path.getFileName().toString().endsWith(SUFFIX)).sorted().toList();
+        }
+
+        Segment last = null;
+        int lastOffset = 0;
+        for (Path path : files) {
+            Segment segment = Segment.map(path, indexOf(path), segmentBytes);
+            segments.put(segment.index, segment);
+            int scan = 0;
+            while (scan + HEADER_SIZE <= segmentBytes) {
+                int length = segment.buffer.getInt(scan);
+                if (length <= 0 || scan + HEADER_SIZE + length > segmentBytes) {
+                    break;
+                }
+                long sequence = segment.buffer.getLong(scan + 8);
+                byte[] payload = new byte[length];
+                segment.buffer.get(scan + HEADER_SIZE, payload);
+                if (crc(sequence, segment.buffer.getLong(scan + 16), payload) != segment.buffer.getInt(scan + 4)) {
+                    log.warn("아웃박스 손상 레코드에서 중단: {} @{}", path.getFileName(), scan);
+                    break;
+                }
+                lastSequence = sequence;
+                scan += align(HEADER_SIZE + length);
+            }
+            last = segment;
+            lastOffset = scan;
+        }
+
+        if (last == null) {
+            last = Segment.map(segmentPath(0), 0, segmentBytes);
+            segments.put(0L, last);
+        }
+        if (clearTail(last.buffer, lastOffset)) {
+            last.buffer.force();
+            log.info("아웃박스 세그먼트 꼬리 정리: {} @{}", last.path.getFileName(), lastOffset);
+        }
+        current = last;
+        offset = lastOffset;
+        written = position(last.index, lastOffset);
+        committed = written;
+        committedSequence = lastSequence;
+        log.info("아웃박스 로그 복구: 세그먼트 {}개, 마지막 시퀀스 {}", segments.size(), lastSequence);
+    }
+
+    /**
+     * from부터 세그먼트 끝까지 0이 아닌 곳만 지움 (빈 페이지를 불필요하게 더럽히지 않도록)
+     */
+    private boolean clearTail(MappedByteBuffer buffer, int from) {
+        boolean dirty = false;
+        for (int position = from; position < segmentBytes; position += 8) {
+            if (buffer.getLong(position) != 0) {
+                buffer.putLong(position, 0);
+                dirty = true;
+            }
+        }
+        return dirty;
+    }
+
+    private long position(long index, int recordOffset) {
+        return index * segmentBytes + recordOffset;
+    }
+
+    private Path segmentPath(long index) {
+        return directory.resolve(String.format("events-%08d%s", index, SUFFIX));
+    }
+
+    private static long indexOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring("events-".length(), name.length() - SUFFIX.length()));
+    }
+
+    private static int align(int size) {
+        return (size + 7) & ~7;
+    }
+
+    private static int crc(long sequence, long timestamp, byte[] payload) {
+        CRC32C crc = new CRC32C();
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            crc.update((int) (sequence >>> shift));
+        }
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            crc.update((int) (timestamp >>> shift));
+        }
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static final class Segment {
+        final long index;
+        final Path path;
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+
+        private Segment(long index, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.index = index;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment map(Path path, long index, int size) throws IOException {
+            FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            return new Segment(index, path, channel, buffer);
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("아웃박스 세그먼트 닫기 실패: {}", e.getMessage());
+            }
+        }
+    }
+}
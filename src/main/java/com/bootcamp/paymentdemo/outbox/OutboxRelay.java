@@ -0,0 +1,199 @@
+package com.bootcamp.paymentdemo.outbox;
+
+import com.bootcamp.paymentdemo.config.OutboxProperties;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 아웃박스 릴레이 - 커밋된 레코드를 배치로 읽어 모든 싱크에 전달
+ * - 배치를 모든 싱크가 받은 뒤에만 위치를 체크포인트 파일에 기록하고 지난 세그먼트를 정리
+ * - 실패한 싱크에만 같은 배치를 재시도 (간격은 두 배씩 늘어남)
+ * 싱크 수/속도는 요청 스레드와 무관하며, 느린 싱크는 뒤 배치의 전달만 늦춥니다.
+ */
+@Slf4j
+class OutboxRelay implements Runnable {
+
+    private static final String CHECKPOINT_FILE = "relay.checkpoint";
+
+    private final OutboxLog outboxLog;
+    private final List<OutboxSink> sinks;
+    private final OutboxProperties properties;
+    private final JsonMapper jsonMapper;
+    private final FileChannel checkpoint;
+    private final ByteBuffer checkpointBuffer = ByteBuffer.allocate(16);
+
+    private volatile boolean running = true;
+    private volatile long deliveredSequence;
+    private long position;
+    private Thread thread;
+
+    private final LongAdder deliveredCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+
+    OutboxRelay(OutboxLog outboxLog, List<OutboxSink> sinks, OutboxProperties properties,
+                JsonMapper jsonMapper, Path directory) throws IOException {
+        this.outboxLog = outboxLog;
+        this.sinks = List.copyOf(sinks);
+        this.properties = properties;
+        this.jsonMapper = jsonMapper;
+        this.checkpoint = FileChannel.open(directory.resolve(CHECKPOINT_FILE),
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        ByteBuffer saved = ByteBuffer.allocate(16);
+        if (checkpoint.read(saved, 0) == 16) {
+            saved.flip();
+            position = saved.getLong();
+            deliveredSequence = saved.getLong();
+        }
+        // 체크포인트 이전 세그먼트가 이미 지워졌으면 남은 첫 위치부터
+        position = Math.max(position, outboxLog.firstPosition());
+    }
+
+    void start() {
+        thread = new Thread(this, "outbox-relay");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 새 커밋이 있을 때 대기 중인 릴레이를 깨움
+     */
+    void wakeUp() {
+        Thread relayThread = thread;
+        if (relayThread != null) {
+            LockSupport.unpark(relayThread);
+        }
+    }
+
+    void stop() {
+        running = false;
+        Thread relayThread = thread;
+        if (relayThread != null) {
+            relayThread.interrupt();
+            try {
+                relayThread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            checkpoint.close();
+        } catch (IOException e) {
+            log.warn("아웃박스 체크포인트 닫기 실패: {}", e.getMessage());
+        }
+    }
+
+    long getDeliveredSequence() {
+        return deliveredSequence;
+    }
+
+    long getDeliveredCount() {
+        return deliveredCount.sum();
+    }
+
+    long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    @Override
+    public void run() {
+        List<OutboxEvent> batch = new ArrayList<>(properties.getRelayBatchSize());
+        long pollNanos = properties.getRelayPollInterval().toNanos();
+        while (running) {
+            batch.clear();
+            long next = outboxLog.read(position, properties.getRelayBatchSize(),
+                (sequence, timestamp, payload) -> decode(sequence, timestamp, payload, batch));
+            if (next == position) {
+                LockSupport.parkNanos(this, pollNanos);
+                continue;
+            }
+
+            if (!batch.isEmpty() && !deliver(batch)) {
+                return;
+            }
+            position = next;
+            if (!batch.isEmpty()) {
+                deliveredSequence = batch.get(batch.size() - 1).sequence();
+                deliveredCount.add(batch.size());
+            }
+            saveCheckpoint();
+            outboxLog.release(position);
+        }
+    }
+
+    /**
+     * 모든 싱크가 배치를 받을 때까지 재시도
+     *
+     * @return 종료 요청으로 중단되면 false
+     */
+    private boolean deliver(List<OutboxEvent> batch) {
+        List<OutboxSink> pending = new ArrayList<>(sinks);
+        long backoff = properties.getRetryBackoff().toMillis();
+        while (true) {
+            pending.removeIf(sink -> tryDeliver(sink, batch));
+            if (pending.isEmpty()) {
+                return true;
+            }
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            backoff = Math.min(backoff * 2, properties.getMaxRetryBackoff().toMillis());
+            if (!running) {
+                return false;
+            }
+        }
+    }
+
+    private boolean tryDeliver(OutboxSink sink, List<OutboxEvent> batch) {
+        try {
+            sink.deliver(batch);
+            return true;
+        } catch (Exception e) {
+            failureCount.increment();
+            log.warn("아웃박스 전달 실패 [{}] 시퀀스 {}~{}: {}", sink.name(),
+                batch.get(0).sequence(), batch.get(batch.size() - 1).sequence(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void decode(long sequence, long timestamp, byte[] payload, List<OutboxEvent> batch) {
+        try {
+            JsonNode node = jsonMapper.readTree(payload);
+            batch.add(new OutboxEvent(sequence, timestamp,
+                node.path("type").asString(), node.path("key").asString(), node.path("data")));
+        } catch (JacksonException e) {
+            // CRC를 통과한 레코드라 정상적으로는 발생하지 않음 - 건너뛰고 계속 진행
+            log.error("아웃박스 레코드 해석 실패 (시퀀스 {}): {}", sequence, e.getOriginalMessage());
+        }
+    }
+
+    private void saveCheckpoint() {
+        checkpointBuffer.clear();
+        checkpointBuffer.putLong(position).putLong(deliveredSequence).flip();
+        try {
+            while (checkpointBuffer.hasRemaining()) {
+                checkpoint.write(checkpointBuffer, checkpointBuffer.position());
+            }
+            checkpoint.force(false);
+        } catch (IOException e) {
+            // 다음 배치에서 다시 기록 - 재시작 시 일부 이벤트가 다시 전달될 수 있음
+            log.warn("아웃박스 체크포인트 기록 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.bootcamp.paymentdemo.outbox;
+
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트를 받는 하위 소비자 (메일, 분석, 원장 연동 등)
+ * 이 타입의 빈을 등록하면 릴레이가 배치 단위로 호출합니다.
+ * - 예외를 던지면 같은 배치를 잠시 후 다시 전달 (이미 성공한 다른 싱크에는 다시 보내지 않음)
+ * - 전달은 최소 한 번(at-least-once)이므로 sequence 기준으로 중복을 무시할 수 있어야 합니다.
+ * - 릴레이 스레드 하나가 순서대로 호출하므로 구현체가 스레드 안전할 필요는 없습니다.
+ */
+public interface OutboxSink {
+
+    String name();
+
+    void deliver(List<OutboxEvent> events) throws Exception;
+}
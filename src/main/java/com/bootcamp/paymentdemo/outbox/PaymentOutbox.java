@@ -0,0 +1,139 @@
+package com.bootcamp.paymentdemo.outbox;
+
+import com.bootcamp.paymentdemo.config.OutboxProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 결제 이벤트 아웃박스
+ * 결제 상태가 바뀐 직후 record()로 이벤트를 남기면, 하위 소비자(OutboxSink 빈)에는 릴레이 스레드가 따로 전달합니다.
+ * 요청 스레드는 로그에 한 번 기록(+ 그룹 커밋 대기)만 하므로 응답 시간이 싱크 수나 싱크 지연과 무관합니다.
+ *
+ * 사용 예 (confirm-payment 구현 시):
+ * <pre>
+ * paymentOutbox.record(PaymentOutbox.PAYMENT_CONFIRMED, paymentId, Map.of("orderId", orderId, "amount", amount));
+ * </pre>
+ */
+@Slf4j
+@Component
+public class PaymentOutbox {
+
+    public static final String PAYMENT_CONFIRMED = "payment.confirmed";
+    public static final String PAYMENT_CANCELLED = "payment.cancelled";
+    public static final String PAYMENT_FAILED = "payment.failed";
+    public static final String PAYMENT_REFUND_REQUIRED = "payment.refund-required";
+    public static final String BILLING_CREATED = "billing.created";
+    public static final String BILLING_CHARGED = "billing.charged";
+    public static final String BILLING_FAILED = "billing.failed";
+
+    private final OutboxProperties properties;
+    private final JsonMapper jsonMapper;
+    private final ObjectProvider<OutboxSink> sinkProvider;
+
+    private OutboxLog outboxLog;
+    private OutboxRelay relay;
+
+    private final LongAdder recordedCount = new LongAdder();
+    private final LongAdder commitTimeoutCount = new LongAdder();
+
+    public PaymentOutbox(OutboxProperties properties, JsonMapper jsonMapper, ObjectProvider<OutboxSink> sinkProvider) {
+        this.properties = properties;
+        this.jsonMapper = jsonMapper;
+        this.sinkProvider = sinkProvider;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!properties.isEnabled()) {
+            log.info("아웃박스 비활성화 (app.outbox.enabled=false)");
+            return;
+        }
+        Path directory = Path.of(properties.getDir()).toAbsolutePath();
+        List<OutboxSink> sinks = sinkProvider.orderedStream().toList();
+
+        outboxLog = new OutboxLog(directory, properties.getSegmentBytes());
+        relay = new OutboxRelay(outboxLog, sinks, properties, jsonMapper, directory);
+        outboxLog.start(relay::wakeUp);
+        relay.start();
+        log.info("아웃박스 시작 - 싱크: {}", sinks.stream().map(OutboxSink::name).toList());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (relay != null) {
+            relay.stop();
+        }
+        if (outboxLog != null) {
+            outboxLog.close();
+        }
+    }
+
+    /**
+     * 이벤트 기록
+     * await-commit이 켜져 있으면 디스크에 내려갈 때까지(다른 기록과 묶어 한 번에) 기다립니다.
+     *
+     * @param type 이벤트 종류 (PAYMENT_CONFIRMED 등)
+     * @param key  대상 식별자 (paymentId 등)
+     * @param data 이벤트 본문 (JSON으로 직렬화 가능한 객체)
+     * @return 로그 시퀀스 (비활성화 상태면 0)
+     */
+    public long record(String type, String key, Object data) {
+        if (outboxLog == null) {
+            return 0;
+        }
+        ObjectNode event = jsonMapper.createObjectNode();
+        event.put("type", type);
+        event.put("key", key);
+        event.set("data", jsonMapper.valueToTree(data));
+
+        long sequence = outboxLog.append(System.currentTimeMillis(), jsonMapper.writeValueAsBytes(event));
+        recordedCount.increment();
+        if (properties.isAwaitCommit()) {
+            try {
+                if (!outboxLog.awaitCommitted(sequence, properties.getCommitTimeout().toNanos())) {
+                    commitTimeoutCount.increment();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return sequence;
+    }
+
+    public long getRecordedCount() {
+        return recordedCount.sum();
+    }
+
+    public long getCommitCount() {
+        return outboxLog == null ? 0 : outboxLog.getCommitCount();
+    }
+
+    public long getCommitTimeoutCount() {
+        return commitTimeoutCount.sum();
+    }
+
+    public long getDeliveredCount() {
+        return relay == null ? 0 : relay.getDeliveredCount();
+    }
+
+    public long getDeliveryFailureCount() {
+        return relay == null ? 0 : relay.getFailureCount();
+    }
+
+    /**
+     * 기록됐지만 아직 모든 싱크에 전달되지 않은 이벤트 수
+     */
+    public long getBacklog() {
+        return relay == null ? 0 : Math.max(0, outboxLog.getLastSequence() - relay.getDeliveredSequence());
+    }
+}
@@ -0,0 +1,73 @@
+package com.bootcamp.paymentdemo.outbox;
+
+import com.bootcamp.paymentdemo.billing.BillingCompletedEvent;
+import com.bootcamp.paymentdemo.billing.BillingTarget;
+import com.bootcamp.paymentdemo.order.LatePaymentEvent;
+import com.bootcamp.paymentdemo.webhook.PaymentStatusUpdate;
+import com.bootcamp.paymentdemo.webhook.PaymentWebhookBatchEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 이미 발행되고 있는 결제 상태 변경 이벤트를 아웃박스에 기록
+ * - 웹훅으로 확인된 결제 상태 (PAID / CANCELLED / FAILED)
+ * - 정기 결제 청구 결과
+ * - 취소된 주문에 늦게 도착한 결제의 환불 요청 (LatePaymentRefunder 싱크가 처리)
+ * confirm-payment / cancel-payment / create-billing 구현에서는 PaymentOutbox.record()를 직접 호출하면 됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentOutboxListener {
+
+    private final PaymentOutbox paymentOutbox;
+
+    @EventListener
+    public void onPaymentWebhookBatch(PaymentWebhookBatchEvent event) {
+        for (PaymentStatusUpdate update : event.getUpdates()) {
+            if (update.getStatus() == null) {
+                continue;
+            }
+            String type = switch (update.getStatus()) {
+                case "PAID" -> PaymentOutbox.PAYMENT_CONFIRMED;
+                case "CANCELLED" -> PaymentOutbox.PAYMENT_CANCELLED;
+                case "FAILED" -> PaymentOutbox.PAYMENT_FAILED;
+                default -> null;
+            };
+            if (type != null) {
+                Map<String, Object> data = new LinkedHashMap<>();
+                data.put("status", update.getStatus());
+                data.put("webhookType", update.getWebhookType());
+                data.put("source", "webhook");
+                paymentOutbox.record(type, update.getPaymentId(), data);
+            }
+        }
+    }
+
+    @EventListener
+    public void onBillingCompleted(BillingCompletedEvent event) {
+        BillingTarget target = event.getTarget();
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("subscriptionId", target.getSubscriptionId());
+        data.put("customerUid", target.getCustomerUid());
+        data.put("amount", target.getAmount());
+        data.put("periodStart", target.getPeriodStart().toString());
+        data.put("periodEnd", target.getPeriodEnd().toString());
+        if (!event.isSuccess()) {
+            data.put("failureMessage", event.getFailureMessage());
+        }
+        paymentOutbox.record(event.isSuccess() ? PaymentOutbox.BILLING_CHARGED : PaymentOutbox.BILLING_FAILED,
+            event.getPaymentId(), data);
+    }
+
+    @EventListener
+    public void onLatePayment(LatePaymentEvent event) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("orderId", event.getOrderId());
+        data.put("source", "webhook");
+        paymentOutbox.record(PaymentOutbox.PAYMENT_REFUND_REQUIRED, event.getPaymentId(), data);
+    }
+}
@@ -0,0 +1,33 @@
+package com.bootcamp.paymentdemo.pagination;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * keyset 페이지네이션 커서
+ * 정렬 키(예: createdAt epoch millis)와 동률을 끊는 고유 ID로 마지막 행 위치를 나타냅니다.
+ * 다음 페이지 조회: WHERE (sort_key, id) < (:sortKey, :id) ORDER BY sort_key DESC, id DESC LIMIT :limit + 1
+ */
+public record KeysetCursor(long sortKey, String id) {
+
+    public String encode() {
+        String raw = sortKey + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws ResponseStatusException 400 - 형식이 잘못된 커서
+     */
+    public static KeysetCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new KeysetCursor(Long.parseLong(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.bootcamp.paymentdemo.pagination;
+
+import lombok.Value;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 한 페이지 조회 결과
+ */
+@Value
+public class KeysetPage<T> {
+    List<T> items;
+    // 마지막 페이지면 null
+    String nextCursor;
+
+    /**
+     * limit + 1건으로 조회한 결과에서 페이지를 만듦
+     * 초과분이 있으면 마지막으로 반환되는 행의 위치가 다음 커서가 됩니다.
+     */
+    public static <T> KeysetPage<T> of(List<T> fetched, int limit, Function<T, KeysetCursor> cursorOf) {
+        if (fetched.size() <= limit) {
+            return new KeysetPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, limit);
+        return new KeysetPage<>(items, cursorOf.apply(items.get(limit - 1)).encode());
+    }
+}
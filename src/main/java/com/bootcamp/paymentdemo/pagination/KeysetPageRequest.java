@@ -0,0 +1,50 @@
+package com.bootcamp.paymentdemo.pagination;
+
+import com.bootcamp.paymentdemo.config.ClientApiProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Value;
+
+/**
+ * 요청의 커서/페이지 크기 파라미터 (파라미터명과 한도는 계약의 pagination 설정을 따름)
+ */
+@Value
+public class KeysetPageRequest {
+
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_LIMIT = 200;
+
+    // 첫 페이지면 null
+    KeysetCursor cursor;
+    int limit;
+
+    public static KeysetPageRequest from(HttpServletRequest request, ClientApiProperties.PaginationSchema pagination) {
+        String cursorParam = pagination != null && pagination.getCursorParam() != null ? pagination.getCursorParam() : "cursor";
+        String limitParam = pagination != null && pagination.getLimitParam() != null ? pagination.getLimitParam() : "limit";
+        int defaultLimit = pagination != null && pagination.getDefaultLimit() != null ? pagination.getDefaultLimit() : DEFAULT_LIMIT;
+        int maxLimit = pagination != null && pagination.getMaxLimit() != null ? pagination.getMaxLimit() : MAX_LIMIT;
+
+        String cursor = request.getParameter(cursorParam);
+        return new KeysetPageRequest(
+            cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor),
+            clamp(request.getParameter(limitParam), defaultLimit, maxLimit)
+        );
+    }
+
+    /**
+     * 다음 페이지 존재 여부 판단을 위해 한 건 더 조회할 개수
+     */
+    public int getFetchSize() {
+        return limit + 1;
+    }
+
+    private static int clamp(String value, int defaultLimit, int maxLimit) {
+        if (value == null || value.isBlank()) {
+            return defaultLimit;
+        }
+        try {
+            return Math.max(1, Math.min(Integer.parseInt(value.trim()), maxLimit));
+        } catch (NumberFormatException e) {
+            return defaultLimit;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.bootcamp.paymentdemo.pagination;
+
+import com.bootcamp.paymentdemo.config.ClientApiProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 페이지/스트리밍 응답 생성 헬퍼 (list-orders, list-billing-history 구현용)
+ *
+ * 사용 예:
+ * <pre>
+ * if (PagedResponses.wantsStream(request, pagination)) {
+ *     return PagedResponses.ndjson(jsonMapper, sink -> orderRepository.streamByCustomer(customerId, sink));
+ * }
+ * KeysetPageRequest pageRequest = KeysetPageRequest.from(request, pagination);
+ * List&lt;OrderDto&gt; rows = orderRepository.findPage(customerId, pageRequest.getCursor(), pageRequest.getFetchSize());
+ * return PagedResponses.page(KeysetPage.of(rows, pageRequest.getLimit(), OrderDto::cursor), pagination);
+ * </pre>
+ */
+public final class PagedResponses {
+
+    public static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final String DEFAULT_NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int FLUSH_EVERY_ROWS = 100;
+
+    private PagedResponses() {
+    }
+
+    /**
+     * 행을 읽는 대로 sink에 넘기는 데이터 소스
+     * 스트리밍 응답을 쓰는 동안 호출되므로, DB 커서/트랜잭션은 이 안에서 열고 닫아야 합니다.
+     */
+    @FunctionalInterface
+    public interface RowSource<T> {
+        void forEach(Consumer<? super T> sink) throws IOException;
+    }
+
+    public static boolean wantsStream(HttpServletRequest request, ClientApiProperties.PaginationSchema pagination) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        String mediaType = pagination != null && pagination.getStreamMediaType() != null
+            ? pagination.getStreamMediaType() : NDJSON.toString();
+        return accept != null && accept.contains(mediaType);
+    }
+
+    /**
+     * 다음 커서는 헤더로 반환
+     * 본문은 pagination.itemsField가 있으면 그 필드에 목록을 담은 객체(예: { "billings": [...] }), 없으면 배열 그대로
+     */
+    public static <T> ResponseEntity<Object> page(KeysetPage<T> page, ClientApiProperties.PaginationSchema pagination) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            String header = pagination != null && pagination.getNextCursorHeader() != null
+                ? pagination.getNextCursorHeader() : DEFAULT_NEXT_CURSOR_HEADER;
+            builder.header(header, page.getNextCursor());
+        }
+        String itemsField = pagination != null ? pagination.getItemsField() : null;
+        if (itemsField == null || itemsField.isBlank()) {
+            return builder.body(page.getItems());
+        }
+        return builder.body(Map.of(itemsField, page.getItems()));
+    }
+
+    /**
+     * NDJSON 스트리밍 응답 - 목록을 메모리에 모으지 않고 한 줄에 한 건씩 바로 기록
+     */
+    public static <T> ResponseEntity<StreamingResponseBody> ndjson(JsonMapper jsonMapper, RowSource<T> rows) {
+        ObjectWriter writer = jsonMapper.writer();
+        StreamingResponseBody body = out -> rows.forEach(new NdjsonSink<>(writer, out));
+        return ResponseEntity.ok()
+            .contentType(NDJSON)
+            .body(body);
+    }
+
+    private static final class NdjsonSink<T> implements Consumer<T> {
+        private final ObjectWriter writer;
+        private final OutputStream out;
+        private int pending;
+
+        private NdjsonSink(ObjectWriter writer, OutputStream out) {
+            this.writer = writer;
+            this.out = out;
+        }
+
+        @Override
+        public void accept(T row) {
+            try {
+                out.write(writer.writeValueAsBytes(row));
+                out.write('\n');
+                if (++pending >= FLUSH_EVERY_ROWS) {
+                    out.flush();
+                    pending = 0;
+                }
+            } catch (IOException e) {
+                // 클라이언트 연결 종료 등 - RowSource가 읽기를 멈추도록 전파
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
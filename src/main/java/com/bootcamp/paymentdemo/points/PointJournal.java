@@ -0,0 +1,244 @@
+package com.bootcamp.paymentdemo.points;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 포인트 변동 append-only 저널 (메모리 매핑 세그먼트 파일)
+ * 레코드는 32바이트 고정 길이: [type:int][checksum:int][customerId:long][amount:long][timestamp:long]
+ * - 기록 위치는 AtomicLong으로 예약하므로 여러 스레드가 락 없이 서로 다른 칸에 씀
+ * - type을 마지막에 써서 type이 0인 칸은 미완성 기록
+ * - 칸 예약과 기록 완료 순서가 다르므로 크래시 후 k번 칸은 비어 있고 k+1번 이후는 기록되어 있을 수 있음
+ *   → 재생은 세그먼트 전체를 훑어 빈 칸 / checksum이 맞지 않는 칸을 건너뛰고,
+ *     마지막 유효 기록 다음부터 이어 씀 (건너뛴 칸과 그 뒤 꼬리는 0으로 지워 다음 재생에서 다시 읽히지 않게 함)
+ * - 세그먼트가 가득 차면 다음 세그먼트 파일을 매핑 (이때만 락)
+ */
+@Slf4j
+class PointJournal implements AutoCloseable {
+
+    static final int TYPE_OPEN = 1;
+    static final int TYPE_CREDIT = 2;
+    static final int TYPE_DEBIT = 3;
+
+    private static final int RECORD_SIZE = 32;
+    private static final String SUFFIX = ".journal";
+    // type 칸을 release 순서로 기록해 나머지 필드보다 먼저 보이지 않게 함
+    private static final VarHandle INT_VIEW = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    interface Replayer {
+        void apply(int type, long customerId, long amount);
+    }
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final ReentrantLock rollLock = new ReentrantLock();
+
+    private volatile Segment current;
+
+    PointJournal(Path directory, long segmentBytes) throws IOException {
+        this.directory = directory.toAbsolutePath();
+        this.recordsPerSegment = (int) Math.max(1, segmentBytes / RECORD_SIZE);
+        Files.createDirectories(this.directory);
+    }
+
+    /**
+     * 기존 세그먼트를 순서대로 재생하고, 마지막 세그먼트의 이어 쓸 위치에서 열기
+     */
+    void replay(Replayer replayer) throws IOException {
+        List<Path> segments = listSegments();
+        long replayed = 0;
+        Segment last = null;
+
+        for (Path path : segments) {
+            Segment segment = Segment.map(path, indexOf(path), recordsPerSegment);
+            MappedByteBuffer buffer = segment.buffer;
+            BitSet valid = new BitSet(recordsPerSegment);
+            int end = 0;
+            int skipped = 0;
+            for (int record = 0; record < recordsPerSegment; record++) {
+                int offset = record * RECORD_SIZE;
+                int type = buffer.getInt(offset);
+                long customerId = buffer.getLong(offset + 8);
+                long amount = buffer.getLong(offset + 16);
+                if (isValid(type, buffer.getInt(offset + 4), customerId, amount, buffer.getLong(offset + 24))) {
+                    replayer.apply(type, customerId, amount);
+                    valid.set(record);
+                    end = record + 1;
+                    replayed++;
+                } else if (type != 0) {
+                    skipped++;
+                }
+            }
+            // 유효 기록 사이의 빈 칸 / 깨진 칸과 마지막 유효 기록 뒤를 모두 지움
+            int cleared = 0;
+            for (int record = 0; record < recordsPerSegment; record++) {
+                if (!valid.get(record) && clear(buffer, record * RECORD_SIZE)) {
+                    cleared++;
+                }
+            }
+            if (cleared > 0) {
+                buffer.force();
+                log.warn("포인트 저널 {}: 미완성 / 손상된 칸 {}개 정리 (손상 {}개)", path.getFileName(), cleared, skipped);
+            }
+            segment.next.set(end);
+            if (last != null) {
+                last.close();
+            }
+            last = segment;
+        }
+
+        current = last != null ? last : Segment.map(segmentPath(0), 0, recordsPerSegment);
+        log.info("포인트 저널 재생 완료: {}건", replayed);
+    }
+
+    void append(int type, long customerId, long amount) {
+        while (true) {
+            Segment segment = current;
+            long record = segment.next.getAndIncrement();
+            if (record < recordsPerSegment) {
+                int offset = (int) record * RECORD_SIZE;
+                segment.buffer.putLong(offset + 8, customerId);
+                segment.buffer.putLong(offset + 16, amount);
+                long timestamp = System.currentTimeMillis();
+                segment.buffer.putLong(offset + 24, timestamp);
+                segment.buffer.putInt(offset + 4, checksum(type, customerId, amount, timestamp));
+                INT_VIEW.setRelease(segment.buffer, offset, type);
+                return;
+            }
+            roll(segment);
+        }
+    }
+
+    /**
+     * OS 페이지 캐시의 내용을 디스크로 내림 (주기적으로 호출)
+     */
+    void force() {
+        current.buffer.force();
+    }
+
+    @Override
+    public void close() {
+        Segment segment = current;
+        if (segment != null) {
+            segment.buffer.force();
+            segment.close();
+        }
+    }
+
+    private void roll(Segment full) {
+        rollLock.lock();
+        try {
+            if (current != full) {
+                return;
+            }
+            Segment next = Segment.map(segmentPath(full.index + 1), full.index + 1, recordsPerSegment);
+            full.buffer.force();
+            current = next;
+            // 채널을 닫아도 매핑은 유지되므로, 아직 옛 세그먼트에 쓰는 스레드에 영향 없음
+            full.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 저널 세그먼트 생성 실패", e);
+        } finally {
+            rollLock.unlock();
+        }
+    }
+
+    private static boolean isValid(int type, int checksum, long customerId, long amount, long timestamp) {
+        if (type < TYPE_OPEN || type > TYPE_DEBIT) {
+            return false;
+        }
+        return checksum == checksum(type, customerId, amount, timestamp);
+    }
+
+    /**
+     * 기록 경로에서 할당 없이 계산하는 64비트 혼합 해시 (0을 반환하지 않으므로 checksum이 지워진 칸은 항상 무효)
+     */
+    private static int checksum(int type, long customerId, long amount, long timestamp) {
+        long hash = type * 0x9E3779B97F4A7C15L;
+        hash = mix(hash ^ customerId);
+        hash = mix(hash ^ amount);
+        hash = mix(hash ^ timestamp);
+        int folded = (int) (hash ^ (hash >>> 32));
+        return folded == 0 ? 1 : folded;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+
+    /**
+     * 0이 아닌 칸만 지움 (빈 페이지를 불필요하게 더럽히지 않도록)
+     */
+    private static boolean clear(MappedByteBuffer buffer, int offset) {
+        boolean dirty = false;
+        for (int field = 0; field < RECORD_SIZE; field += 8) {
+            if (buffer.getLong(offset + field) != 0) {
+                buffer.putLong(offset + field, 0);
+                dirty = true;
+            }
+        }
+        return dirty;
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                .sorted()
+                .toList();
+        }
+    }
+
+    private Path segmentPath(long index) {
+        return directory.resolve(String.format("points-%08d%s", index, SUFFIX));
+    }
+
+    private static long indexOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring("points-".length(), name.length() - SUFFIX.length()));
+    }
+
+    private static final class Segment {
+        final long index;
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+        final AtomicLong next = new AtomicLong();
+
+        private Segment(long index, FileChannel channel, MappedByteBuffer buffer) {
+            this.index = index;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment map(Path path, long index, int records) throws IOException {
+            FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) records * RECORD_SIZE);
+            return new Segment(index, channel, buffer);
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("포인트 저널 세그먼트 닫기 실패: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.bootcamp.paymentdemo.points;
+
+import com.bootcamp.paymentdemo.config.PointProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 원장
+ * 고객별 잔액을 StripedBalanceTable에 두고 CAS로 차감/적립하며, 모든 변동을 PointJournal에 남깁니다.
+ * 시작 시 저널을 재생해 잔액을 복원합니다.
+ *
+ * - 잔액 조회(/api/auth/me)는 락 없음
+ * - 차감은 잔액이 부족하면 실패하고 잔액을 바꾸지 않음
+ */
+@Slf4j
+@Component
+public class PointLedger {
+
+    private final PointProperties properties;
+    private final StripedBalanceTable balances;
+
+    private PointJournal journal;
+    private ScheduledExecutorService flusher;
+
+    public PointLedger(PointProperties properties) {
+        this.properties = properties;
+        this.balances = new StripedBalanceTable(properties.getStripes(), properties.getInitialCapacityPerStripe());
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        journal = new PointJournal(Path.of(properties.getJournalDir()), properties.getSegmentBytes());
+        journal.replay(this::replay);
+
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-journal-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getForceInterval().toMillis();
+        flusher.scheduleWithFixedDelay(journal::force, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("포인트 원장 시작 - 계좌 {}개", balances.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    /**
+     * 계좌가 없으면 초기 포인트로 개설
+     */
+    public void openAccount(long customerId) {
+        long initial = properties.getInitialBalance();
+        if (balances.putIfAbsent(customerId, initial)) {
+            journal.append(PointJournal.TYPE_OPEN, customerId, initial);
+        }
+    }
+
+    /**
+     * 잔액 조회 (계좌가 없으면 0)
+     */
+    public long getBalance(long customerId) {
+        long balance = balances.get(customerId);
+        return balance == Long.MIN_VALUE ? 0L : balance;
+    }
+
+    /**
+     * 포인트 차감
+     *
+     * @return 차감 성공 여부 (계좌가 없거나 잔액 부족이면 false)
+     */
+    public boolean debit(long customerId, long amount) {
+        requirePositive(amount);
+        long after = balances.update(customerId, (balance, points) -> balance >= points ? balance - points : Long.MIN_VALUE, amount);
+        if (after == Long.MIN_VALUE) {
+            return false;
+        }
+        journal.append(PointJournal.TYPE_DEBIT, customerId, amount);
+        return true;
+    }
+
+    /**
+     * 포인트 적립 / 환불 (계좌가 없으면 잔액 0으로 개설 후 적립)
+     */
+    public long credit(long customerId, long amount) {
+        requirePositive(amount);
+        if (balances.putIfAbsent(customerId, 0L)) {
+            journal.append(PointJournal.TYPE_OPEN, customerId, 0L);
+        }
+        long after = balances.update(customerId, Math::addExact, amount);
+        journal.append(PointJournal.TYPE_CREDIT, customerId, amount);
+        return after;
+    }
+
+    /**
+     * 저널 순서는 CAS 순서와 다를 수 있음 (개설 기록보다 변동 기록이 먼저 오거나, 재생 중 잠시 음수가 되는 경우)
+     * 모든 레코드를 "계좌가 없으면 0으로 개설 후 가감"으로 재생하면 최종 잔액은 순서와 무관하게 같습니다.
+     */
+    private void replay(int type, long customerId, long amount) {
+        balances.putIfAbsent(customerId, 0L);
+        switch (type) {
+            case PointJournal.TYPE_OPEN, PointJournal.TYPE_CREDIT -> balances.update(customerId, Math::addExact, amount);
+            case PointJournal.TYPE_DEBIT -> balances.update(customerId, (balance, points) -> balance - points, amount);
+            default -> log.warn("알 수 없는 포인트 저널 레코드: {}", type);
+        }
+    }
+
+    private static void requirePositive(long amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("포인트는 0보다 커야 합니다: " + amount);
+        }
+    }
+}
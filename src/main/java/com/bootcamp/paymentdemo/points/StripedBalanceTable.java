@@ -0,0 +1,206 @@
+package com.bootcamp.paymentdemo.points;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * long 고객 ID → long 잔액 테이블 (박싱 없음)
+ * 키를 해시해 stripe로 나누고, stripe마다 open addressing 배열을 둡니다.
+ * - 조회와 잔액 변경(CAS)은 락 없이 동작
+ * - 새 계좌 추가와 테이블 확장만 해당 stripe의 락을 잡음
+ * 확장 중에는 옛 배열의 잔액 칸을 MOVED로 CAS해 막고 새 배열로 옮기므로, 확장과 동시에 일어난 변경이 유실되지 않습니다.
+ */
+class StripedBalanceTable {
+
+    static final long EMPTY_KEY = Long.MIN_VALUE;
+    private static final long MOVED = Long.MIN_VALUE;
+    private static final long ABSENT = Long.MIN_VALUE;
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    StripedBalanceTable(int stripeCount, int initialCapacityPerStripe) {
+        int count = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new Stripe[count];
+        this.stripeMask = count - 1;
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(initialCapacityPerStripe);
+        }
+    }
+
+    /**
+     * @return 잔액, 계좌가 없으면 Long.MIN_VALUE
+     */
+    long get(long key) {
+        return stripeOf(key).get(key);
+    }
+
+    /**
+     * 계좌가 없으면 initial로 생성
+     *
+     * @return 새로 만들었으면 true
+     */
+    boolean putIfAbsent(long key, long initial) {
+        return stripeOf(key).putIfAbsent(key, initial);
+    }
+
+    /**
+     * 잔액 CAS 갱신 - operator가 Long.MIN_VALUE를 반환하면 변경하지 않고 실패
+     *
+     * @return 갱신 후 잔액, 계좌가 없거나 operator가 거부하면 Long.MIN_VALUE
+     */
+    long update(long key, LongBinaryOperator operator, long argument) {
+        return stripeOf(key).update(key, operator, argument);
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size;
+        }
+        return size;
+    }
+
+    private Stripe stripeOf(long key) {
+        return stripes[(int) (mix(key) >>> 40) & stripeMask];
+    }
+
+    private static long mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+
+    private static final class Table {
+        final AtomicLongArray keys;
+        final AtomicLongArray balances;
+        final int mask;
+
+        Table(int capacity) {
+            keys = new AtomicLongArray(capacity);
+            balances = new AtomicLongArray(capacity);
+            mask = capacity - 1;
+            for (int i = 0; i < capacity; i++) {
+                keys.set(i, EMPTY_KEY);
+            }
+        }
+
+        int find(long key) {
+            int i = (int) mix(key) & mask;
+            while (true) {
+                long k = keys.get(i);
+                if (k == key) {
+                    return i;
+                }
+                if (k == EMPTY_KEY) {
+                    return -1;
+                }
+                i = (i + 1) & mask;
+            }
+        }
+    }
+
+    private static final class Stripe {
+        private volatile Table table;
+        private final ReentrantLock insertLock = new ReentrantLock();
+        private volatile int size;
+
+        Stripe(int initialCapacity) {
+            this.table = new Table(Integer.highestOneBit(Math.max(2, initialCapacity - 1)) << 1);
+        }
+
+        long get(long key) {
+            while (true) {
+                Table current = table;
+                int slot = current.find(key);
+                if (slot < 0) {
+                    return ABSENT;
+                }
+                long balance = current.balances.get(slot);
+                if (balance != MOVED) {
+                    return balance;
+                }
+                awaitResize(current);
+            }
+        }
+
+        long update(long key, LongBinaryOperator operator, long argument) {
+            while (true) {
+                Table current = table;
+                int slot = current.find(key);
+                if (slot < 0) {
+                    return ABSENT;
+                }
+                long balance = current.balances.get(slot);
+                if (balance == MOVED) {
+                    awaitResize(current);
+                    continue;
+                }
+                long next = operator.applyAsLong(balance, argument);
+                if (next == ABSENT) {
+                    return ABSENT;
+                }
+                if (current.balances.compareAndSet(slot, balance, next)) {
+                    return next;
+                }
+            }
+        }
+
+        boolean putIfAbsent(long key, long initial) {
+            if (get(key) != ABSENT) {
+                return false;
+            }
+            insertLock.lock();
+            try {
+                Table current = table;
+                if (current.find(key) >= 0) {
+                    return false;
+                }
+                // 부하율 0.5 초과 시 두 배로 확장
+                if ((size + 1) * 2 > current.mask + 1) {
+                    current = resize(current);
+                }
+                int i = (int) mix(key) & current.mask;
+                while (current.keys.get(i) != EMPTY_KEY) {
+                    i = (i + 1) & current.mask;
+                }
+                // 잔액을 먼저 쓰고 키를 공개해야 락 없는 조회가 초기화 전 값을 보지 않음
+                current.balances.set(i, initial);
+                current.keys.set(i, key);
+                size++;
+                return true;
+            } finally {
+                insertLock.unlock();
+            }
+        }
+
+        private Table resize(Table old) {
+            Table grown = new Table((old.mask + 1) * 2);
+            for (int i = 0; i <= old.mask; i++) {
+                long key = old.keys.get(i);
+                if (key == EMPTY_KEY) {
+                    continue;
+                }
+                long balance;
+                do {
+                    balance = old.balances.get(i);
+                } while (!old.balances.compareAndSet(i, balance, MOVED));
+
+                int j = (int) mix(key) & grown.mask;
+                while (grown.keys.get(j) != EMPTY_KEY) {
+                    j = (j + 1) & grown.mask;
+                }
+                grown.balances.set(j, balance);
+                grown.keys.set(j, key);
+            }
+            table = grown;
+            return grown;
+        }
+
+        private void awaitResize(Table seen) {
+            while (table == seen) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.bootcamp.paymentdemo.portone;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 간단한 서킷 브레이커 (락 없음)
+ * - CLOSED: 연속 실패가 failureThreshold에 도달하면 OPEN
+ * - OPEN: openDuration 동안 호출 차단
+ * - HALF_OPEN: openDuration 경과 후 한 건만 시험 호출 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+ *   시험 호출이 결과 없이 끝나면(인터럽트 등) onAbandoned()로 시험 자격을 반납해 다음 호출이 시험할 수 있게 함
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openDurationMillis;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong(-1);
+    // HALF_OPEN 시험 호출 중인 스레드 id (0이면 없음)
+    private final AtomicLong halfOpenTrialOwner = new AtomicLong();
+
+    public CircuitBreaker(int failureThreshold, long openDurationMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDurationMillis;
+    }
+
+    /**
+     * 호출 가능 여부 - HALF_OPEN에서는 한 스레드만 true
+     */
+    public boolean tryAcquirePermission() {
+        long opened = openedAt.get();
+        if (opened < 0) {
+            return true;
+        }
+        if (System.currentTimeMillis() - opened < openDurationMillis) {
+            return false;
+        }
+        return halfOpenTrialOwner.compareAndSet(0, Thread.currentThread().threadId());
+    }
+
+    /**
+     * 허용받은 호출이 성공/실패를 판단하지 못하고 끝났을 때 호출
+     * 현재 스레드가 HALF_OPEN 시험 호출 중이었다면 자격만 반납하고 상태는 그대로 둡니다.
+     */
+    public void onAbandoned() {
+        halfOpenTrialOwner.compareAndSet(Thread.currentThread().threadId(), 0);
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        openedAt.set(-1);
+        halfOpenTrialOwner.set(0);
+    }
+
+    public void onFailure() {
+        if (openedAt.get() >= 0) {
+            // HALF_OPEN 시험 호출 실패 → 다시 OPEN
+            openedAt.set(System.currentTimeMillis());
+            halfOpenTrialOwner.set(0);
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt.set(System.currentTimeMillis());
+            halfOpenTrialOwner.set(0);
+        }
+    }
+
+    public State getState() {
+        long opened = openedAt.get();
+        if (opened < 0) {
+            return State.CLOSED;
+        }
+        return System.currentTimeMillis() - opened < openDurationMillis ? State.OPEN : State.HALF_OPEN;
+    }
+}
@@ -0,0 +1,33 @@
+package com.bootcamp.paymentdemo.portone;
+
+import lombok.Getter;
+
+/**
+ * PortOne API 호출 실패
+ * statusCode가 0이면 응답을 받지 못한 경우(타임아웃, 연결 실패, 서킷 오픈, 동시 호출 초과)입니다.
+ */
+@Getter
+public class PortOneApiException extends RuntimeException {
+
+    private final int statusCode;
+    private final String responseBody;
+
+    public PortOneApiException(String message, int statusCode, String responseBody) {
+        super(message);
+        this.statusCode = statusCode;
+        this.responseBody = responseBody;
+    }
+
+    public PortOneApiException(String message, Throwable cause) {
+        super(message, cause);
+        this.statusCode = 0;
+        this.responseBody = null;
+    }
+
+    /**
+     * 재시도해도 결과가 달라질 수 있는 실패인지 (네트워크 오류, 429, 5xx)
+     */
+    public boolean isTransient() {
+        return statusCode == 0 || statusCode == 429 || statusCode >= 500;
+    }
+}
@@ -0,0 +1,202 @@
+package com.bootcamp.paymentdemo.portone;
+
+import com.bootcamp.paymentdemo.config.PortOneProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PortOne V2 REST API 공용 클라이언트
+ * - HttpClient 하나를 공유해 커넥션(HTTP/2, keep-alive)을 재사용
+ * - 호출마다 요청 타임아웃 적용
+ * - Semaphore로 동시 호출 수 제한
+ * - 연속 실패 시 서킷 브레이커로 호출 차단
+ * - 멱등한 GET만 지수 백오프 + 지터로 재시도
+ */
+@Slf4j
+@Component
+public class PortOneClient {
+
+    private final PortOneProperties.Api api;
+    private final JsonMapper jsonMapper;
+    private final HttpClient httpClient;
+    private final Semaphore permits;
+    private final CircuitBreaker circuitBreaker;
+
+    public PortOneClient(
+        PortOneProperties portOneProperties,
+        JsonMapper jsonMapper,
+        @Qualifier("portOneHttpExecutor") ExecutorService httpExecutor
+    ) {
+        this.api = portOneProperties.getApi();
+        this.jsonMapper = jsonMapper;
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(api.getConnectTimeout())
+            .executor(httpExecutor)
+            .build();
+        this.permits = new Semaphore(api.getMaxConcurrentRequests());
+        this.circuitBreaker = new CircuitBreaker(
+            api.getCircuitBreaker().getFailureThreshold(),
+            api.getCircuitBreaker().getOpenDuration().toMillis());
+    }
+
+    /**
+     * 결제 단건 조회
+     * GET /payments/{paymentId}
+     */
+    public JsonNode getPayment(String paymentId) {
+        return get("/payments/" + encode(paymentId));
+    }
+
+    /**
+     * 결제 취소
+     * POST /payments/{paymentId}/cancel
+     */
+    public JsonNode cancelPayment(String paymentId, String reason) {
+        return post("/payments/" + encode(paymentId) + "/cancel", Map.of("reason", reason));
+    }
+
+    /**
+     * 빌링키 결제
+     * POST /payments/{paymentId}/billing-key
+     */
+    public JsonNode payWithBillingKey(String paymentId, Map<String, Object> request) {
+        return post("/payments/" + encode(paymentId) + "/billing-key", request);
+    }
+
+    public JsonNode get(String path) {
+        HttpRequest request = newRequest(path).GET().build();
+
+        PortOneProperties.Retry retry = api.getRetry();
+        int maxAttempts = Math.max(1, retry.getMaxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return execute(request);
+            } catch (PortOneApiException e) {
+                if (attempt >= maxAttempts || !e.isTransient() || circuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+                    throw e;
+                }
+                long backoff = backoffMillis(retry, attempt);
+                log.debug("PortOne GET 재시도 {}/{} ({}ms 후): {}", attempt + 1, maxAttempts, backoff, path);
+                sleep(backoff);
+            }
+        }
+    }
+
+    /**
+     * POST는 멱등하지 않으므로 재시도하지 않음
+     */
+    public JsonNode post(String path, Object body) {
+        HttpRequest request = newRequest(path)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(jsonMapper.writeValueAsBytes(body)))
+            .build();
+        return execute(request);
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    private HttpRequest.Builder newRequest(String path) {
+        return HttpRequest.newBuilder(URI.create(api.getBaseUrl() + path))
+            .timeout(api.getRequestTimeout())
+            .header("Authorization", "PortOne " + api.getSecret())
+            .header("Accept", "application/json");
+    }
+
+    private JsonNode execute(HttpRequest request) {
+        if (!acquirePermit()) {
+            throw new PortOneApiException("PortOne 동시 호출 한도 초과", 0, null);
+        }
+
+        boolean permitted = false;
+        boolean outcomeRecorded = false;
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                throw new PortOneApiException("PortOne 서킷 오픈 - 호출 차단: " + request.uri().getPath(), 0, null);
+            }
+            permitted = true;
+
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            int status = response.statusCode();
+            if (status >= 500 || status == 429) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+            outcomeRecorded = true;
+
+            if (status >= 400) {
+                String body = new String(response.body(), StandardCharsets.UTF_8);
+                throw new PortOneApiException("PortOne API 오류 " + status + ": " + request.uri().getPath(), status, body);
+            }
+            return response.body().length == 0 ? jsonMapper.createObjectNode() : jsonMapper.readTree(response.body());
+        } catch (IOException e) {
+            circuitBreaker.onFailure();
+            outcomeRecorded = true;
+            throw new PortOneApiException("PortOne API 호출 실패: " + request.uri().getPath(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PortOneApiException("PortOne API 호출 중단", e);
+        } finally {
+            // 인터럽트나 예상 못 한 예외로 결과를 모르면 HALF_OPEN 시험 자격만 반납
+            if (permitted && !outcomeRecorded) {
+                circuitBreaker.onAbandoned();
+            }
+            permits.release();
+        }
+    }
+
+    private boolean acquirePermit() {
+        try {
+            return permits.tryAcquire(api.getAcquireTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 지수 백오프 + full jitter: random(0, min(maxBackoff, initial * 2^(attempt-1)))
+     */
+    private static long backoffMillis(PortOneProperties.Retry retry, int attempt) {
+        long cap = Math.min(retry.getMaxBackoff().toMillis(),
+            retry.getInitialBackoff().toMillis() << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(Duration.ofMillis(millis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PortOneApiException("PortOne 재시도 대기 중단", e);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+}
@@ -0,0 +1,173 @@
+package com.bootcamp.paymentdemo.portone;
+
+import com.bootcamp.paymentdemo.config.PortOneProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로컬 PortOne 스텁 서버 (portone.stub.enabled=true일 때만 기동)
+ * PortOne V2 API 일부를 메모리로 흉내 내며, 응답 지연과 실패율을 설정할 수 있습니다.
+ * 사용 시 portone.api.base-url을 http://localhost:{portone.stub.port}로 지정하세요.
+ *
+ * 지원 API
+ * - POST /payments/{paymentId}/pre-register : 결제 사전 등록 (이후 조회 시 PAID로 응답)
+ * - GET  /payments/{paymentId}              : 결제 단건 조회
+ * - POST /payments/{paymentId}/cancel       : 결제 취소
+ * - POST /payments/{paymentId}/billing-key  : 빌링키 결제
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "portone.stub", name = "enabled", havingValue = "true")
+public class PortOneStubServer {
+
+    private final PortOneProperties.Stub stub;
+    private final JsonMapper jsonMapper;
+    private final Map<String, Map<String, Object>> payments = new ConcurrentHashMap<>();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public PortOneStubServer(PortOneProperties portOneProperties, JsonMapper jsonMapper) {
+        this.stub = portOneProperties.getStub();
+        this.jsonMapper = jsonMapper;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", stub.getPort()), 0);
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/payments/", this::handle);
+        server.start();
+        log.info("PortOne 스텁 서버 시작: http://localhost:{}", getPort());
+    }
+
+    @PreDestroy
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            simulateLatency();
+            if (ThreadLocalRandom.current().nextDouble() < stub.getFailureRate()) {
+                respond(exchange, 503, Map.of("type", "SERVICE_UNAVAILABLE", "message", "stub failure"));
+                return;
+            }
+
+            // /payments/{paymentId}[/action]
+            String[] segments = exchange.getRequestURI().getPath().substring("/payments/".length()).split("/");
+            String paymentId = segments[0];
+            String action = segments.length > 1 ? segments[1] : "";
+            String method = exchange.getRequestMethod();
+
+            if (method.equals("GET") && action.isEmpty()) {
+                getPayment(exchange, paymentId);
+            } else if (method.equals("POST") && action.equals("pre-register")) {
+                JsonNode body = readBody(exchange);
+                payments.put(paymentId, payment(paymentId, "PAID", body.path("totalAmount").asLong()));
+                respond(exchange, 200, Map.of());
+            } else if (method.equals("POST") && action.equals("cancel")) {
+                cancelPayment(exchange, paymentId);
+            } else if (method.equals("POST") && action.equals("billing-key")) {
+                JsonNode body = readBody(exchange);
+                // 실제 PortOne처럼 이미 결제된 paymentId는 다시 결제하지 않음
+                Map<String, Object> charged = payment(paymentId, "PAID", body.path("amount").path("total").asLong());
+                Map<String, Object> current = payments.merge(paymentId, charged,
+                    (existing, requested) -> "PAID".equals(existing.get("status")) ? existing : requested);
+                if (current != charged) {
+                    respond(exchange, 409, Map.of("type", "ALREADY_PAID", "message", "이미 결제된 건입니다."));
+                    return;
+                }
+                respond(exchange, 200, Map.of("payment", Map.of(
+                    "pgTxId", "STUB-" + paymentId,
+                    "paidAt", Instant.now().toString())));
+            } else {
+                respond(exchange, 404, Map.of("type", "NOT_FOUND", "message", method + " " + exchange.getRequestURI()));
+            }
+        } catch (Exception e) {
+            log.warn("PortOne 스텁 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void getPayment(HttpExchange exchange, String paymentId) throws IOException {
+        Map<String, Object> payment = payments.get(paymentId);
+        if (payment == null) {
+            respond(exchange, 404, Map.of("type", "PAYMENT_NOT_FOUND", "message", "결제 건이 존재하지 않습니다."));
+            return;
+        }
+        respond(exchange, 200, payment);
+    }
+
+    private void cancelPayment(HttpExchange exchange, String paymentId) throws IOException {
+        Map<String, Object> payment = payments.computeIfPresent(paymentId,
+            (id, current) -> payment(id, "CANCELLED", totalOf(current)));
+        if (payment == null) {
+            respond(exchange, 404, Map.of("type", "PAYMENT_NOT_FOUND", "message", "결제 건이 존재하지 않습니다."));
+            return;
+        }
+        respond(exchange, 200, Map.of("cancellation", Map.of(
+            "status", "SUCCEEDED",
+            "cancelledAt", Instant.now().toString())));
+    }
+
+    private static Map<String, Object> payment(String paymentId, String status, long totalAmount) {
+        Map<String, Object> payment = new LinkedHashMap<>();
+        payment.put("id", paymentId);
+        payment.put("status", status);
+        payment.put("amount", Map.of("total", totalAmount, "paid", "PAID".equals(status) ? totalAmount : 0L));
+        payment.put("currency", "KRW");
+        return payment;
+    }
+
+    private static long totalOf(Map<String, Object> payment) {
+        Map<?, ?> amount = (Map<?, ?>) payment.get("amount");
+        return ((Number) amount.get("total")).longValue();
+    }
+
+    private void simulateLatency() throws InterruptedException {
+        long latency = stub.getLatency().toMillis();
+        long jitter = stub.getLatencyJitter().toMillis();
+        long delay = latency + (jitter > 0 ? ThreadLocalRandom.current().nextLong(jitter + 1) : 0);
+        if (delay > 0) {
+            Thread.sleep(delay);
+        }
+    }
+
+    private JsonNode readBody(HttpExchange exchange) throws IOException {
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        return body.length == 0 ? jsonMapper.createObjectNode() : jsonMapper.readTree(body);
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = jsonMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.bootcamp.paymentdemo.ratelimit;
+
+import com.bootcamp.paymentdemo.config.RateLimitProperties;
+import com.bootcamp.paymentdemo.validation.CachedBodyHttpServletRequest;
+import com.bootcamp.paymentdemo.validation.CompiledContract;
+import com.bootcamp.paymentdemo.validation.ContractValidator;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 속도 제한 필터 (토큰 버킷)
+ * app.rate-limit.endpoints에 설정된 계약 엔드포인트(기본: login, register, create-payment)에 대해
+ * - 클라이언트 IP 기준 버킷
+ * - 계정 기준 버킷 (요청 본문의 email, 없으면 Bearer 토큰)
+ * 을 차례로 확인하고, 하나라도 비어 있으면 429 + Retry-After(초)로 응답합니다.
+ * JwtAuthenticationFilter / BCrypt 검증보다 앞에서 실행되어 대량 로그인 시도가 CPU를 점유하지 못하게 합니다.
+ * 버킷은 엔드포인트/차원별 고정 크기 TokenBucketTable에 있으므로 키가 늘어도 메모리는 늘지 않습니다.
+ *
+ * 프록시 뒤에서 실행할 때는 server.forward-headers-strategy를 설정해야 getRemoteAddr()가 실제 클라이언트 IP가 됩니다.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final RateLimitProperties properties;
+    private final ContractValidator contractValidator;
+    private final JsonMapper jsonMapper;
+
+    private final Map<String, EndpointLimiter> limitersByEndpoint = new HashMap<>();
+    private final Map<String, EndpointLimiter> limitersByPath = new HashMap<>();
+    // 해시를 예측해 특정 슬롯에 충돌을 몰아넣지 못하도록 프로세스마다 다른 시드 사용
+    private final long hashSeed = new SecureRandom().nextLong();
+
+    private final LongAdder allowedCount = new LongAdder();
+    private final LongAdder ipLimitedCount = new LongAdder();
+    private final LongAdder emailLimitedCount = new LongAdder();
+
+    public RateLimitFilter(RateLimitProperties properties, ContractValidator contractValidator, JsonMapper jsonMapper) {
+        this.properties = properties;
+        this.contractValidator = contractValidator;
+        this.jsonMapper = jsonMapper;
+
+        properties.getEndpoints().forEach((endpoint, limit) -> {
+            EndpointLimiter limiter = new EndpointLimiter(
+                table(limit.getIp()), table(limit.getEmail()));
+            limitersByEndpoint.put(endpoint, limiter);
+            if (limit.getPath() != null && !limit.getPath().isBlank()) {
+                limitersByPath.put(limit.getPath().trim().replaceAll("\\s+", " "), limiter);
+            }
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        EndpointLimiter limiter = resolve(request);
+        if (limiter == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 1. IP 버킷 - 이미 막힌 IP는 계정 버킷을 소비하지 않음
+        if (limiter.ip() != null) {
+            long retryMillis = limiter.ip().tryAcquire(hash(request.getRemoteAddr(), false));
+            if (retryMillis > 0) {
+                ipLimitedCount.increment();
+                writeTooManyRequests(response, retryMillis);
+                return;
+            }
+        }
+
+        // 2. 계정 버킷
+        HttpServletRequest requestToUse = request;
+        if (limiter.email() != null) {
+            String account = null;
+            if (hasJsonBody(request)) {
+                byte[] body = request.getInputStream().readNBytes(properties.getMaxBodyBytes() + 1);
+                if (body.length > properties.getMaxBodyBytes()) {
+                    writeError(response, HttpStatus.CONTENT_TOO_LARGE, "요청 본문이 너무 큽니다.");
+                    return;
+                }
+                requestToUse = new CachedBodyHttpServletRequest(request, body);
+                account = extractEmail(body);
+            }
+            if (account == null) {
+                account = bearerToken(request);
+            }
+            if (account != null) {
+                long retryMillis = limiter.email().tryAcquire(hash(account, true));
+                if (retryMillis > 0) {
+                    emailLimitedCount.increment();
+                    writeTooManyRequests(response, retryMillis);
+                    return;
+                }
+            }
+        }
+
+        allowedCount.increment();
+        filterChain.doFilter(requestToUse, response);
+    }
+
+    public long getAllowedCount() {
+        return allowedCount.sum();
+    }
+
+    public long getIpLimitedCount() {
+        return ipLimitedCount.sum();
+    }
+
+    public long getEmailLimitedCount() {
+        return emailLimitedCount.sum();
+    }
+
+    public long getCollisionCount() {
+        long sum = 0;
+        for (EndpointLimiter limiter : limitersByEndpoint.values()) {
+            sum += limiter.ip() != null ? limiter.ip().getCollisionCount() : 0;
+            sum += limiter.email() != null ? limiter.email().getCollisionCount() : 0;
+        }
+        return sum;
+    }
+
+    private EndpointLimiter resolve(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        CompiledContract contract = contractValidator.find(request.getMethod(), path);
+        if (contract != null) {
+            return limitersByEndpoint.get(contract.getEndpointName());
+        }
+        return limitersByPath.isEmpty() ? null : limitersByPath.get(request.getMethod() + ' ' + path);
+    }
+
+    private TokenBucketTable table(RateLimitProperties.Bucket bucket) {
+        if (bucket == null) {
+            return null;
+        }
+        return new TokenBucketTable(properties.getTableSlots(), bucket.getCapacity(), bucket.getRefillPeriod().toMillis());
+    }
+
+    private String extractEmail(byte[] body) {
+        try {
+            JsonNode email = jsonMapper.readTree(body).get("email");
+            return email != null && email.isString() && !email.asString().isBlank() ? email.asString() : null;
+        } catch (JacksonException e) {
+            // 형식 오류는 컨트롤러/계약 검증에서 400으로 처리
+            return null;
+        }
+    }
+
+    private static String bearerToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        return header != null && header.startsWith(BEARER_PREFIX) ? header.substring(BEARER_PREFIX.length()) : null;
+    }
+
+    private static boolean hasJsonBody(HttpServletRequest request) {
+        if (request.getContentLengthLong() == 0) {
+            return false;
+        }
+        String contentType = request.getContentType();
+        // Content-Type 없이 보내는 클라이언트도 있으므로 없으면 JSON으로 간주
+        return contentType == null || contentType.toLowerCase().contains("json");
+    }
+
+    /**
+     * 문자열을 그대로 순회하는 64비트 해시 (FNV-1a + 최종 혼합) - 키마다 새 문자열을 만들지 않음
+     * 이메일은 앞뒤 공백과 대소문자를 무시합니다.
+     */
+    private long hash(String key, boolean normalize) {
+        int start = 0;
+        int end = key.length();
+        if (normalize) {
+            while (start < end && Character.isWhitespace(key.charAt(start))) {
+                start++;
+            }
+            while (end > start && Character.isWhitespace(key.charAt(end - 1))) {
+                end--;
+            }
+        }
+
+        long h = 0xcbf29ce484222325L ^ hashSeed;
+        for (int i = start; i < end; i++) {
+            char c = key.charAt(i);
+            h = (h ^ (normalize ? Character.toLowerCase(c) : c)) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+
+    private static void writeTooManyRequests(HttpServletResponse response, long retryMillis) throws IOException {
+        long retryAfterSeconds = Math.max(1, (retryMillis + 999) / 1000);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        writeError(response, HttpStatus.TOO_MANY_REQUESTS,
+            "요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.");
+    }
+
+    private static void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        byte[] body = ("{\"success\":false,\"message\":\"" + message + "\"}").getBytes(StandardCharsets.UTF_8);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getOutputStream().write(body);
+    }
+
+    private record EndpointLimiter(TokenBucketTable ip, TokenBucketTable email) {
+    }
+}
@@ -0,0 +1,130 @@
+package com.bootcamp.paymentdemo.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 크기 토큰 버킷 테이블 (락 없음, 키별 객체 할당 없음)
+ * 슬롯 하나는 long 하나: [fingerprint 16bit][tokens 16bit][마지막 충전 시각(ms) 32bit]
+ * - 키 해시로 후보 슬롯 두 개를 정하고, fingerprint가 같은 슬롯을 CAS로 갱신
+ * - 둘 다 다른 키가 쓰고 있으면 가득 찬(유휴) 슬롯을 새 키가 차지
+ * - 유휴 슬롯도 없으면 토큰이 적은 쪽 버킷을 함께 사용 → 충돌 시 한도가 느슨해지지 않고 엄격해짐
+ * 키 수와 무관하게 메모리가 고정되므로 임의의 IP/이메일을 계속 바꿔 보내도 테이블이 커지지 않습니다.
+ * 충전은 지난 시간만큼 정수 개의 토큰을 더하고 시각도 그만큼만 앞당겨, 남은 나머지 시간을 잃지 않습니다.
+ */
+final class TokenBucketTable {
+
+    private static final int TIME_BITS = 32;
+    private static final long TIME_MASK = (1L << TIME_BITS) - 1;
+    private static final long TOKEN_MASK = 0xFFFFL;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final int capacity;
+    private final int refillMillis;
+    private final long origin = System.nanoTime();
+    private final LongAdder collisions = new LongAdder();
+
+    TokenBucketTable(int slotCount, int capacity, long refillMillis) {
+        if (capacity < 1 || capacity > TOKEN_MASK) {
+            throw new IllegalArgumentException("capacity는 1 ~ 65535 사이여야 합니다: " + capacity);
+        }
+        int size = Integer.highestOneBit(Math.max(2, slotCount) - 1) << 1;
+        this.slots = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.capacity = capacity;
+        this.refillMillis = (int) Math.min(Integer.MAX_VALUE, Math.max(1, refillMillis));
+    }
+
+    /**
+     * 토큰 하나를 소비
+     *
+     * @return 0이면 허용, 아니면 다음 토큰까지 남은 시간(ms)
+     */
+    long tryAcquire(long keyHash) {
+        int now = (int) ((System.nanoTime() - origin) / 1_000_000L);
+        long fingerprint = (keyHash >>> 48) | 1;  // 0은 빈 슬롯 표시용
+        int first = (int) keyHash & mask;
+        int second = (int) (keyHash >>> 24) & mask;
+        if (second == first) {
+            second = (first + 1) & mask;
+        }
+
+        while (true) {
+            long a = slots.get(first);
+            long b = slots.get(second);
+
+            int index;
+            long state;
+            if (fingerprint(a) == fingerprint) {
+                index = first;
+                state = a;
+            } else if (fingerprint(b) == fingerprint) {
+                index = second;
+                state = b;
+            } else {
+                // 다른 키가 쓰던 슬롯 - 가득 찬 슬롯은 새 키 입장에서 처음 보는 버킷과 같으므로 차지
+                if (isIdle(a, now)) {
+                    if (slots.compareAndSet(first, a, pack(fingerprint, capacity - 1, now))) {
+                        return 0;
+                    }
+                    continue;
+                }
+                if (isIdle(b, now)) {
+                    if (slots.compareAndSet(second, b, pack(fingerprint, capacity - 1, now))) {
+                        return 0;
+                    }
+                    continue;
+                }
+                collisions.increment();
+                index = tokens(a, now) <= tokens(b, now) ? first : second;
+                state = index == first ? a : b;
+            }
+
+            long refilled = refill(state, now);
+            long tokens = (refilled >>> TIME_BITS) & TOKEN_MASK;
+            int refilledAt = (int) refilled;
+            if (tokens == 0) {
+                return Math.max(1, refillMillis - (long) (now - refilledAt));
+            }
+            if (slots.compareAndSet(index, state, pack(fingerprint(state), tokens - 1, refilledAt))) {
+                return 0;
+            }
+        }
+    }
+
+    long getCollisionCount() {
+        return collisions.sum();
+    }
+
+    private boolean isIdle(long state, int now) {
+        return state == 0 || tokens(state, now) >= capacity;
+    }
+
+    private long tokens(long state, int now) {
+        return (refill(state, now) >>> TIME_BITS) & TOKEN_MASK;
+    }
+
+    /**
+     * 지난 시간만큼 충전한 결과를 [tokens][시각] 형태로 반환 (fingerprint 제외)
+     */
+    private long refill(long state, int now) {
+        long tokens = (state >>> TIME_BITS) & TOKEN_MASK;
+        int last = (int) state;
+        long elapsed = now - last;
+        // 시각 필드가 한 바퀴 돌 만큼(약 24일) 쉬었으면 가득 찬 것으로 간주
+        long added = elapsed < 0 ? capacity : elapsed / refillMillis;
+        if (tokens + added >= capacity) {
+            return ((long) capacity << TIME_BITS) | (now & TIME_MASK);
+        }
+        return ((tokens + added) << TIME_BITS) | ((last + added * refillMillis) & TIME_MASK);
+    }
+
+    private static long fingerprint(long state) {
+        return state >>> 48;
+    }
+
+    private static long pack(long fingerprint, long tokens, int time) {
+        return (fingerprint << 48) | (tokens << TIME_BITS) | (time & TIME_MASK);
+    }
+}
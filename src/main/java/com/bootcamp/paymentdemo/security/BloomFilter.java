@@ -0,0 +1,68 @@
+package com.bootcamp.paymentdemo.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 삽입 전용 Bloom filter (비트 배열은 AtomicLongArray, 조회는 락 없음)
+ * mightContain이 false면 확실히 없는 값, true면 정확한 집합에서 다시 확인해야 합니다.
+ */
+final class BloomFilter {
+
+    private static final int MAX_HASHES = 8;
+
+    private final AtomicLongArray words;
+    private final int bitMask;
+    private final int hashes;
+
+    BloomFilter(int expectedEntries, double falsePositiveRate) {
+        int expected = Math.max(1, expectedEntries);
+        double bits = -expected * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        int size = (int) Math.min(1L << 30, Math.max(64L, Long.highestOneBit((long) Math.ceil(bits) - 1) << 1));
+        this.words = new AtomicLongArray(size >>> 6);
+        this.bitMask = size - 1;
+        this.hashes = (int) Math.max(1, Math.min(MAX_HASHES, Math.round((double) size / expected * Math.log(2))));
+    }
+
+    void add(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashes; i++) {
+            int bit = (h1 + i * h2) & bitMask;
+            int word = bit >>> 6;
+            long mask = 1L << bit;
+            long current;
+            while (((current = words.get(word)) & mask) == 0) {
+                if (words.compareAndSet(word, current, current | mask)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    boolean mightContain(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashes; i++) {
+            int bit = (h1 + i * h2) & bitMask;
+            if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * FNV-1a 64비트 + 비트 섞기 (토큰 ID는 짧은 ASCII 문자열)
+     */
+    static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -1,9 +1,21 @@
 package com.bootcamp.paymentdemo.security;
 
+import com.bootcamp.paymentdemo.audit.AuditLog;
+import com.bootcamp.paymentdemo.audit.AuditReason;
+import com.bootcamp.paymentdemo.audit.AuditType;
+import com.bootcamp.paymentdemo.metrics.RateLimitedLog;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -12,12 +24,21 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 토큰 인증 필터
  * 모든 요청에서 JWT 토큰을 검증하고 SecurityContext에 인증 정보 설정
  *
+ * 지표
+ * - auth.token.verification (result=success|failure): 검증 소요 시간
+ * - auth.token.failures (reason=expired|malformed|signature|revoked|other): 실패 사유별 건수
+ * 예상하지 못한 예외는 분당 10건까지만 스택 트레이스와 함께 기록합니다.
+ * 거부된 토큰은 사유 / 클라이언트 IP / 요청 경로와 함께 감사 로그(TOKEN_REJECTED)에 남깁니다.
+ *
  * TODO: 개선 사항
  * - 역할(Role) 정보를 토큰에서 추출
  * - 예외 처리 개선
@@ -25,10 +46,28 @@ import java.util.Collections;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final RateLimitedLog unexpectedFailureLog =
+        new RateLimitedLog(LoggerFactory.getLogger(JwtAuthenticationFilter.class), 10, Duration.ofMinutes(1));
+
     private final JwtTokenProvider jwtTokenProvider;
+    private final AuditLog auditLog;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Map<String, Counter> failureCounters;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, AuditLog auditLog, MeterRegistry meterRegistry) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.auditLog = auditLog;
+        // 요청마다 registry 조회를 하지 않도록 미리 생성
+        this.successTimer = verificationTimer(meterRegistry, "success");
+        this.failureTimer = verificationTimer(meterRegistry, "failure");
+        this.failureCounters = Map.of(
+            "expired", failureCounter(meterRegistry, "expired"),
+            "malformed", failureCounter(meterRegistry, "malformed"),
+            "signature", failureCounter(meterRegistry, "signature"),
+            "revoked", failureCounter(meterRegistry, "revoked"),
+            "other", failureCounter(meterRegistry, "other")
+        );
     }
 
     @Override
@@ -42,10 +81,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 1. Request Header에서 JWT 토큰 추출
             String token = getJwtFromRequest(request);
 
-            // 2. 토큰 유효성 검증
-            if (token != null && jwtTokenProvider.validateToken(token)) {
+            // 2. 토큰 유효성 검증 (검증된 토큰은 exp까지 캐시에서 재사용)
+            if (token != null) {
                 // 3. 토큰에서 사용자 정보 추출
-                String email = jwtTokenProvider.getEmail(token);
+                String email = verify(token);
 
                 // 4. 인증 객체 생성
                 UsernamePasswordAuthenticationToken authentication =
@@ -60,14 +99,69 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 // 5. SecurityContext에 인증 정보 설정
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
+        } catch (JwtException | IllegalArgumentException e) {
+            // 유효하지 않은 토큰 - 인증 정보 없이 진행 (사유별 건수는 verify()에서 집계)
+            // 만료된 토큰은 서명이 검증된 상태라 subject를 신뢰할 수 있음
+            String subject = e instanceof ExpiredJwtException expired ? expired.getClaims().getSubject() : null;
+            auditLog.record(AuditType.TOKEN_REJECTED, AuditReason.ofTokenFailure(reasonOf(e)),
+                request.getRemoteAddr(), subject, request.getRequestURI());
+            if (logger.isDebugEnabled()) {
+                logger.debug("유효하지 않은 JWT: " + e.getMessage());
+            }
         } catch (Exception e) {
-            logger.error("JWT 인증 실패", e);
+            unexpectedFailureLog.error("JWT 인증 실패", e);
             // TODO: 구현 - 적절한 에러 응답
         }
 
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 토큰 검증 + 소요 시간 / 실패 사유 기록
+     */
+    private String verify(String token) {
+        long start = System.nanoTime();
+        try {
+            String email = jwtTokenProvider.parseAndVerify(token).getEmail();
+            successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return email;
+        } catch (JwtException | IllegalArgumentException e) {
+            failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            failureCounters.get(reasonOf(e)).increment();
+            throw e;
+        }
+    }
+
+    private static String reasonOf(RuntimeException e) {
+        if (e instanceof ExpiredJwtException) {
+            return "expired";
+        }
+        if (e instanceof io.jsonwebtoken.security.SecurityException) {
+            return "signature";
+        }
+        if (e instanceof MalformedJwtException || e instanceof UnsupportedJwtException || e instanceof IllegalArgumentException) {
+            return "malformed";
+        }
+        if (e instanceof RevokedTokenException) {
+            return "revoked";
+        }
+        return "other";
+    }
+
+    private static Timer verificationTimer(MeterRegistry registry, String result) {
+        return Timer.builder("auth.token.verification")
+            .description("JWT 검증 소요 시간 (캐시 적중 포함)")
+            .tag("result", result)
+            .register(registry);
+    }
+
+    private static Counter failureCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("auth.token.failures")
+            .description("JWT 검증 실패 건수")
+            .tag("reason", reason)
+            .register(registry);
+    }
+
     /**
      * Request Header에서 JWT 토큰 추출
      * Authorization: Bearer {token}
@@ -0,0 +1,24 @@
+package com.bootcamp.paymentdemo.security;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT의 인증 주체 정보
+ * JwtTokenProvider.parseAndVerify()의 반환 타입입니다.
+ */
+@Value
+public class JwtPrincipal {
+    String email;
+    Instant issuedAt;
+    Instant expiresAt;
+    // jti - 토큰별 고유 ID (이전 버전 토큰은 null)
+    String tokenId;
+    // 로그인 세션(refresh token family) ID - 로그아웃 시 이 값으로 세션 전체를 폐기
+    String familyId;
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAt != null && expiresAt.toEpochMilli() <= nowMillis;
+    }
+}
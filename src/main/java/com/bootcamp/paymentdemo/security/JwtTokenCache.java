@@ -0,0 +1,135 @@
+package com.bootcamp.paymentdemo.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검증된 JWT 캐시
+ * 토큰 원문 대신 SHA-256 해시를 키로 사용하고, 토큰의 exp 시각에 만료됩니다.
+ * 최대 엔트리 수에 이르면 전체를 훑지 않고 앞쪽 몇 개(EVICTION_SAMPLE)만 살펴 만료된 항목을 지우고,
+ * 만료된 항목이 없으면 그중 가장 먼저 만료될 항목을 내보낸 뒤 새 항목을 넣습니다.
+ * ConcurrentHashMap 순회 순서는 키 해시 순서라 표본은 저장 시점과 무관합니다.
+ */
+public class JwtTokenCache {
+
+    // 가득 찼을 때 put 한 번이 살펴보는 항목 수
+    private static final int EVICTION_SAMPLE = 8;
+
+    private final ConcurrentHashMap<String, JwtPrincipal> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public JwtTokenCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 캐시 조회 - 만료된 항목은 제거 후 miss로 처리
+     */
+    public JwtPrincipal get(String key, long nowMillis) {
+        JwtPrincipal principal = entries.get(key);
+        if (principal == null) {
+            misses.increment();
+            return null;
+        }
+        if (principal.isExpired(nowMillis)) {
+            if (entries.remove(key, principal)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return principal;
+    }
+
+    public void put(String key, JwtPrincipal principal, long nowMillis) {
+        // exp 없는 토큰은 만료 시점을 알 수 없으므로 캐싱하지 않음
+        if (maxEntries <= 0 || principal.getExpiresAt() == null || principal.isExpired(nowMillis)) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            evictSample(nowMillis);
+        }
+        entries.put(key, principal);
+    }
+
+    public void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    /**
+     * 앞쪽 EVICTION_SAMPLE개 중 만료된 항목 제거, 없으면 가장 먼저 만료될 항목 하나 제거
+     */
+    private void evictSample(long nowMillis) {
+        Iterator<Map.Entry<String, JwtPrincipal>> iterator = entries.entrySet().iterator();
+        Map.Entry<String, JwtPrincipal> soonest = null;
+        boolean removed = false;
+        for (int i = 0; i < EVICTION_SAMPLE && iterator.hasNext(); i++) {
+            Map.Entry<String, JwtPrincipal> entry = iterator.next();
+            JwtPrincipal principal = entry.getValue();
+            if (principal.isExpired(nowMillis)) {
+                if (entries.remove(entry.getKey(), principal)) {
+                    evictions.increment();
+                    removed = true;
+                }
+            } else if (soonest == null || principal.getExpiresAt().isBefore(soonest.getValue().getExpiresAt())) {
+                soonest = entry;
+            }
+        }
+        if (!removed && soonest != null && entries.remove(soonest.getKey(), soonest.getValue())) {
+            evictions.increment();
+        }
+    }
+
+    /**
+     * exp가 지난 항목 일괄 제거
+     */
+    public void evictExpired(long nowMillis) {
+        entries.entrySet().removeIf(entry -> {
+            if (entry.getValue().isExpired(nowMillis)) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * 토큰 원문을 캐시 키(SHA-256, Base64)로 변환
+     */
+    public static String keyOf(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+}
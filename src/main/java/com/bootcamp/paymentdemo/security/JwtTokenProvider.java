@@ -1,6 +1,8 @@
 package com.bootcamp.paymentdemo.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,73 +10,150 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Base64;
 import java.util.Date;
 
 /**
  * JWT 토큰 생성 및 검증 유틸리티
- * 개선할 부분: Refresh Token, Token Expiry 관리, Claims 커스터마이징 등
+ * - Access Token: 짧은 수명, 요청마다 검증 (token_type=access)
+ * - Refresh Token: 긴 수명, /api/auth/refresh 에서만 사용 (token_type=refresh), 사용할 때마다 교체
+ * 두 토큰 모두 jti(토큰 ID)와 fam(로그인 세션 ID) 클레임을 가지며, TokenRevocationList로 폐기 여부를 확인합니다.
  */
 @Component
 public class JwtTokenProvider {
 
+    static final String TOKEN_TYPE_CLAIM = "token_type";
+    static final String FAMILY_CLAIM = "fam";
+    static final String ACCESS = "access";
+    static final String REFRESH = "refresh";
+
     private final SecretKey secretKey;
     private final long tokenValidityInMilliseconds;
+    private final long refreshTokenValidityInMilliseconds;
+    private final JwtParser jwtParser;
+    private final JwtTokenCache tokenCache;
+    private final TokenRevocationList revocationList;
+    private final SecureRandom random = new SecureRandom();
 
     public JwtTokenProvider(
         @Value("${jwt.secret:commercehub-secret-key-for-demo-please-change-this-in-production-environment}") String secret,
-        @Value("${jwt.token-validity-in-seconds:86400}") long tokenValidityInSeconds
+        @Value("${jwt.token-validity-in-seconds:900}") long tokenValidityInSeconds,
+        @Value("${jwt.refresh-token-validity-in-seconds:1209600}") long refreshTokenValidityInSeconds,
+        @Value("${jwt.cache.max-entries:10000}") int cacheMaxEntries,
+        TokenRevocationList revocationList
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.tokenValidityInMilliseconds = tokenValidityInSeconds * 1000;
+        this.refreshTokenValidityInMilliseconds = refreshTokenValidityInSeconds * 1000;
+        this.revocationList = revocationList;
+        // JwtParser는 불변 객체이므로 한 번만 생성해서 재사용
+        this.jwtParser = Jwts.parser()
+            .verifyWith(secretKey)
+            .build();
+        this.tokenCache = new JwtTokenCache(cacheMaxEntries);
     }
 
     /**
-     * JWT 토큰 생성
+     * Access Token 생성 (새 로그인 세션)
      *
      * TODO: 개선 사항
      * - 사용자 역할(Role) 정보 추가
      * - 추가 Claims 정보 (이름, 이메일 등)
-     * - Refresh Token 발급 로직
      */
     public String createToken(String email) {
-        Date now = new Date();
-        Date validity = new Date(now.getTime() + tokenValidityInMilliseconds);
+        return createToken(email, newTokenId());
+    }
 
-        return Jwts.builder()
-            .subject(email)
-            .issuedAt(now)
-            .expiration(validity)
-            .signWith(secretKey)
-            .compact();
+    /**
+     * Access Token 생성 (기존 로그인 세션 유지)
+     */
+    public String createToken(String email, String familyId) {
+        return build(email, familyId, ACCESS, tokenValidityInMilliseconds);
+    }
+
+    /**
+     * Refresh Token 생성
+     */
+    public String createRefreshToken(String email, String familyId) {
+        return build(email, familyId, REFRESH, refreshTokenValidityInMilliseconds);
+    }
+
+    /**
+     * 새 토큰 / 세션 ID (128비트 난수, Base64 URL)
+     */
+    public String newTokenId() {
+        byte[] bytes = new byte[16];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public long getRefreshTokenValidityInMilliseconds() {
+        return refreshTokenValidityInMilliseconds;
+    }
+
+    /**
+     * Access Token 서명 검증 + Claims 파싱 + 폐기 여부 확인
+     * 검증된 토큰은 exp 시각까지 캐시되므로, 같은 토큰의 반복 요청은 서명 검증과 JSON 파싱을 건너뜁니다.
+     * 폐기 확인은 캐시 적중 시에도 수행합니다 (Bloom filter라 폐기되지 않은 토큰은 비용이 거의 없음).
+     *
+     * @throws JwtException 만료, 형식 오류, 서명 오류, 폐기된 토큰, Refresh Token 등 유효하지 않은 토큰
+     */
+    public JwtPrincipal parseAndVerify(String token) {
+        long now = System.currentTimeMillis();
+        String cacheKey = JwtTokenCache.keyOf(token);
+
+        JwtPrincipal cached = tokenCache.get(cacheKey, now);
+        if (cached != null) {
+            checkNotRevoked(cached);
+            return cached;
+        }
+
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        if (REFRESH.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+            throw new JwtException("Refresh token cannot be used as an access token");
+        }
+        JwtPrincipal principal = toPrincipal(claims);
+        checkNotRevoked(principal);
+
+        tokenCache.put(cacheKey, principal, now);
+        return principal;
+    }
+
+    /**
+     * Refresh Token 서명 검증 + Claims 파싱
+     * 폐기 / 재사용 여부는 호출자(RefreshTokenService)가 확인합니다.
+     *
+     * @throws JwtException 유효하지 않거나 Refresh Token이 아닌 토큰
+     */
+    public JwtPrincipal parseRefreshToken(String token) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        if (!REFRESH.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+            throw new JwtException("Not a refresh token");
+        }
+        JwtPrincipal principal = toPrincipal(claims);
+        if (principal.getTokenId() == null || principal.getFamilyId() == null || principal.getExpiresAt() == null) {
+            throw new JwtException("Refresh token is missing required claims");
+        }
+        return principal;
     }
 
     /**
      * JWT 토큰에서 사용자 이름 추출
      */
     public String getEmail(String token) {
-        Claims claims = Jwts.parser()
-            .verifyWith(secretKey)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
-
-        return claims.getSubject();
+        return parseAndVerify(token).getEmail();
     }
 
     /**
      * JWT 토큰 유효성 검증
      *
      * TODO: 개선 사항
-     * - 토큰 블랙리스트 체크 (로그아웃된 토큰)
-     * - 토큰 갱신 로직
      * - 상세한 예외 처리
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token);
+            parseAndVerify(token);
             return true;
         } catch (Exception e) {
             // TODO: 구체적인 예외 처리 구현
@@ -84,4 +163,42 @@ public class JwtTokenProvider {
             return false;
         }
     }
+
+    private String build(String email, String familyId, String tokenType, long validityInMilliseconds) {
+        Date now = new Date();
+        Date validity = new Date(now.getTime() + validityInMilliseconds);
+
+        return Jwts.builder()
+            .subject(email)
+            .id(newTokenId())
+            .claim(FAMILY_CLAIM, familyId)
+            .claim(TOKEN_TYPE_CLAIM, tokenType)
+            .issuedAt(now)
+            .expiration(validity)
+            .signWith(secretKey)
+            .compact();
+    }
+
+    private static JwtPrincipal toPrincipal(Claims claims) {
+        return new JwtPrincipal(
+            claims.getSubject(),
+            claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+            claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+            claims.getId(),
+            claims.get(FAMILY_CLAIM, String.class)
+        );
+    }
+
+    private void checkNotRevoked(JwtPrincipal principal) {
+        if (revocationList.isRevoked(principal.getFamilyId()) || revocationList.isRevoked(principal.getTokenId())) {
+            throw new RevokedTokenException("Token has been revoked");
+        }
+    }
+
+    /**
+     * 검증 토큰 캐시 (hit/miss 지표 조회용)
+     */
+    public JwtTokenCache getTokenCache() {
+        return tokenCache;
+    }
 }
@@ -0,0 +1,70 @@
+package com.bootcamp.paymentdemo.security;
+
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refresh Token 발급 / 교체(rotation) / 로그아웃
+ * - 로그인마다 새 세션(family) ID를 만들고, 같은 세션의 모든 토큰에 fam 클레임으로 넣습니다.
+ * - Refresh Token은 한 번만 쓸 수 있습니다. 사용하면 해당 jti를 폐기하고 새 토큰 쌍을 발급합니다.
+ * - 이미 사용된 Refresh Token이 다시 들어오면 탈취로 보고 세션 전체를 폐기합니다.
+ * Access Token 수명을 줄여도 재발급은 서명 검증만 하므로 로그인(BCrypt) 부하로 이어지지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationList revocationList;
+
+    public record TokenPair(String accessToken, String refreshToken) {
+    }
+
+    /**
+     * 로그인 성공 시 새 세션의 토큰 쌍 발급
+     */
+    public TokenPair issue(String email) {
+        return issue(email, jwtTokenProvider.newTokenId());
+    }
+
+    /**
+     * Refresh Token 교체
+     *
+     * @throws JwtException 유효하지 않거나, 폐기되었거나, 이미 사용된 Refresh Token
+     */
+    public TokenPair rotate(String refreshToken) {
+        JwtPrincipal principal = jwtTokenProvider.parseRefreshToken(refreshToken);
+
+        if (revocationList.isRevoked(principal.getFamilyId())) {
+            throw new RevokedTokenException("Session has been revoked");
+        }
+        if (!revocationList.revokeIfAbsent(principal.getTokenId(), principal.getExpiresAt().toEpochMilli())) {
+            log.warn("Refresh Token 재사용 감지 - 세션 폐기: email={}, family={}", principal.getEmail(), principal.getFamilyId());
+            revokeSession(principal.getFamilyId());
+            throw new RevokedTokenException("Refresh token reuse detected");
+        }
+
+        return issue(principal.getEmail(), principal.getFamilyId());
+    }
+
+    /**
+     * 로그아웃 - 세션의 Access / Refresh Token 모두 폐기
+     * 세션에서 마지막으로 발급될 수 있는 토큰의 만료 시각까지 폐기 기록을 유지합니다.
+     */
+    public void revokeSession(String familyId) {
+        if (familyId == null) {
+            return;
+        }
+        revocationList.revoke(familyId, System.currentTimeMillis() + jwtTokenProvider.getRefreshTokenValidityInMilliseconds());
+    }
+
+    private TokenPair issue(String email, String familyId) {
+        return new TokenPair(
+            jwtTokenProvider.createToken(email, familyId),
+            jwtTokenProvider.createRefreshToken(email, familyId)
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package com.bootcamp.paymentdemo.security;
+
+import io.jsonwebtoken.JwtException;
+
+/**
+ * 로그아웃 / 재사용 감지 등으로 폐기된 토큰
+ */
+public class RevokedTokenException extends JwtException {
+
+    public RevokedTokenException(String message) {
+        super(message);
+    }
+}
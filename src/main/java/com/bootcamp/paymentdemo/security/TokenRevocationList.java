@@ -0,0 +1,242 @@
+package com.bootcamp.paymentdemo.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 폐기된 토큰 ID(jti) / 세션(refresh token family) 목록
+ * - 앞단 Bloom filter: 폐기되지 않은 토큰(대부분의 요청)은 해시 몇 번으로 끝나고 맵 조회도 하지 않음
+ * - 뒷단 ConcurrentHashMap(id → 만료 시각): Bloom filter 양성일 때만 정확히 확인
+ * 토큰이 만료되면 폐기 기록도 필요 없으므로 주기적으로 정리하고, Bloom filter는 남은 항목으로 다시 만듭니다.
+ * logPath가 설정되면 폐기 기록을 append 로그에 남겨 재시작 후에도 유지합니다 (형식: "{id} {expiresAtMillis}").
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private final ConcurrentHashMap<String, Long> revoked = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final double falsePositiveRate;
+    private final ScheduledExecutorService sweeper;
+    private volatile BloomFilter filter;
+    private int filterCapacity;
+    private FileChannel appendLog;
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder filterPositives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public TokenRevocationList(
+        @Value("${jwt.revocation.expected-entries:100000}") int expectedEntries,
+        @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+        @Value("${jwt.revocation.log-path:}") String logPath
+    ) throws IOException {
+        this.falsePositiveRate = falsePositiveRate;
+        this.filterCapacity = Math.max(1024, expectedEntries);
+        this.filter = new BloomFilter(filterCapacity, falsePositiveRate);
+
+        if (logPath != null && !logPath.isBlank()) {
+            openLog(Path.of(logPath).toAbsolutePath(), System.currentTimeMillis());
+        }
+
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-revocation-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::evictExpired, 1, 1, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        sweeper.shutdownNow();
+        writeLock.lock();
+        try {
+            if (appendLog != null) {
+                appendLog.close();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 폐기 여부 확인 - 요청마다 호출되는 경로
+     */
+    public boolean isRevoked(String id) {
+        if (id == null) {
+            return false;
+        }
+        checks.increment();
+        if (!filter.mightContain(BloomFilter.hash(id))) {
+            return false;
+        }
+        filterPositives.increment();
+        Long expiresAt = revoked.get(id);
+        if (expiresAt == null || expiresAt <= System.currentTimeMillis()) {
+            falsePositives.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * id를 expiresAtMillis까지 폐기 (이미 폐기되어 있으면 더 늦은 만료 시각으로 연장)
+     */
+    public void revoke(String id, long expiresAtMillis) {
+        writeLock.lock();
+        try {
+            Long existing = revoked.get(id);
+            if (existing == null || existing < expiresAtMillis) {
+                add(id, expiresAtMillis);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 아직 폐기되지 않은 경우에만 폐기
+     *
+     * @return 이번 호출로 폐기했으면 true, 이미 폐기되어 있었으면 false (refresh token 재사용 감지용)
+     */
+    public boolean revokeIfAbsent(String id, long expiresAtMillis) {
+        writeLock.lock();
+        try {
+            Long existing = revoked.get(id);
+            if (existing != null && existing > System.currentTimeMillis()) {
+                return false;
+            }
+            add(id, expiresAtMillis);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    public long getCheckCount() {
+        return checks.sum();
+    }
+
+    public long getFilterPositiveCount() {
+        return filterPositives.sum();
+    }
+
+    public long getFalsePositiveCount() {
+        return falsePositives.sum();
+    }
+
+    /**
+     * 만료된 폐기 기록 정리 + Bloom filter 재구성
+     */
+    void evictExpired() {
+        long now = System.currentTimeMillis();
+        writeLock.lock();
+        try {
+            int before = revoked.size();
+            revoked.values().removeIf(expiresAt -> expiresAt <= now);
+            if (revoked.size() != before) {
+                rebuildFilter();
+            }
+        } catch (RuntimeException e) {
+            log.warn("토큰 폐기 목록 정리 실패", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // writeLock 안에서만 호출
+    private void add(String id, long expiresAtMillis) {
+        revoked.put(id, expiresAtMillis);
+        if (revoked.size() > filterCapacity) {
+            // 예상 건수를 넘으면 오탐률이 올라가므로 두 배 크기로 다시 만듦
+            filterCapacity *= 2;
+            rebuildFilter();
+        } else {
+            filter.add(BloomFilter.hash(id));
+        }
+        if (appendLog != null) {
+            try {
+                ByteBuffer line = ByteBuffer.wrap((id + " " + expiresAtMillis + "\n").getBytes(StandardCharsets.UTF_8));
+                while (line.hasRemaining()) {
+                    appendLog.write(line);
+                }
+            } catch (IOException e) {
+                log.warn("토큰 폐기 기록 실패 (메모리에는 반영됨): {}", e.getMessage());
+            }
+        }
+    }
+
+    private void rebuildFilter() {
+        BloomFilter rebuilt = new BloomFilter(filterCapacity, falsePositiveRate);
+        for (String id : revoked.keySet()) {
+            rebuilt.add(BloomFilter.hash(id));
+        }
+        filter = rebuilt;
+    }
+
+    /**
+     * 로그 재생 후 살아 있는 항목만 남기도록 다시 쓰고 append 모드로 열기
+     */
+    private void openLog(Path path, long now) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        if (Files.exists(path)) {
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int space = line.indexOf(' ');
+                    if (space <= 0) {
+                        continue;
+                    }
+                    try {
+                        long expiresAt = Long.parseLong(line.substring(space + 1).trim());
+                        if (expiresAt > now) {
+                            revoked.merge(line.substring(0, space), expiresAt, Math::max);
+                        }
+                    } catch (NumberFormatException e) {
+                        // 기록 도중 종료되어 잘린 마지막 줄
+                    }
+                }
+            }
+
+            Path compacted = path.resolveSibling(path.getFileName() + ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(compacted, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, Long> entry : revoked.entrySet()) {
+                    writer.write(entry.getKey() + " " + entry.getValue() + "\n");
+                }
+            }
+            Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        filterCapacity = Math.max(filterCapacity, revoked.size() * 2);
+        rebuildFilter();
+        appendLog = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        log.info("토큰 폐기 목록 복원: {}건", revoked.size());
+    }
+}
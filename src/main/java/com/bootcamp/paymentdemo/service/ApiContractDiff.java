@@ -0,0 +1,51 @@
+package com.bootcamp.paymentdemo.service;
+
+import com.bootcamp.paymentdemo.config.ClientApiProperties;
+import lombok.Value;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 두 계약 맵의 엔드포인트 단위 변경 내역
+ */
+@Value
+public class ApiContractDiff {
+    Set<String> added;
+    Set<String> removed;
+    Set<String> changed;
+    boolean baseUrlChanged;
+
+    public static ApiContractDiff between(ApiContractSnapshot before, String baseUrl,
+                                          Map<String, ClientApiProperties.EndpointContract> after) {
+        Set<String> added = new TreeSet<>();
+        Set<String> removed = new TreeSet<>();
+        Set<String> changed = new TreeSet<>();
+
+        after.forEach((name, contract) -> {
+            ClientApiProperties.EndpointContract previous = before.getEndpoints().get(name);
+            if (previous == null) {
+                added.add(name);
+            } else if (!previous.equals(contract)) {
+                changed.add(name);
+            }
+        });
+        before.getEndpoints().keySet().stream()
+            .filter(name -> !after.containsKey(name))
+            .forEach(removed::add);
+
+        return new ApiContractDiff(added, removed, changed, !Objects.equals(before.getBaseUrl(), baseUrl));
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && changed.isEmpty() && !baseUrlChanged;
+    }
+
+    @Override
+    public String toString() {
+        return "added=" + added + ", removed=" + removed + ", changed=" + changed
+            + (baseUrlChanged ? ", baseUrl changed" : "");
+    }
+}
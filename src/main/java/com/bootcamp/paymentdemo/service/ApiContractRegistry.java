@@ -0,0 +1,183 @@
+package com.bootcamp.paymentdemo.service;
+
+import com.bootcamp.paymentdemo.config.ClientApiProperties;
+import com.bootcamp.paymentdemo.config.ContractReloadProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * API 계약 레지스트리
+ * 시작 시 ClientApiProperties로 초기화하고, 핫 리로드가 켜져 있으면 계약 파일을 WatchService로 감시합니다.
+ * 파일이 바뀌면 다시 파싱 → 엔드포인트 단위 diff → 변경이 있을 때만 새 스냅샷으로 교체하고 버전을 올립니다.
+ *
+ * 읽기(getSnapshot)는 AtomicReference 한 번 읽는 것뿐이라 락이 없습니다.
+ */
+@Slf4j
+@Service
+public class ApiContractRegistry {
+
+    private static final String CONTRACT_PREFIX = "api";
+
+    private final ContractReloadProperties reloadProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicReference<ApiContractSnapshot> snapshot;
+
+    private WatchService watchService;
+    private Thread watcherThread;
+
+    public ApiContractRegistry(
+        ClientApiProperties clientApiProperties,
+        ContractReloadProperties reloadProperties,
+        ApplicationEventPublisher eventPublisher
+    ) {
+        this.reloadProperties = reloadProperties;
+        this.eventPublisher = eventPublisher;
+        this.snapshot = new AtomicReference<>(new ApiContractSnapshot(
+            0L, clientApiProperties.getBaseUrl(), copyOf(clientApiProperties.getEndpoints())));
+    }
+
+    public ApiContractSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    public long getVersion() {
+        return snapshot.get().getVersion();
+    }
+
+    @PostConstruct
+    public void startWatching() throws IOException {
+        if (!reloadProperties.isEnabled()) {
+            return;
+        }
+
+        Path file = Path.of(reloadProperties.getPath()).toAbsolutePath().normalize();
+        Path directory = file.getParent();
+        if (directory == null || !directory.toFile().isDirectory()) {
+            log.warn("API 계약 파일 감시 비활성화 - 디렉터리 없음: {}", file);
+            return;
+        }
+
+        watchService = FileSystems.getDefault().newWatchService();
+        // 편집기는 임시 파일 rename으로 저장하는 경우가 많아 CREATE도 함께 감시
+        directory.register(watchService,
+            StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+
+        watcherThread = new Thread(() -> watchLoop(file), "api-contract-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+        log.info("API 계약 파일 감시 시작: {}", file);
+    }
+
+    @PreDestroy
+    public void stopWatching() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    /**
+     * 계약 파일을 다시 읽어 변경된 경우에만 스냅샷 교체
+     *
+     * @return 적용된 변경 내역 (변경 없으면 빈 diff)
+     */
+    public synchronized ApiContractDiff reload(Path file) throws IOException {
+        ClientApiProperties parsed = parse(file);
+        Map<String, ClientApiProperties.EndpointContract> endpoints = copyOf(parsed.getEndpoints());
+
+        ApiContractSnapshot current = snapshot.get();
+        ApiContractDiff diff = ApiContractDiff.between(current, parsed.getBaseUrl(), endpoints);
+        if (diff.isEmpty()) {
+            return diff;
+        }
+
+        // 쓰기는 이 메서드에서만 일어나므로 set으로 충분 (reload 자체는 synchronized)
+        ApiContractSnapshot next = new ApiContractSnapshot(current.getVersion() + 1, parsed.getBaseUrl(), endpoints);
+        snapshot.set(next);
+        log.info("API 계약 갱신 v{} - {}", next.getVersion(), diff);
+
+        eventPublisher.publishEvent(new ApiContractsChangedEvent(next, diff));
+        return diff;
+    }
+
+    private void watchLoop(Path file) {
+        Path fileName = file.getFileName();
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean touched = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (fileName.equals(event.context())) {
+                        touched = true;
+                    }
+                }
+                key.reset();
+
+                if (touched) {
+                    // 저장 중 여러 번 발생하는 이벤트를 한 번으로 묶음
+                    Thread.sleep(reloadProperties.getDebounceMillis());
+                    drainPendingEvents();
+                    reloadQuietly(file);
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            log.debug("API 계약 파일 감시 종료");
+        }
+    }
+
+    private void drainPendingEvents() {
+        WatchKey pending;
+        while ((pending = watchService.poll()) != null) {
+            pending.pollEvents();
+            pending.reset();
+        }
+    }
+
+    private void reloadQuietly(Path file) {
+        try {
+            reload(file);
+        } catch (Exception e) {
+            // 잘못된 YAML이면 기존 스냅샷 유지
+            log.warn("API 계약 파일 리로드 실패 - 기존 계약 유지: {}", e.getMessage());
+        }
+    }
+
+    private static ClientApiProperties parse(Path file) throws IOException {
+        List<PropertySource<?>> sources = new YamlPropertySourceLoader()
+            .load("api-contract", new FileSystemResource(file));
+        Binder binder = new Binder(ConfigurationPropertySources.from(sources));
+        return binder.bind(CONTRACT_PREFIX, ClientApiProperties.class)
+            .orElseGet(ClientApiProperties::new);
+    }
+
+    private static Map<String, ClientApiProperties.EndpointContract> copyOf(
+        Map<String, ClientApiProperties.EndpointContract> endpoints
+    ) {
+        if (endpoints == null) {
+            return Map.of();
+        }
+        // YAML 정의 순서를 유지한 읽기 전용 맵
+        return Collections.unmodifiableMap(new LinkedHashMap<>(endpoints));
+    }
+}
@@ -0,0 +1,21 @@
+package com.bootcamp.paymentdemo.service;
+
+import com.bootcamp.paymentdemo.config.ClientApiProperties;
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * 특정 시점의 API 계약 스냅샷 (불변)
+ * ApiContractRegistry가 통째로 교체하며, 읽는 쪽은 락 없이 참조만 가져가면 됩니다.
+ */
+@Value
+public class ApiContractSnapshot {
+    long version;
+    String baseUrl;
+    Map<String, ClientApiProperties.EndpointContract> endpoints;
+
+    public ClientApiProperties.EndpointContract getEndpoint(String name) {
+        return endpoints.get(name);
+    }
+}
@@ -0,0 +1,12 @@
+package com.bootcamp.paymentdemo.service;
+
+import lombok.Value;
+
+/**
+ * API 계약이 다시 로드되어 스냅샷이 교체되었을 때 발행되는 이벤트
+ */
+@Value
+public class ApiContractsChangedEvent {
+    ApiContractSnapshot snapshot;
+    ApiContractDiff diff;
+}
@@ -0,0 +1,145 @@
+package com.bootcamp.paymentdemo.service;
+
+import com.bootcamp.paymentdemo.config.PortOneProperties;
+import com.bootcamp.paymentdemo.portone.PortOneApiException;
+import com.bootcamp.paymentdemo.portone.PortOneClient;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.JsonNode;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PortOne 결제 조회 single-flight + 짧은 TTL 캐시
+ * 같은 paymentId에 대한 동시 조회(브라우저 재시도, 웹훅과 사용자 확정 동시 도착 등)는
+ * 진행 중인 한 번의 PortOne 호출 결과를 함께 받고, 결과는 TTL 동안 캐시됩니다.
+ * 실패 결과는 캐시하지 않습니다.
+ *
+ * invalidate()는 캐시와 함께 진행 중 호출도 목록에서 빼므로, 상태 변경 전에 시작된 호출의 결과는
+ * 캐시에 남지 않고 이후 요청은 새로 조회합니다.
+ */
+@Service
+public class PaymentLookupService {
+
+    private final PortOneClient portOneClient;
+    private final long ttlMillis;
+    private final int maxEntries;
+    // 진행 중 호출에 합류한 요청의 최대 대기 시간 (재시도 포함 한 번의 조회가 걸릴 수 있는 시간)
+    private final long awaitTimeoutMillis;
+
+    private final ConcurrentHashMap<String, CompletableFuture<JsonNode>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CachedPayment> cache = new ConcurrentHashMap<>();
+
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder remoteCalls = new LongAdder();
+
+    public PaymentLookupService(PortOneClient portOneClient, PortOneProperties portOneProperties) {
+        PortOneProperties.Api api = portOneProperties.getApi();
+        this.portOneClient = portOneClient;
+        this.ttlMillis = api.getLookupCacheTtl().toMillis();
+        this.maxEntries = api.getLookupCacheMaxEntries();
+        int attempts = Math.max(1, api.getRetry().getMaxAttempts());
+        this.awaitTimeoutMillis = api.getAcquireTimeout().toMillis()
+            + attempts * (api.getRequestTimeout().toMillis() + api.getRetry().getMaxBackoff().toMillis());
+    }
+
+    /**
+     * 결제 단건 조회 (캐시 → 진행 중 호출 합류 → PortOne 호출 순)
+     * 반환된 JsonNode는 여러 호출자가 공유하므로 수정하지 마세요.
+     */
+    public JsonNode getPayment(String paymentId) {
+        long now = System.currentTimeMillis();
+        CachedPayment cached = cache.get(paymentId);
+        if (cached != null && cached.expiresAt > now) {
+            cacheHits.increment();
+            return cached.payment;
+        }
+
+        CompletableFuture<JsonNode> call = new CompletableFuture<>();
+        CompletableFuture<JsonNode> existing = inFlight.putIfAbsent(paymentId, call);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing, awaitTimeoutMillis);
+        }
+
+        try {
+            remoteCalls.increment();
+            JsonNode payment = portOneClient.getPayment(paymentId);
+            // inFlight에서 빠지기 전에 캐시에 넣어 두어야 그 사이 요청이 다시 PortOne을 호출하지 않음
+            store(paymentId, payment, call);
+            call.complete(payment);
+            return payment;
+        } catch (RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(paymentId, call);
+        }
+    }
+
+    /**
+     * 결제 상태를 바꾼 뒤(확정/취소) 호출해 오래된 조회 결과 제거
+     */
+    public void invalidate(String paymentId) {
+        // 진행 중 호출을 먼저 빼야 그 호출이 끝나면서 캐시에 넣은 결과를 store()가 되돌림
+        inFlight.remove(paymentId);
+        cache.remove(paymentId);
+    }
+
+    public long getCacheHitCount() {
+        return cacheHits.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public long getRemoteCallCount() {
+        return remoteCalls.sum();
+    }
+
+    private void store(String paymentId, JsonNode payment, CompletableFuture<JsonNode> call) {
+        if (ttlMillis <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (cache.size() >= maxEntries) {
+            cache.values().removeIf(entry -> entry.expiresAt <= now);
+            if (cache.size() >= maxEntries) {
+                return;
+            }
+        }
+        CachedPayment entry = new CachedPayment(payment, now + ttlMillis);
+        cache.put(paymentId, entry);
+        // 호출 중에 invalidate()됐으면 상태 변경 전 결과이므로 되돌림
+        // (넣은 뒤 확인하므로 invalidate()가 어느 시점에 끼어들어도 둘 중 한 쪽이 지움)
+        if (inFlight.get(paymentId) != call) {
+            cache.remove(paymentId, entry);
+        }
+    }
+
+    private static JsonNode await(CompletableFuture<JsonNode> call, long timeoutMillis) {
+        try {
+            return call.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new PortOneApiException("PortOne 결제 조회 대기 시간 초과", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PortOneApiException("PortOne 결제 조회 대기 중단", e);
+        } catch (ExecutionException | CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new PortOneApiException("PortOne 결제 조회 실패", e.getCause());
+        }
+    }
+
+    private record CachedPayment(JsonNode payment, long expiresAt) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.bootcamp.paymentdemo.service;
+
+import com.bootcamp.paymentdemo.config.AppProperties;
+import com.bootcamp.paymentdemo.config.PortOneProperties;
+import com.bootcamp.paymentdemo.dto.PublicConfigResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 프론트엔드 런타임 설정 응답 캐시
+ * PublicConfigResponse를 한 번만 직렬화해서 PublicConfigSnapshot으로 보관합니다.
+ * 바인딩된 설정이 바뀌면 invalidate()를 호출해 다음 요청에서 다시 만들도록 합니다.
+ * API 계약이 리로드되면 ApiContractsChangedEvent를 받아 자동으로 무효화됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PublicConfigService {
+
+    private final PortOneProperties portOneProperties;
+    private final ApiContractRegistry apiContractRegistry;
+    private final AppProperties appProperties;
+    private final JsonMapper jsonMapper;
+
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<PublicConfigSnapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * 현재 버전의 스냅샷 조회 (없거나 오래된 경우 재생성)
+     */
+    public PublicConfigSnapshot getSnapshot() {
+        long currentVersion = version.get();
+        PublicConfigSnapshot current = snapshot.get();
+        if (current != null && current.getVersion() == currentVersion) {
+            return current;
+        }
+
+        // 동시에 여러 스레드가 재생성해도 결과는 동일하므로 먼저 끝난 쪽을 사용
+        PublicConfigSnapshot rebuilt = new PublicConfigSnapshot(
+            currentVersion, jsonMapper.writeValueAsBytes(buildResponse()));
+        if (snapshot.compareAndSet(current, rebuilt)) {
+            return rebuilt;
+        }
+        return snapshot.get();
+    }
+
+    /**
+     * 설정 변경 시 캐시된 응답 무효화
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * 기동 직후 첫 요청이 직렬화 비용을 치르지 않도록 미리 생성
+     * ApplicationReadyEvent 처리는 readiness가 ACCEPTING_TRAFFIC으로 바뀌기 전에 끝납니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prewarm() {
+        getSnapshot();
+    }
+
+    @EventListener
+    public void onContractsChanged(ApiContractsChangedEvent event) {
+        invalidate();
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    private PublicConfigResponse buildResponse() {
+        ApiContractSnapshot contracts = apiContractRegistry.getSnapshot();
+        return PublicConfigResponse.builder()
+            .portone(PublicConfigResponse.PortOneConfig.builder()
+                .storeId(portOneProperties.getStore().getId())
+                .channelKeys(portOneProperties.getChannel())
+                .build())
+            .api(PublicConfigResponse.ClientApiConfig.builder()
+                .baseUrl(contracts.getBaseUrl())
+                .endpoints(contracts.getEndpoints())
+                .build())
+            .branding(PublicConfigResponse.BrandingConfig.builder()
+                .appName(appProperties.getAppName())
+                .tagline(appProperties.getTagline())
+                .logoText(appProperties.getLogoText())
+                .build())
+            .build();
+    }
+}
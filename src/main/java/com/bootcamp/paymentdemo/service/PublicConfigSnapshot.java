@@ -0,0 +1,71 @@
+package com.bootcamp.paymentdemo.service;
+
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화가 끝난 /api/public/config 응답
+ * 원본(identity)과 gzip 두 가지 표현을 미리 만들어 두고, 표현별로 강한 ETag를 가집니다.
+ * 생성 후에는 변경되지 않으므로 요청 스레드 간에 그대로 공유합니다.
+ */
+@Getter
+public class PublicConfigSnapshot {
+
+    private final long version;
+    private final byte[] body;
+    private final byte[] gzipBody;
+    private final String etag;
+    private final String gzipEtag;
+
+    public PublicConfigSnapshot(long version, byte[] body) {
+        this.version = version;
+        this.body = body;
+        this.gzipBody = gzip(body);
+
+        String hash = sha256(body);
+        this.etag = "\"" + hash + "\"";
+        // content-coding이 다르면 다른 표현이므로 ETag도 구분
+        this.gzipEtag = "\"" + hash + "-gzip\"";
+    }
+
+    /**
+     * If-None-Match 헤더가 현재 표현 중 하나와 일치하는지 확인
+     * GET의 If-None-Match는 약한 비교(W/ 무시)를 사용합니다.
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+            .map(String::trim)
+            .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+            .anyMatch(tag -> tag.equals("*") || tag.equals(etag) || tag.equals(gzipEtag));
+    }
+
+    private static byte[] gzip(byte[] source) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(source.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] source) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(source);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
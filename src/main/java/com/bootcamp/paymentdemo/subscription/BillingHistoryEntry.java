@@ -0,0 +1,25 @@
+package com.bootcamp.paymentdemo.subscription;
+
+import java.time.LocalDateTime;
+
+/**
+ * list-billing-history 항목
+ *
+ * @param status COMPLETED, FAILED, PENDING
+ */
+public record BillingHistoryEntry(
+    String subscriptionId,
+    String billingId,
+    LocalDateTime periodStart,
+    LocalDateTime periodEnd,
+    long amount,
+    String status,
+    String paymentId,
+    LocalDateTime attemptDate,
+    String failureMessage
+) {
+
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+    public static final String PENDING = "PENDING";
+}
@@ -0,0 +1,145 @@
+package com.bootcamp.paymentdemo.subscription;
+
+import com.bootcamp.paymentdemo.config.SubscriptionProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 파일 기반 구독 저장소 (데모용 SubscriptionStore 기본 구현)
+ * - 구독: subscriptions.jsonl에 변경될 때마다 전체 레코드를 append, 조회 시 같은 ID의 마지막 줄을 사용
+ * - 청구 내역: billing-history.jsonl에 append, 조회 시 파일 전체를 훑음
+ * 조회가 파일을 처음부터 읽으므로 반드시 SubscriptionReadModel(캐시)을 거쳐 사용합니다.
+ */
+@Slf4j
+@Component
+public class FileSubscriptionStore implements SubscriptionStore {
+
+    private final JsonMapper jsonMapper;
+    private final Path subscriptionPath;
+    private final Path historyPath;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final FileChannel subscriptionChannel;
+    private final FileChannel historyChannel;
+
+    public FileSubscriptionStore(SubscriptionProperties properties, JsonMapper jsonMapper) throws IOException {
+        this.jsonMapper = jsonMapper;
+        this.subscriptionPath = Path.of(properties.getStorePath()).toAbsolutePath();
+        this.historyPath = Path.of(properties.getHistoryPath()).toAbsolutePath();
+        this.subscriptionChannel = open(subscriptionPath);
+        this.historyChannel = open(historyPath);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            subscriptionChannel.close();
+            historyChannel.close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public SubscriptionView find(String subscriptionId) throws IOException {
+        SubscriptionView found = null;
+        for (SubscriptionView subscription : readAll(subscriptionPath, SubscriptionView.class)) {
+            if (subscription.subscriptionId().equals(subscriptionId)) {
+                found = subscription;
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void save(SubscriptionView subscription) throws IOException {
+        write(subscriptionChannel, List.of(subscription));
+    }
+
+    @Override
+    public List<SubscriptionView> findAll() throws IOException {
+        Map<String, SubscriptionView> latest = new LinkedHashMap<>();
+        for (SubscriptionView subscription : readAll(subscriptionPath, SubscriptionView.class)) {
+            latest.put(subscription.subscriptionId(), subscription);
+        }
+        return new ArrayList<>(latest.values());
+    }
+
+    @Override
+    public List<BillingHistoryEntry> findBillingHistory(String subscriptionId) throws IOException {
+        List<BillingHistoryEntry> history = new ArrayList<>();
+        for (BillingHistoryEntry entry : readAll(historyPath, BillingHistoryEntry.class)) {
+            if (entry.subscriptionId().equals(subscriptionId)) {
+                history.add(entry);
+            }
+        }
+        return history;
+    }
+
+    @Override
+    public void appendBillingHistory(List<BillingHistoryEntry> entries) throws IOException {
+        write(historyChannel, entries);
+    }
+
+    private void write(FileChannel channel, List<?> records) throws IOException {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream(records.size() * 256);
+        for (Object record : records) {
+            lines.writeBytes(jsonMapper.writeValueAsBytes(record));
+            lines.write('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+        writeLock.lock();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private <T> List<T> readAll(Path path, Class<T> type) throws IOException {
+        List<T> records = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    records.add(jsonMapper.readValue(line, type));
+                } catch (JacksonException e) {
+                    // 기록 도중 종료되어 잘린 마지막 줄 등
+                    log.warn("구독 저장소 레코드 건너뜀 ({}): {}", path.getFileName(), e.getOriginalMessage());
+                }
+            }
+        }
+        return records;
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+}
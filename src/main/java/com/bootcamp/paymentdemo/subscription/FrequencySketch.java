@@ -0,0 +1,68 @@
+package com.bootcamp.paymentdemo.subscription;
+
+/**
+ * TinyLFU 빈도 추정용 Count-Min Sketch (4비트 카운터, long 하나에 16개)
+ * - 키마다 4개 행에서 카운터 하나씩 골라 증가, 빈도는 그중 최솟값
+ * - 증가 횟수가 표본 크기(테이블 카운터 수의 10배)에 도달하면 모든 카운터를 절반으로 줄여 오래된 인기도를 잊음
+ * 동기화하지 않으므로 WTinyLfuCache의 락 안에서만 사용합니다.
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int maximumSize) {
+        int size = Integer.highestOneBit(Math.max(16, maximumSize) - 1) << 1;
+        this.table = new long[size];
+        this.tableMask = size - 1;
+        this.sampleSize = size * 10;
+    }
+
+    int frequency(int hash) {
+        int frequency = Integer.MAX_VALUE;
+        for (int row = 0; row < SEEDS.length; row++) {
+            long mixed = mix(hash, row);
+            int index = (int) mixed & tableMask;
+            int shift = (int) (mixed >>> 60) << 2;
+            frequency = Math.min(frequency, (int) ((table[index] >>> shift) & 0xF));
+        }
+        return frequency;
+    }
+
+    void increment(int hash) {
+        boolean added = false;
+        for (int row = 0; row < SEEDS.length; row++) {
+            long mixed = mix(hash, row);
+            int index = (int) mixed & tableMask;
+            int shift = (int) (mixed >>> 60) << 2;
+            if (((table[index] >>> shift) & 0xF) < 15) {
+                table[index] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions >>>= 1;
+    }
+
+    private static long mix(int hash, int row) {
+        long h = (hash + SEEDS[row]) * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        h *= 0xff51afd7ed558ccdL;
+        return h ^ (h >>> 29);
+    }
+}
@@ -0,0 +1,382 @@
+package com.bootcamp.paymentdemo.subscription;
+
+import com.bootcamp.paymentdemo.billing.BillingCompletedEvent;
+import com.bootcamp.paymentdemo.billing.BillingTarget;
+import com.bootcamp.paymentdemo.config.SubscriptionProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * 구독 읽기 모델 (get-subscription, list-billing-history)
+ * - 구독과 구독별 청구 내역을 각각 W-TinyLFU 캐시에 두고, 미스일 때만 SubscriptionStore에서 읽음 (read-through)
+ *   같은 키의 동시 미스는 먼저 온 스레드 하나만 읽고 나머지는 그 결과를 기다림 (다른 키의 미스는 병렬로 진행)
+ *   없는 구독도 "없음"으로 캐시해 같은 ID 조회가 매번 저장소 파일을 훑지 않게 함
+ * - 구독 생성/변경은 저장소에 먼저 쓰고 캐시 항목을 그 자리에서 교체 (write-through)
+ * - 청구 내역 추가는 캐시에 바로 반영하고 저장소에는 모아서 한 번에 기록 (write-behind)
+ *   아직 저장되지 않은 내역도 미스 시 대기열에서 함께 읽으므로 조회 결과에서 빠지지 않음
+ *
+ * 사용 예 (create-subscription / get-subscription 구현 시):
+ * <pre>
+ * subscriptionReadModel.save(new SubscriptionView(id, customerUid, planId, billingKey, SubscriptionView.ACTIVE, amount, periodEnd, cycle));
+ * SubscriptionView subscription = subscriptionReadModel.find(subscriptionId);
+ * subscriptionReadModel.update(subscriptionId, s -&gt; s.withStatus(SubscriptionView.CANCELLED));
+ * </pre>
+ */
+@Slf4j
+@Component
+public class SubscriptionReadModel {
+
+    private final SubscriptionProperties properties;
+    private final SubscriptionStore store;
+
+    // 값이 비어 있는 Optional은 "저장소에 없음"을 캐시한 것
+    private final WTinyLfuCache<String, Optional<SubscriptionView>> subscriptions;
+    private final WTinyLfuCache<String, List<BillingHistoryEntry>> histories;
+
+    // 키별 진행 중인 미스 로드 - 쓰기가 항목을 지우면 그 로드 결과는 캐시에 넣지 않음
+    private final ConcurrentHashMap<String, CompletableFuture<Optional<SubscriptionView>>> subscriptionLoads =
+        new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CompletableFuture<List<BillingHistoryEntry>>> historyLoads =
+        new ConcurrentHashMap<>();
+
+    // 쓰기와 로드 결과의 캐시 반영을 직렬화 (저장소 읽기와 조회 적중은 락 없음)
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ConcurrentLinkedQueue<BillingHistoryEntry> pendingHistory = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private ScheduledExecutorService writer;
+
+    // 청구 시도 번호 - epoch millis 기반으로 단조 증가 (재시작 후에도 이전 번호와 겹치지 않음)
+    private final AtomicLong lastAttemptId = new AtomicLong();
+
+    private final LongAdder flushedCount = new LongAdder();
+    private final LongAdder flushFailureCount = new LongAdder();
+
+    public SubscriptionReadModel(SubscriptionProperties properties, SubscriptionStore store) {
+        this.properties = properties;
+        this.store = store;
+        this.subscriptions = new WTinyLfuCache<>(properties.getCacheMaximumSize());
+        this.histories = new WTinyLfuCache<>(properties.getHistoryCacheMaximumSize());
+    }
+
+    @PostConstruct
+    public void start() {
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "billing-history-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getWriteBehindInterval().toMillis();
+        writer.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (writer != null) {
+            writer.shutdown();
+            try {
+                writer.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // 남은 내역은 종료 전에 모두 기록
+        flushSafely();
+        if (pendingCount.get() > 0) {
+            log.error("저장하지 못한 청구 내역 {}건이 남았습니다.", pendingCount.get());
+        }
+    }
+
+    /**
+     * 구독 조회 (없으면 null)
+     */
+    public SubscriptionView find(String subscriptionId) {
+        Optional<SubscriptionView> cached = subscriptions.getIfPresent(subscriptionId);
+        if (cached == null) {
+            cached = load(subscriptionId, subscriptions, subscriptionLoads,
+                () -> Optional.ofNullable(store.find(subscriptionId)), "구독 조회 실패: ");
+        }
+        return cached.orElse(null);
+    }
+
+    /**
+     * 구독 생성 / 전체 교체 (create-subscription)
+     */
+    public void save(SubscriptionView subscription) {
+        writeLock.lock();
+        try {
+            store.save(subscription);
+            subscriptionLoads.remove(subscription.subscriptionId());
+            subscriptions.put(subscription.subscriptionId(), Optional.of(subscription));
+        } catch (IOException e) {
+            // 저장에 실패하면 캐시도 비워 다음 조회가 저장소 기준이 되도록
+            subscriptions.invalidate(subscription.subscriptionId());
+            throw new UncheckedIOException("구독 저장 실패: " + subscription.subscriptionId(), e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 구독 변경 (update-subscription) - 현재 값에 change를 적용해 저장하고 캐시를 그 자리에서 교체
+     *
+     * @return 변경된 구독, 구독이 없으면 null
+     */
+    public SubscriptionView update(String subscriptionId, UnaryOperator<SubscriptionView> change) {
+        writeLock.lock();
+        try {
+            SubscriptionView current = find(subscriptionId);
+            if (current == null) {
+                return null;
+            }
+            SubscriptionView updated = change.apply(current);
+            save(updated);
+            return updated;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void invalidate(String subscriptionId) {
+        subscriptionLoads.remove(subscriptionId);
+        historyLoads.remove(subscriptionId);
+        subscriptions.invalidate(subscriptionId);
+        histories.invalidate(subscriptionId);
+    }
+
+    /**
+     * 청구 내역 조회 (기록 순서, 수정 불가 목록)
+     */
+    public List<BillingHistoryEntry> findBillingHistory(String subscriptionId) {
+        List<BillingHistoryEntry> cached = histories.getIfPresent(subscriptionId);
+        if (cached != null) {
+            return cached;
+        }
+        return load(subscriptionId, histories, historyLoads, () -> readBillingHistory(subscriptionId), "청구 내역 조회 실패: ");
+    }
+
+    /**
+     * 대기열을 먼저 본 뒤 저장소를 읽음 - 그 사이에 저장된 건은 저장소 쪽에서 보이고, 중복은 billingId로 제거
+     * (읽는 도중 추가된 내역은 appendBillingHistory가 진행 중인 로드를 지워 캐시에 반영되지 않게 함)
+     */
+    private List<BillingHistoryEntry> readBillingHistory(String subscriptionId) throws IOException {
+        List<BillingHistoryEntry> pending = new ArrayList<>();
+        for (BillingHistoryEntry entry : pendingHistory) {
+            if (entry.subscriptionId().equals(subscriptionId)) {
+                pending.add(entry);
+            }
+        }
+        List<BillingHistoryEntry> history = new ArrayList<>(store.findBillingHistory(subscriptionId));
+        Set<String> seen = new HashSet<>();
+        history.forEach(entry -> seen.add(entry.billingId()));
+        pending.stream().filter(entry -> seen.add(entry.billingId())).forEach(history::add);
+        return Collections.unmodifiableList(history);
+    }
+
+    @FunctionalInterface
+    private interface Loader<V> {
+        V load() throws IOException;
+    }
+
+    /**
+     * 키별 미스 로드 합치기
+     * - 같은 키를 이미 읽는 스레드가 있으면 그 결과를 기다림
+     * - 저장소 읽기는 락 밖에서 하고, 기다리는 스레드에 결과를 넘긴 뒤에야 writeLock으로 캐시에 반영
+     *   (update()처럼 writeLock을 잡은 채 find()로 기다리는 스레드가 있어도 교착되지 않음)
+     * - 읽는 동안 쓰기가 진행 중인 로드를 지웠으면 결과를 캐시에 넣지 않음 (오래된 값으로 덮어쓰지 않도록)
+     */
+    private <V> V load(String key, WTinyLfuCache<String, V> cache,
+                       ConcurrentHashMap<String, CompletableFuture<V>> loads, Loader<V> loader, String failureMessage) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = loads.putIfAbsent(key, mine);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        V loaded;
+        try {
+            loaded = loader.load();
+        } catch (IOException | RuntimeException e) {
+            loads.remove(key, mine);
+            RuntimeException failure = e instanceof IOException io
+                ? new UncheckedIOException(failureMessage + key, io)
+                : (RuntimeException) e;
+            mine.completeExceptionally(failure);
+            throw failure;
+        }
+        mine.complete(loaded);
+
+        writeLock.lock();
+        try {
+            if (loads.remove(key, mine)) {
+                cache.put(key, loaded);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        return loaded;
+    }
+
+    /**
+     * 청구 내역 추가 - 캐시에 바로 반영하고 저장은 write-behind
+     */
+    public void appendBillingHistory(BillingHistoryEntry entry) {
+        writeLock.lock();
+        try {
+            List<BillingHistoryEntry> cached = histories.getIfPresent(entry.subscriptionId());
+            if (cached != null) {
+                List<BillingHistoryEntry> appended = new ArrayList<>(cached.size() + 1);
+                appended.addAll(cached);
+                appended.add(entry);
+                histories.replace(entry.subscriptionId(), Collections.unmodifiableList(appended));
+            }
+            pendingHistory.add(entry);
+            historyLoads.remove(entry.subscriptionId());
+        } finally {
+            writeLock.unlock();
+        }
+        if (pendingCount.incrementAndGet() >= properties.getWriteBehindBatchSize() && writer != null) {
+            try {
+                writer.execute(this::flushSafely);
+            } catch (RejectedExecutionException e) {
+                // 종료 중 - stop()에서 남은 내역을 기록
+            }
+        }
+    }
+
+    /**
+     * 정기 결제 결과를 청구 내역과 구독 상태에 반영
+     */
+    @EventListener
+    public void onBillingCompleted(BillingCompletedEvent event) {
+        BillingTarget target = event.getTarget();
+        LocalDateTime now = LocalDateTime.now();
+        // paymentId는 기간마다 고정이라 실패 재시도와 최종 성공이 같은 값을 가짐 → 시도 번호를 붙여 시도마다 고유하게
+        appendBillingHistory(new BillingHistoryEntry(
+            target.getSubscriptionId(),
+            event.getPaymentId() + "-" + nextAttemptId(),
+            target.getPeriodStart(),
+            target.getPeriodEnd(),
+            target.getAmount(),
+            event.isSuccess() ? BillingHistoryEntry.COMPLETED : BillingHistoryEntry.FAILED,
+            event.getPaymentId(),
+            now,
+            event.getFailureMessage()));
+
+        update(target.getSubscriptionId(), subscription -> event.isSuccess()
+            ? subscription.withStatus(SubscriptionView.ACTIVE).withCurrentPeriodEnd(target.getPeriodEnd())
+            : subscription.withStatus(SubscriptionView.SUSPENDED));
+    }
+
+    private long nextAttemptId() {
+        return lastAttemptId.updateAndGet(last -> Math.max(last + 1, System.currentTimeMillis()));
+    }
+
+    public long getSubscriptionCacheHitCount() {
+        return subscriptions.getHitCount();
+    }
+
+    public long getSubscriptionCacheMissCount() {
+        return subscriptions.getMissCount();
+    }
+
+    public long getSubscriptionCacheEvictionCount() {
+        return subscriptions.getEvictionCount();
+    }
+
+    public double getSubscriptionCacheHitRatio() {
+        return subscriptions.getHitRatio();
+    }
+
+    public int getSubscriptionCacheSize() {
+        return subscriptions.size();
+    }
+
+    public long getHistoryCacheHitCount() {
+        return histories.getHitCount();
+    }
+
+    public long getHistoryCacheMissCount() {
+        return histories.getMissCount();
+    }
+
+    public long getHistoryCacheEvictionCount() {
+        return histories.getEvictionCount();
+    }
+
+    public double getHistoryCacheHitRatio() {
+        return histories.getHitRatio();
+    }
+
+    public int getPendingHistoryCount() {
+        return pendingCount.get();
+    }
+
+    public long getFlushedHistoryCount() {
+        return flushedCount.sum();
+    }
+
+    public long getFlushFailureCount() {
+        return flushFailureCount.sum();
+    }
+
+    private void flushSafely() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            while (!pendingHistory.isEmpty()) {
+                List<BillingHistoryEntry> batch = new ArrayList<>(properties.getWriteBehindBatchSize());
+                for (BillingHistoryEntry entry : pendingHistory) {
+                    batch.add(entry);
+                    if (batch.size() == properties.getWriteBehindBatchSize()) {
+                        break;
+                    }
+                }
+                store.appendBillingHistory(batch);
+                // 저장된 뒤에만 대기열에서 제거 - 미스 로드가 둘 중 한 곳에서는 반드시 보게 됨
+                for (int i = 0; i < batch.size(); i++) {
+                    pendingHistory.poll();
+                }
+                pendingCount.addAndGet(-batch.size());
+                flushedCount.add(batch.size());
+            }
+        } catch (IOException | RuntimeException e) {
+            // 대기열은 그대로 두고 다음 주기에 다시 시도
+            flushFailureCount.increment();
+            log.warn("청구 내역 저장 실패 ({}건 대기): {}", pendingCount.get(), e.getMessage());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+}
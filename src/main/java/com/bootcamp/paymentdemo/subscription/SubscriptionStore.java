@@ -0,0 +1,34 @@
+package com.bootcamp.paymentdemo.subscription;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 구독 / 청구 내역 영속 저장소
+ * 기본 구현은 파일 기반 FileSubscriptionStore이며, DB를 쓰게 되면 이 인터페이스를 구현한 빈으로 교체합니다.
+ * 읽기는 SubscriptionReadModel의 캐시를 거치므로 캐시 미스일 때만 호출됩니다.
+ */
+public interface SubscriptionStore {
+
+    /**
+     * @return 없으면 null
+     */
+    SubscriptionView find(String subscriptionId) throws IOException;
+
+    void save(SubscriptionView subscription) throws IOException;
+
+    /**
+     * 전체 구독의 최신 상태 (기동 시 정기 결제 인덱스 재구성용)
+     */
+    List<SubscriptionView> findAll() throws IOException;
+
+    /**
+     * 구독의 청구 내역 (기록 순서)
+     */
+    List<BillingHistoryEntry> findBillingHistory(String subscriptionId) throws IOException;
+
+    /**
+     * 여러 구독의 청구 내역을 한 번에 추가 (write-behind 배치)
+     */
+    void appendBillingHistory(List<BillingHistoryEntry> entries) throws IOException;
+}
@@ -0,0 +1,35 @@
+package com.bootcamp.paymentdemo.subscription;
+
+import java.time.LocalDateTime;
+
+/**
+ * get-subscription 응답 모델 (불변 - 캐시에서 요청 스레드 간에 그대로 공유)
+ *
+ * @param paymentMethodId 결제 수단 ID - 결제수단 테이블이 생기기 전까지는 create-subscription의 PortOne 빌링키를 그대로 저장
+ * @param status ACTIVE, CANCELLED, SUSPENDED(미납), EXPIRED
+ * @param billingCycle MONTHLY, QUARTERLY, ANNUAL (이전 레코드처럼 없으면 MONTHLY)
+ */
+public record SubscriptionView(
+    String subscriptionId,
+    String customerUid,
+    String planId,
+    String paymentMethodId,
+    String status,
+    long amount,
+    LocalDateTime currentPeriodEnd,
+    String billingCycle
+) {
+
+    public static final String ACTIVE = "ACTIVE";
+    public static final String CANCELLED = "CANCELLED";
+    public static final String SUSPENDED = "SUSPENDED";
+    public static final String EXPIRED = "EXPIRED";
+
+    public SubscriptionView withStatus(String newStatus) {
+        return new SubscriptionView(subscriptionId, customerUid, planId, paymentMethodId, newStatus, amount, currentPeriodEnd, billingCycle);
+    }
+
+    public SubscriptionView withCurrentPeriodEnd(LocalDateTime periodEnd) {
+        return new SubscriptionView(subscriptionId, customerUid, planId, paymentMethodId, status, amount, periodEnd, billingCycle);
+    }
+}
@@ -0,0 +1,261 @@
+package com.bootcamp.paymentdemo.subscription;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 크기 제한 W-TinyLFU 캐시
+ * - 새 항목은 작은 LRU 윈도(전체의 1%)에 들어가고, 윈도에서 밀려나면 본 영역(SLRU)의 probation 후보가 됨
+ * - 본 영역이 가득 차면 후보와 probation의 LRU 항목 중 접근 빈도(FrequencySketch)가 낮은 쪽을 제거
+ *   → 한 번 훑고 지나가는 조회(스캔)가 자주 쓰는 항목을 밀어내지 못함
+ * - probation에서 다시 접근되면 protected(본 영역의 80%)로 승격
+ *
+ * 조회는 ConcurrentHashMap에서 락 없이 읽고, 순서/빈도 갱신은 tryLock이 성공할 때만 합니다
+ * (경합 중에는 갱신 한 번을 건너뛰어도 결과가 크게 달라지지 않으므로 읽기가 기다리지 않게 함).
+ * 추가/삭제/제거는 하나의 락으로 직렬화합니다.
+ */
+final class WTinyLfuCache<K, V> {
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    private static final int REMOVED = -1;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final FrequencySketch sketch;
+
+    private final int maximumSize;
+    private final int windowMaximum;
+    private final int protectedMaximum;
+    private final Node<K, V> window = Node.sentinel();
+    private final Node<K, V> probation = Node.sentinel();
+    private final Node<K, V> protectedQueue = Node.sentinel();
+    private int windowSize;
+    private int probationSize;
+    private int protectedSize;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    WTinyLfuCache(int maximumSize) {
+        this.maximumSize = Math.max(1, maximumSize);
+        this.windowMaximum = Math.max(1, this.maximumSize / 100);
+        this.protectedMaximum = (int) ((this.maximumSize - windowMaximum) * 0.8);
+        this.data = new ConcurrentHashMap<>(Math.min(this.maximumSize, 1 << 16));
+        this.sketch = new FrequencySketch(this.maximumSize);
+    }
+
+    /**
+     * @return 없으면 null
+     */
+    V getIfPresent(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            missCount.increment();
+            // 캐시에 없는 키의 빈도도 세어야 나중에 입장 여부를 판단할 수 있음
+            if (evictionLock.tryLock()) {
+                try {
+                    sketch.increment(key.hashCode());
+                } finally {
+                    evictionLock.unlock();
+                }
+            }
+            return null;
+        }
+        hitCount.increment();
+        if (evictionLock.tryLock()) {
+            try {
+                if (node.queue != REMOVED) {
+                    onAccess(node);
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+        return node.value;
+    }
+
+    /**
+     * 추가 또는 값 교체 (이미 있으면 그 자리에서 갱신)
+     */
+    void put(K key, V value) {
+        evictionLock.lock();
+        try {
+            Node<K, V> node = data.get(key);
+            if (node != null) {
+                node.value = value;
+                onAccess(node);
+                return;
+            }
+            node = new Node<>(key, value);
+            node.queue = WINDOW;
+            linkFirst(window, node);
+            windowSize++;
+            data.put(key, node);
+            evict();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 있을 때만 값 교체
+     *
+     * @return 교체했으면 true
+     */
+    boolean replace(K key, V value) {
+        evictionLock.lock();
+        try {
+            Node<K, V> node = data.get(key);
+            if (node == null) {
+                return false;
+            }
+            node.value = value;
+            return true;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    void invalidate(K key) {
+        evictionLock.lock();
+        try {
+            Node<K, V> node = data.remove(key);
+            if (node != null) {
+                unlink(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    int size() {
+        return data.size();
+    }
+
+    long getHitCount() {
+        return hitCount.sum();
+    }
+
+    long getMissCount() {
+        return missCount.sum();
+    }
+
+    long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    double getHitRatio() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    private void onAccess(Node<K, V> node) {
+        sketch.increment(node.key.hashCode());
+        switch (node.queue) {
+            case WINDOW -> moveToFront(window, node);
+            case PROBATION -> {
+                unlink(node);
+                node.queue = PROTECTED;
+                linkFirst(protectedQueue, node);
+                protectedSize++;
+                if (protectedSize > protectedMaximum) {
+                    // protected가 넘치면 가장 오래된 항목을 probation으로 강등
+                    Node<K, V> demoted = protectedQueue.prev;
+                    unlink(demoted);
+                    demoted.queue = PROBATION;
+                    linkFirst(probation, demoted);
+                    probationSize++;
+                }
+            }
+            case PROTECTED -> moveToFront(protectedQueue, node);
+            default -> {
+            }
+        }
+    }
+
+    private void evict() {
+        Node<K, V> candidate = null;
+        while (windowSize > windowMaximum) {
+            candidate = window.prev;
+            unlink(candidate);
+            candidate.queue = PROBATION;
+            linkFirst(probation, candidate);
+            probationSize++;
+        }
+
+        while (windowSize + probationSize + protectedSize > maximumSize) {
+            Node<K, V> victim = probation.prev != probation ? probation.prev : protectedQueue.prev;
+            Node<K, V> evicted = victim;
+            if (candidate != null && candidate != victim && candidate.queue == PROBATION) {
+                // TinyLFU 입장 정책: 더 자주 쓰인 쪽을 남김 (같으면 기존 항목 유지)
+                if (sketch.frequency(candidate.key.hashCode()) > sketch.frequency(victim.key.hashCode())) {
+                    evicted = victim;
+                } else {
+                    evicted = candidate;
+                    candidate = null;
+                }
+            }
+            data.remove(evicted.key, evicted);
+            unlink(evicted);
+            evictionCount.increment();
+        }
+    }
+
+    private void moveToFront(Node<K, V> head, Node<K, V> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.next = head.next;
+        node.prev = head;
+        head.next.prev = node;
+        head.next = node;
+    }
+
+    private void linkFirst(Node<K, V> head, Node<K, V> node) {
+        node.next = head.next;
+        node.prev = head;
+        head.next.prev = node;
+        head.next = node;
+    }
+
+    private void unlink(Node<K, V> node) {
+        switch (node.queue) {
+            case WINDOW -> windowSize--;
+            case PROBATION -> probationSize--;
+            case PROTECTED -> protectedSize--;
+            default -> {
+                return;
+            }
+        }
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+        node.queue = REMOVED;
+    }
+
+    private static final class Node<K, V> {
+        final K key;
+        volatile V value;
+        int queue;
+        Node<K, V> prev;
+        Node<K, V> next;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        static <K, V> Node<K, V> sentinel() {
+            Node<K, V> node = new Node<>(null, null);
+            node.prev = node;
+            node.next = node;
+            node.queue = REMOVED;
+            return node;
+        }
+    }
+}
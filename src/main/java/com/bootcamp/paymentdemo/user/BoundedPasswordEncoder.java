@@ -0,0 +1,117 @@
+package com.bootcamp.paymentdemo.user;
+
+import com.bootcamp.paymentdemo.config.UserDirectoryProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BCrypt 전용 스레드 풀에서 해시/검증을 수행하는 PasswordEncoder
+ * - 스레드 수와 대기열이 고정되어 로그인 폭주 시에도 요청 스레드(Tomcat/가상 스레드)가 BCrypt에 묶이지 않음
+ *   (대기열이 가득 차거나 timeout이 지나면 AuthenticationServiceException으로 즉시 거절)
+ * - 검증 결과는 캐시하지 않음 - 비밀번호에서 파생된 값을 메모리에 두면 힙 덤프로 BCrypt보다 훨씬 빠르게
+ *   대입 공격을 할 수 있으므로, 반복 로그인 비용은 토큰 재발급(/api/auth/refresh)으로 줄입니다.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final LongAdder hashOperations = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    public BoundedPasswordEncoder(UserDirectoryProperties properties) {
+        this.delegate = new BCryptPasswordEncoder(properties.getBcryptStrength());
+        this.timeoutMillis = properties.getHashingTimeout().toMillis();
+
+        int threads = Math.max(1, properties.getHashingThreads());
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, properties.getHashingQueueCapacity())),
+            runnable -> {
+                Thread thread = new Thread(runnable, "bcrypt-" + sequence.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public long getHashOperationCount() {
+        return hashOperations.sum();
+    }
+
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+
+    public int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new AuthenticationServiceException("비밀번호 검증 요청이 많아 처리할 수 없습니다.", e);
+        }
+
+        try {
+            T result = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            hashOperations.increment();
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejections.increment();
+            throw new AuthenticationServiceException("비밀번호 검증 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new AuthenticationServiceException("비밀번호 검증이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new AuthenticationServiceException("비밀번호 검증 실패", e.getCause());
+        }
+    }
+}
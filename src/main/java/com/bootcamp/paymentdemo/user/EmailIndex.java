@@ -0,0 +1,103 @@
+package com.bootcamp.paymentdemo.user;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntFunction;
+
+/**
+ * 이메일 → 레코드 번호 인덱스 (원시 타입 배열 기반 open addressing)
+ * 이메일 문자열 대신 64비트 해시만 보관하고, 해시가 같으면 레코드의 이메일로 최종 확인합니다.
+ * 조회는 락 없음, 추가는 단일 writer(UserDirectory의 쓰기 락 안)에서만 호출됩니다.
+ */
+class EmailIndex {
+
+    private static final long EMPTY = 0L;
+
+    private volatile Table table;
+    private int size;
+
+    EmailIndex(int initialCapacity) {
+        this.table = new Table(Integer.highestOneBit(Math.max(2, initialCapacity - 1)) << 1);
+    }
+
+    /**
+     * @param emailAt 레코드 번호로 이메일을 돌려주는 함수 (해시 충돌 확인용)
+     * @return 레코드 번호, 없으면 -1
+     */
+    int find(String email, IntFunction<String> emailAt) {
+        long hash = hash(email);
+        Table current = table;
+        int i = (int) hash & current.mask;
+        while (true) {
+            long h = current.hashes.get(i);
+            if (h == EMPTY) {
+                return -1;
+            }
+            if (h == hash) {
+                int record = current.records.get(i);
+                if (email.equals(emailAt.apply(record))) {
+                    return record;
+                }
+            }
+            i = (i + 1) & current.mask;
+        }
+    }
+
+    void put(String email, int record) {
+        if ((size + 1) * 2 > table.mask + 1) {
+            table = grow(table);
+        }
+        insert(table, hash(email), record);
+        size++;
+    }
+
+    static String normalize(String email) {
+        return email.trim().toLowerCase();
+    }
+
+    private static void insert(Table target, long hash, int record) {
+        int i = (int) hash & target.mask;
+        while (target.hashes.get(i) != EMPTY) {
+            i = (i + 1) & target.mask;
+        }
+        // 레코드 번호를 먼저 쓰고 해시를 공개
+        target.records.set(i, record);
+        target.hashes.set(i, hash);
+    }
+
+    private static Table grow(Table old) {
+        Table grown = new Table((old.mask + 1) * 2);
+        for (int i = 0; i <= old.mask; i++) {
+            long hash = old.hashes.get(i);
+            if (hash != EMPTY) {
+                insert(grown, hash, old.records.get(i));
+            }
+        }
+        return grown;
+    }
+
+    /**
+     * FNV-1a 64비트 (0은 빈 칸 표시로 쓰므로 1로 치환)
+     */
+    private static long hash(String email) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : email.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash == EMPTY ? 1L : hash;
+    }
+
+    private static final class Table {
+        final AtomicLongArray hashes;
+        final AtomicIntegerArray records;
+        final int mask;
+
+        Table(int capacity) {
+            hashes = new AtomicLongArray(capacity);
+            records = new AtomicIntegerArray(capacity);
+            mask = capacity - 1;
+        }
+    }
+}
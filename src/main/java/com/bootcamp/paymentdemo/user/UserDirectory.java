@@ -0,0 +1,199 @@
+package com.bootcamp.paymentdemo.user;
+
+import com.bootcamp.paymentdemo.config.UserDirectoryProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 파일 기반 사용자 저장소 (UserDetailsService 구현)
+ * - 레코드는 users.jsonl에 한 줄씩 append되고, 시작 시 전부 읽어 메모리에 올립니다.
+ * - 레코드 배열 + 이메일 해시 인덱스(EmailIndex)로 조회는 락 없이 처리
+ * - 가입(쓰기)만 ReentrantLock으로 직렬화, BCrypt 해시는 락 밖에서 PasswordEncoder 전용 풀에서 수행
+ * customerUid(CUST_{userId}_{rand6})는 가입 시 한 번 만들어 레코드에 저장합니다.
+ */
+@Slf4j
+@Component
+public class UserDirectory implements UserDetailsService {
+
+    private static final List<String> DEFAULT_ROLES = List.of("USER");
+
+    private final UserDirectoryProperties properties;
+    private final PasswordEncoder passwordEncoder;
+    private final JsonMapper jsonMapper;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final EmailIndex index = new EmailIndex(1024);
+    private final SecureRandom random = new SecureRandom();
+    private volatile AtomicReferenceArray<UserRecord> records = new AtomicReferenceArray<>(1024);
+    private volatile int count;
+    private long lastUserId;
+    private FileChannel channel;
+
+    public UserDirectory(UserDirectoryProperties properties, PasswordEncoder passwordEncoder, JsonMapper jsonMapper) {
+        this.properties = properties;
+        this.passwordEncoder = passwordEncoder;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        Path path = Path.of(properties.getStorePath()).toAbsolutePath();
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+
+        if (Files.exists(path)) {
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        append(jsonMapper.readValue(line, UserRecord.class));
+                    } catch (JacksonException e) {
+                        // 기록 도중 종료되어 잘린 마지막 줄 등
+                        log.warn("사용자 레코드 건너뜀: {}", e.getOriginalMessage());
+                    }
+                }
+            }
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        log.info("사용자 저장소 로드: {}명 ({})", count, path);
+
+        if (count == 0 && properties.isSeedAdmin()) {
+            register("관리자", "admin@test.com", "admin", "010-0000-0000", List.of("USER", "ADMIN"));
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        writeLock.lock();
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        UserRecord user = findByEmail(username);
+        if (user == null) {
+            throw new UsernameNotFoundException(username);
+        }
+        return User.withUsername(user.email())
+            .password(user.passwordHash())
+            .roles(user.roles().toArray(String[]::new))
+            .build();
+    }
+
+    /**
+     * 이메일로 사용자 조회 (대소문자/앞뒤 공백 무시), 없으면 null
+     */
+    public UserRecord findByEmail(String email) {
+        if (email == null) {
+            return null;
+        }
+        int record = index.find(EmailIndex.normalize(email), this::emailAt);
+        return record < 0 ? null : records.get(record);
+    }
+
+    /**
+     * 일반 사용자 가입
+     *
+     * @throws DuplicateEmailException 이미 가입된 이메일
+     */
+    public UserRecord register(String name, String email, String password, String phone) throws IOException {
+        return register(name, email, password, phone, DEFAULT_ROLES);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    private UserRecord register(String name, String email, String password, String phone, List<String> roles) throws IOException {
+        String normalized = EmailIndex.normalize(email);
+        // BCrypt 전에 가볍게 한 번 거르고, 최종 중복 확인은 쓰기 락 안에서
+        if (findByEmail(normalized) != null) {
+            throw new DuplicateEmailException(normalized);
+        }
+        String passwordHash = passwordEncoder.encode(password);
+
+        writeLock.lock();
+        try {
+            if (findByEmail(normalized) != null) {
+                throw new DuplicateEmailException(normalized);
+            }
+            long userId = lastUserId + 1;
+            String customerUid = "CUST_" + userId + "_" + String.format("%06d", random.nextInt(1_000_000));
+            UserRecord user = new UserRecord(userId, normalized, passwordHash, name, phone, customerUid, roles);
+
+            byte[] line = (jsonMapper.writeValueAsString(user) + "\n").getBytes(StandardCharsets.UTF_8);
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+
+            append(user);
+            log.info("회원가입: userId={}, customerUid={}", userId, customerUid);
+            return user;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 레코드 배열에 먼저 넣은 뒤 인덱스에 공개 (쓰기 락 안 또는 시작 시 단일 스레드에서만 호출)
+     */
+    private void append(UserRecord user) {
+        int slot = count;
+        AtomicReferenceArray<UserRecord> current = records;
+        if (slot == current.length()) {
+            AtomicReferenceArray<UserRecord> grown = new AtomicReferenceArray<>(current.length() * 2);
+            for (int i = 0; i < slot; i++) {
+                grown.set(i, current.get(i));
+            }
+            records = grown;
+            current = grown;
+        }
+        current.set(slot, user);
+        index.put(user.email(), slot);
+        lastUserId = Math.max(lastUserId, user.userId());
+        count = slot + 1;
+    }
+
+    private String emailAt(int record) {
+        AtomicReferenceArray<UserRecord> current = records;
+        if (record >= current.length()) {
+            return null;
+        }
+        UserRecord user = current.get(record);
+        return user == null ? null : user.email();
+    }
+}
@@ -0,0 +1,17 @@
+package com.bootcamp.paymentdemo.user;
+
+import java.util.List;
+
+/**
+ * 저장소에 보관되는 사용자 레코드 (users.jsonl 한 줄)
+ */
+public record UserRecord(
+    long userId,
+    String email,
+    String passwordHash,
+    String name,
+    String phone,
+    String customerUid,
+    List<String> roles
+) {
+}
@@ -0,0 +1,128 @@
+package com.bootcamp.paymentdemo.validation;
+
+import com.bootcamp.paymentdemo.config.ClientApiProperties;
+import lombok.Getter;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+
+/**
+ * EndpointContract 하나를 시작 시점에 컴파일한 검증기
+ * URL 패턴, 요청 스키마, 응답 스키마를 미리 만들어 두고 요청마다 재사용합니다.
+ */
+@Getter
+public final class CompiledContract {
+
+    private final String endpointName;
+    private final String method;
+    private final PathPattern pathPattern;
+    private final CompiledSchema requestSchema;
+    private final CompiledSchema responseSchema;
+    private final boolean arrayResponse;
+
+    private CompiledContract(String endpointName, String method, PathPattern pathPattern,
+                             CompiledSchema requestSchema, CompiledSchema responseSchema, boolean arrayResponse) {
+        this.endpointName = endpointName;
+        this.method = method;
+        this.pathPattern = pathPattern;
+        this.requestSchema = requestSchema;
+        this.responseSchema = responseSchema;
+        this.arrayResponse = arrayResponse;
+    }
+
+    /**
+     * url/method가 비어 있는 계약(아직 구현 전)은 null 반환
+     */
+    public static CompiledContract compile(String endpointName, ClientApiProperties.EndpointContract contract) {
+        if (contract == null || isBlank(contract.getUrl()) || isBlank(contract.getMethod())) {
+            return null;
+        }
+
+        CompiledSchema requestSchema = CompiledSchema.compile(
+            contract.getRequest() != null ? contract.getRequest().getFields() : null);
+
+        ClientApiProperties.BodySchema body = contract.getResponse() != null ? contract.getResponse().getBody() : null;
+        boolean arrayResponse = body != null && "array".equalsIgnoreCase(body.getType());
+        CompiledSchema responseSchema = CompiledSchema.compile(
+            body == null ? null : arrayResponse ? body.getItems() : body.getFields());
+
+        return new CompiledContract(
+            endpointName,
+            contract.getMethod().trim().toUpperCase(),
+            PathPatternParser.defaultInstance.parse(contract.getUrl().trim()),
+            requestSchema,
+            responseSchema,
+            arrayResponse
+        );
+    }
+
+    public boolean matches(String requestMethod, PathContainer path) {
+        return method.equals(requestMethod) && pathPattern.matches(path);
+    }
+
+    public boolean hasRequestSchema() {
+        return !requestSchema.isEmpty();
+    }
+
+    public boolean hasResponseSchema() {
+        return !responseSchema.isEmpty();
+    }
+
+    /**
+     * 요청 본문 검증 - 최상위는 항상 객체
+     */
+    public ValidationResult validateRequest(JsonParser parser) {
+        ValidationResult result = ValidationResult.collecting();
+        JsonToken first = parser.nextToken();
+        if (first != JsonToken.START_OBJECT) {
+            result.addError("요청 본문이 객체여야 하지만 " + describe(first) + " 타입입니다.");
+            return result;
+        }
+        requestSchema.validateObject(parser, "", result);
+        return result;
+    }
+
+    /**
+     * 응답 본문 검증 - type: array이면 모든 아이템을 items 스키마로 검증
+     */
+    public ValidationResult validateResponse(JsonParser parser) {
+        ValidationResult result = ValidationResult.collecting();
+        JsonToken first = parser.nextToken();
+
+        if (!arrayResponse) {
+            if (first != JsonToken.START_OBJECT) {
+                result.addError("응답이 객체여야 하지만 " + describe(first) + " 타입입니다.");
+                return result;
+            }
+            responseSchema.validateObject(parser, "", result);
+            return result;
+        }
+
+        if (first != JsonToken.START_ARRAY) {
+            result.addError("응답이 배열이어야 하지만 " + describe(first) + " 타입입니다.");
+            return result;
+        }
+        int index = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token == JsonToken.START_OBJECT) {
+                responseSchema.validateObject(parser, "[" + index + "].", result);
+            } else {
+                result.addError("[" + index + "] 아이템이 객체여야 하지만 " + FieldType.describe(token) + " 타입입니다.");
+                parser.skipChildren();
+            }
+            index++;
+        }
+        return result;
+    }
+
+    private static String describe(JsonToken token) {
+        return token == null ? "빈 본문" : FieldType.describe(token);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,98 @@
+package com.bootcamp.paymentdemo.validation;
+
+import com.bootcamp.paymentdemo.config.ClientApiProperties;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 필드 목록을 미리 컴파일한 객체 스키마
+ * 필드명 → 인덱스 조회 테이블과 인덱스별 타입/필수 여부 배열을 갖고,
+ * JsonParser 토큰을 한 번 훑으면서 Map 트리 없이 검증합니다.
+ */
+public final class CompiledSchema {
+
+    private final String[] names;
+    private final FieldType[] types;
+    private final boolean[] required;
+    private final Map<String, Integer> indexByName;
+    private final int requiredCount;
+
+    private CompiledSchema(String[] names, FieldType[] types, boolean[] required) {
+        this.names = names;
+        this.types = types;
+        this.required = required;
+        this.indexByName = new HashMap<>(names.length * 2);
+        int count = 0;
+        for (int i = 0; i < names.length; i++) {
+            indexByName.put(names[i], i);
+            if (required[i]) {
+                count++;
+            }
+        }
+        this.requiredCount = count;
+    }
+
+    public static CompiledSchema compile(List<ClientApiProperties.FieldDefinition> fields) {
+        List<ClientApiProperties.FieldDefinition> defined = fields == null ? List.of() : fields.stream()
+            .filter(field -> field.getName() != null && !field.getName().isBlank())
+            .toList();
+
+        String[] names = new String[defined.size()];
+        FieldType[] types = new FieldType[defined.size()];
+        boolean[] required = new boolean[defined.size()];
+        for (int i = 0; i < defined.size(); i++) {
+            ClientApiProperties.FieldDefinition field = defined.get(i);
+            names[i] = field.getName();
+            types[i] = FieldType.of(field.getType());
+            required[i] = Boolean.TRUE.equals(field.getRequired());
+        }
+        return new CompiledSchema(names, types, required);
+    }
+
+    public boolean isEmpty() {
+        return names.length == 0;
+    }
+
+    /**
+     * START_OBJECT 토큰에 위치한 parser로부터 객체 하나를 검증
+     * 반환 시 parser는 해당 객체의 END_OBJECT에 위치합니다.
+     */
+    public void validateObject(JsonParser parser, String context, ValidationResult result) {
+        boolean[] seen = new boolean[names.length];
+        int seenRequired = 0;
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_OBJECT && token != null) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            Integer index = indexByName.get(name);
+
+            if (index != null && value != JsonToken.VALUE_NULL) {
+                int i = index;
+                // 같은 키가 중복되어도 한 번만 집계 (다른 필수 필드 누락을 가리지 않도록)
+                if (required[i] && !seen[i]) {
+                    seenRequired++;
+                }
+                seen[i] = true;
+                if (!types[i].accepts(value)) {
+                    result.addError(context + name + " 타입 오류: "
+                        + types[i].toContractName() + " 예상, " + FieldType.describe(value) + " 받음");
+                }
+            }
+            // 계약에 없는 필드나 중첩 값은 내용까지 보지 않고 건너뜀
+            parser.skipChildren();
+        }
+
+        if (seenRequired < requiredCount) {
+            for (int i = 0; i < names.length; i++) {
+                if (required[i] && !seen[i]) {
+                    result.addError("필수 필드 누락: " + context + names[i]);
+                }
+            }
+        }
+    }
+}
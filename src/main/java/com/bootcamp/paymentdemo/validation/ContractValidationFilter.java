@@ -0,0 +1,122 @@
+package com.bootcamp.paymentdemo.validation;
+
+import com.bootcamp.paymentdemo.config.ContractValidationProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * API 계약 검증 필터
+ * /api/** 요청 중 client-api-config.yml에 url/method가 정의된 엔드포인트의 요청 본문을 계약과 비교합니다.
+ * 위반 시 400 응답 (reject-invalid-requests=false면 로그만 남기고 통과)
+ */
+@Component
+public class ContractValidationFilter extends OncePerRequestFilter {
+
+    private final ContractValidator contractValidator;
+    private final ContractValidationProperties properties;
+    private final JsonMapper jsonMapper;
+
+    public ContractValidationFilter(
+        ContractValidator contractValidator,
+        ContractValidationProperties properties,
+        JsonMapper jsonMapper
+    ) {
+        this.contractValidator = contractValidator;
+        this.properties = properties;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        CompiledContract contract = contractValidator.find(request.getMethod(), path);
+        if (contract == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest requestToUse = request;
+
+        // 1. 요청 본문 검증
+        if (contract.hasRequestSchema() && isJson(request)) {
+            byte[] body = request.getInputStream().readNBytes(properties.getMaxBodyBytes() + 1);
+            if (body.length > properties.getMaxBodyBytes()) {
+                writeError(response, HttpStatus.CONTENT_TOO_LARGE, "요청 본문이 너무 큽니다.", List.of());
+                return;
+            }
+
+            ValidationResult result = contractValidator.validateRequest(contract, body);
+            if (!result.isValid()) {
+                if (properties.isRejectInvalidRequests()) {
+                    writeError(response, HttpStatus.BAD_REQUEST,
+                        "요청이 API 계약과 일치하지 않습니다. (" + contract.getEndpointName() + ")", result.getErrors());
+                    return;
+                }
+                logger.warn("API 계약 위반 요청 [" + contract.getEndpointName() + "]: " + result.getErrors());
+            }
+            requestToUse = new CachedBodyHttpServletRequest(request, body);
+        }
+
+        // 2. 응답 본문 검증 (옵션, 로그만)
+        if (!properties.isValidateResponses() || !contract.hasResponseSchema()) {
+            filterChain.doFilter(requestToUse, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(requestToUse, responseWrapper);
+            if (responseWrapper.getStatus() < 400 && responseWrapper.getContentSize() > 0) {
+                ValidationResult result = contractValidator.validateResponse(
+                    contract, responseWrapper.getContentAsByteArray());
+                if (!result.isValid()) {
+                    logger.warn("API 계약 위반 응답 [" + contract.getEndpointName() + "]: " + result.getErrors());
+                }
+            }
+        } finally {
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private static boolean isJson(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        // Content-Type 없이 보내는 클라이언트도 있으므로 없으면 JSON으로 간주
+        return contentType == null || contentType.toLowerCase().contains("json");
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message,
+                            List<String> errors) throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("success", false);
+        body.put("message", message);
+        body.put("errors", errors);
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        jsonMapper.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -0,0 +1,106 @@
+package com.bootcamp.paymentdemo.validation;
+
+import com.bootcamp.paymentdemo.config.ClientApiProperties;
+import com.bootcamp.paymentdemo.service.ApiContractRegistry;
+import com.bootcamp.paymentdemo.service.ApiContractSnapshot;
+import com.bootcamp.paymentdemo.service.ApiContractsChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서버 측 API 계약 검증 엔진
+ * 시작 시(그리고 계약이 리로드될 때마다) 모든 EndpointContract를 CompiledContract로 컴파일하고,
+ * 요청 경로에 맞는 계약을 찾아 JSON 토큰 스트림을 한 번만 읽어 검증합니다.
+ */
+@Slf4j
+@Component
+public class ContractValidator {
+
+    private final JsonMapper jsonMapper;
+    private volatile List<CompiledContract> contracts;
+
+    public ContractValidator(ApiContractRegistry apiContractRegistry, JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+        this.contracts = compile(apiContractRegistry.getSnapshot());
+    }
+
+    @EventListener
+    public void onContractsChanged(ApiContractsChangedEvent event) {
+        this.contracts = compile(event.getSnapshot());
+    }
+
+    /**
+     * 요청 메서드 + 경로에 해당하는 계약 조회 (없으면 null)
+     */
+    public CompiledContract find(String method, String path) {
+        List<CompiledContract> current = contracts;
+        if (current.isEmpty()) {
+            return null;
+        }
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (CompiledContract contract : current) {
+            if (contract.matches(method, pathContainer)) {
+                return contract;
+            }
+        }
+        return null;
+    }
+
+    public ValidationResult validateRequest(CompiledContract contract, byte[] body) {
+        if (!contract.hasRequestSchema()) {
+            return ValidationResult.valid();
+        }
+        try (JsonParser parser = jsonMapper.createParser(body)) {
+            return contract.validateRequest(parser);
+        } catch (JacksonException e) {
+            return malformed(e);
+        }
+    }
+
+    public ValidationResult validateResponse(CompiledContract contract, byte[] body) {
+        if (!contract.hasResponseSchema()) {
+            return ValidationResult.valid();
+        }
+        try (JsonParser parser = jsonMapper.createParser(body)) {
+            return contract.validateResponse(parser);
+        } catch (JacksonException e) {
+            return malformed(e);
+        }
+    }
+
+    public int size() {
+        return contracts.size();
+    }
+
+    private static ValidationResult malformed(JacksonException e) {
+        ValidationResult result = ValidationResult.collecting();
+        result.addError("JSON 형식 오류: " + e.getOriginalMessage());
+        return result;
+    }
+
+    private static List<CompiledContract> compile(ApiContractSnapshot snapshot) {
+        List<CompiledContract> compiled = new ArrayList<>();
+        for (Map.Entry<String, ClientApiProperties.EndpointContract> entry : snapshot.getEndpoints().entrySet()) {
+            try {
+                CompiledContract contract = CompiledContract.compile(entry.getKey(), entry.getValue());
+                if (contract != null) {
+                    compiled.add(contract);
+                }
+            } catch (RuntimeException e) {
+                // 잘못된 URL 패턴 등은 해당 엔드포인트만 검증에서 제외
+                log.warn("API 계약 컴파일 실패 - {}: {}", entry.getKey(), e.getMessage());
+            }
+        }
+        log.debug("API 계약 검증기 컴파일 완료: {}개", compiled.size());
+        return List.copyOf(compiled);
+    }
+}
@@ -0,0 +1,62 @@
+package com.bootcamp.paymentdemo.validation;
+
+import tools.jackson.core.JsonToken;
+
+/**
+ * 계약의 필드 타입 (client-api-config.yml의 type 값)
+ * api-validator.js와 동일하게 string / number / boolean / array / object를 구분합니다.
+ */
+public enum FieldType {
+    STRING,
+    NUMBER,
+    BOOLEAN,
+    ARRAY,
+    OBJECT,
+    ANY;
+
+    public static FieldType of(String type) {
+        if (type == null) {
+            return ANY;
+        }
+        return switch (type.trim().toLowerCase()) {
+            case "string" -> STRING;
+            case "number" -> NUMBER;
+            case "boolean" -> BOOLEAN;
+            case "array" -> ARRAY;
+            case "object" -> OBJECT;
+            default -> ANY;
+        };
+    }
+
+    /**
+     * 값의 첫 토큰이 이 타입을 만족하는지 확인 (null 값은 호출 전에 걸러짐)
+     */
+    public boolean accepts(JsonToken token) {
+        return switch (this) {
+            case STRING -> token == JsonToken.VALUE_STRING;
+            case NUMBER -> token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT;
+            case BOOLEAN -> token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE;
+            case ARRAY -> token == JsonToken.START_ARRAY;
+            case OBJECT -> token == JsonToken.START_OBJECT;
+            case ANY -> true;
+        };
+    }
+
+    /**
+     * 오류 메시지용 JSON 타입 이름 (JS의 typeof 결과와 맞춤)
+     */
+    public static String describe(JsonToken token) {
+        return switch (token) {
+            case VALUE_STRING -> "string";
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> "number";
+            case VALUE_TRUE, VALUE_FALSE -> "boolean";
+            case START_ARRAY -> "array";
+            case START_OBJECT -> "object";
+            default -> "null";
+        };
+    }
+
+    public String toContractName() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,45 @@
+package com.bootcamp.paymentdemo.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 계약 검증 결과 - 오류가 없으면 errors는 비어 있습니다.
+ */
+public class ValidationResult {
+
+    private static final ValidationResult VALID = new ValidationResult(Collections.emptyList());
+
+    private List<String> errors;
+
+    private ValidationResult(List<String> errors) {
+        this.errors = errors;
+    }
+
+    public static ValidationResult valid() {
+        return VALID;
+    }
+
+    /**
+     * 검증 중 오류를 모을 결과 객체 (오류가 생길 때만 리스트 할당)
+     */
+    static ValidationResult collecting() {
+        return new ValidationResult(null);
+    }
+
+    void addError(String error) {
+        if (errors == null) {
+            errors = new ArrayList<>(2);
+        }
+        errors.add(error);
+    }
+
+    public boolean isValid() {
+        return errors == null || errors.isEmpty();
+    }
+
+    public List<String> getErrors() {
+        return errors == null ? Collections.emptyList() : Collections.unmodifiableList(errors);
+    }
+}
@@ -0,0 +1,19 @@
+package com.bootcamp.paymentdemo.webhook;
+
+import lombok.Value;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * 웹훅을 계기로 PortOne에서 다시 조회한 결제 상태
+ * 웹훅 본문은 상태 변경 알림으로만 쓰고, 실제 상태(status, 금액 등)는 항상 PortOne 조회 결과를 기준으로 합니다.
+ */
+@Value
+public class PaymentStatusUpdate {
+    String paymentId;
+    // PortOne 결제 상태 (PAID, CANCELLED, FAILED, VIRTUAL_ACCOUNT_ISSUED 등)
+    String status;
+    // 배치 안에서 같은 paymentId로 합쳐진 마지막 웹훅 종류
+    String webhookType;
+    // PortOne 결제 조회 응답 (여러 리스너가 공유하므로 수정 금지)
+    JsonNode payment;
+}
@@ -0,0 +1,14 @@
+package com.bootcamp.paymentdemo.webhook;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 웹훅 워커가 한 배치를 처리할 때마다 발행하는 이벤트
+ * 같은 배치 안에서 paymentId는 중복되지 않으므로, 리스너는 주문 상태를 한 번에 갱신할 수 있습니다.
+ */
+@Value
+public class PaymentWebhookBatchEvent {
+    List<PaymentStatusUpdate> updates;
+}
@@ -0,0 +1,249 @@
+package com.bootcamp.paymentdemo.webhook;
+
+import com.bootcamp.paymentdemo.config.PortOneProperties;
+import com.bootcamp.paymentdemo.service.PaymentLookupService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 웹훅 이벤트 처리 파이프라인
+ * - 요청 스레드는 submit()으로 링 버퍼에 넣기만 하고 바로 응답 (가득 차면 false → 503으로 PortOne 재전송 유도)
+ * - paymentId 해시로 워커를 고정하므로 같은 결제의 이벤트는 항상 한 워커에서 순서대로 처리됨
+ * - 워커는 최대 batchSize건을 꺼내 paymentId로 중복을 합친 뒤, PortOne 조회를 병렬로 수행하고
+ *   결과를 PaymentWebhookBatchEvent 한 건으로 발행 (주문 상태 갱신은 리스너가 배치 단위로 처리)
+ * - PortOne 조회나 리스너가 실패한 이벤트는 retryBackoff * 시도 횟수 후 다시 넣고, maxAttempts를 넘으면 버림
+ */
+@Slf4j
+@Component
+public class WebhookDispatcher {
+
+    private final PaymentLookupService paymentLookupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService portOneExecutor;
+    private final PortOneProperties.Webhook settings;
+    private final Worker[] workers;
+    private final ScheduledExecutorService retryScheduler;
+    private volatile boolean running;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public WebhookDispatcher(
+        PortOneProperties portOneProperties,
+        PaymentLookupService paymentLookupService,
+        ApplicationEventPublisher eventPublisher,
+        @Qualifier("portOneExecutor") ExecutorService portOneExecutor
+    ) {
+        this.settings = portOneProperties.getWebhook();
+        this.paymentLookupService = paymentLookupService;
+        this.eventPublisher = eventPublisher;
+        this.portOneExecutor = portOneExecutor;
+
+        this.workers = new Worker[Math.max(1, settings.getWorkers())];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Worker(i, new WebhookRingBuffer(settings.getQueueCapacity()));
+        }
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "portone-webhook-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (Worker worker : workers) {
+            worker.thread.start();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        retryScheduler.shutdownNow();
+        for (Worker worker : workers) {
+            LockSupport.unpark(worker.thread);
+        }
+        // 이미 받은 이벤트는 최대한 처리하고 종료
+        for (Worker worker : workers) {
+            worker.thread.join(5000);
+        }
+    }
+
+    /**
+     * 이벤트 접수 (요청 스레드에서 호출, 대기하지 않음)
+     *
+     * @return 버퍼가 가득 차 접수하지 못했으면 false
+     */
+    public boolean submit(WebhookEvent event) {
+        Worker worker = workers[Math.floorMod(event.paymentId().hashCode(), workers.length)];
+        if (!running || !worker.offer(event)) {
+            rejected.increment();
+            return false;
+        }
+        accepted.increment();
+        return true;
+    }
+
+    public int getQueuedCount() {
+        int queued = 0;
+        for (Worker worker : workers) {
+            queued += worker.buffer.size();
+        }
+        return queued;
+    }
+
+    public long getAcceptedCount() {
+        return accepted.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    public long getAppliedCount() {
+        return applied.sum();
+    }
+
+    public long getRetriedCount() {
+        return retried.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * 한 배치 처리 - paymentId별 PortOne 조회(병렬) 후 이벤트 발행
+     */
+    private void apply(Map<String, WebhookEvent> batch) {
+        List<WebhookEvent> events = new ArrayList<>(batch.values());
+        List<CompletableFuture<JsonNode>> lookups = new ArrayList<>(events.size());
+        for (WebhookEvent event : events) {
+            lookups.add(CompletableFuture.supplyAsync(() -> {
+                // 웹훅은 상태가 바뀌었다는 신호이므로 캐시된 이전 조회 결과는 버림
+                paymentLookupService.invalidate(event.paymentId());
+                return paymentLookupService.getPayment(event.paymentId());
+            }, portOneExecutor));
+        }
+
+        List<PaymentStatusUpdate> updates = new ArrayList<>(events.size());
+        List<WebhookEvent> resolved = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            WebhookEvent event = events.get(i);
+            try {
+                JsonNode payment = lookups.get(i).join();
+                updates.add(new PaymentStatusUpdate(
+                    event.paymentId(), payment.path("status").asString(), event.type(), payment));
+                resolved.add(event);
+            } catch (RuntimeException e) {
+                retryLater(event, "PortOne 조회 실패: " + e.getMessage());
+            }
+        }
+
+        if (updates.isEmpty()) {
+            return;
+        }
+        try {
+            eventPublisher.publishEvent(new PaymentWebhookBatchEvent(List.copyOf(updates)));
+            batches.increment();
+            applied.add(updates.size());
+        } catch (RuntimeException e) {
+            log.warn("웹훅 배치 반영 실패 ({}건) - 재시도 예약", updates.size(), e);
+            for (WebhookEvent event : resolved) {
+                retryLater(event, "리스너 실패");
+            }
+        }
+    }
+
+    private void retryLater(WebhookEvent event, String reason) {
+        WebhookEvent next = event.nextAttempt();
+        if (next.attempt() >= settings.getMaxAttempts() || !running) {
+            dropped.increment();
+            log.warn("웹훅 처리 포기: paymentId={}, type={}, attempts={}, reason={}",
+                event.paymentId(), event.type(), next.attempt(), reason);
+            return;
+        }
+        retried.increment();
+        long delay = settings.getRetryBackoff().toMillis() * next.attempt();
+        retryScheduler.schedule(() -> {
+            if (!submit(next)) {
+                dropped.increment();
+                log.warn("웹훅 재시도 접수 실패 (버퍼 가득 참): paymentId={}", next.paymentId());
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private final class Worker implements Runnable {
+
+        private final WebhookRingBuffer buffer;
+        private final Thread thread;
+        private volatile boolean idle;
+
+        Worker(int index, WebhookRingBuffer buffer) {
+            this.buffer = buffer;
+            this.thread = new Thread(this, "portone-webhook-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        boolean offer(WebhookEvent event) {
+            if (!buffer.offer(event)) {
+                return false;
+            }
+            if (idle) {
+                LockSupport.unpark(thread);
+            }
+            return true;
+        }
+
+        @Override
+        public void run() {
+            // 같은 paymentId는 마지막 이벤트 하나로 합침 (상태는 어차피 PortOne에서 다시 조회)
+            Map<String, WebhookEvent> batch = new LinkedHashMap<>();
+            while (running || buffer.size() > 0) {
+                buffer.drain(event -> batch.put(event.paymentId(), event), settings.getBatchSize());
+                if (batch.isEmpty()) {
+                    idle = true;
+                    if (running && buffer.size() == 0) {
+                        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+                    }
+                    idle = false;
+                    continue;
+                }
+                try {
+                    apply(batch);
+                } catch (RuntimeException e) {
+                    log.error("웹훅 배치 처리 오류", e);
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.bootcamp.paymentdemo.webhook;
+
+/**
+ * 수신한 PortOne 웹훅 한 건 (서명 검증 완료)
+ *
+ * @param webhookId  webhook-id 헤더 (재전송 시 동일)
+ * @param type       이벤트 종류 (예: Transaction.Paid, Transaction.Cancelled)
+ * @param paymentId  결제 ID
+ * @param receivedAt 수신 시각 (epoch millis)
+ * @param attempt    처리 시도 횟수 (PortOne 조회 실패 시 증가)
+ */
+public record WebhookEvent(String webhookId, String type, String paymentId, long receivedAt, int attempt) {
+
+    WebhookEvent nextAttempt() {
+        return new WebhookEvent(webhookId, type, paymentId, receivedAt, attempt + 1);
+    }
+}
@@ -0,0 +1,68 @@
+package com.bootcamp.paymentdemo.webhook;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 고정 크기 링 버퍼 (생산자 여럿 / 소비자 하나)
+ * - 생산자: tail을 CAS로 예약한 뒤 슬롯에 기록, 가득 차 있으면 즉시 false (대기하지 않음)
+ * - 소비자: 기록이 끝난 슬롯만 순서대로 꺼내고 비운 다음 head를 전진
+ * 할당은 생성 시 한 번뿐이며 락을 쓰지 않습니다.
+ */
+final class WebhookRingBuffer {
+
+    private final AtomicReferenceArray<WebhookEvent> slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    WebhookRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    boolean offer(WebhookEvent event) {
+        while (true) {
+            long t = tail.get();
+            if (t - head.get() > mask) {
+                return false;
+            }
+            if (tail.compareAndSet(t, t + 1)) {
+                slots.set((int) t & mask, event);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 최대 max건을 꺼내 consumer에 전달 (소비자 스레드에서만 호출)
+     *
+     * @return 꺼낸 건수
+     */
+    int drain(Consumer<WebhookEvent> consumer, int max) {
+        long h = head.get();
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) h & mask;
+            WebhookEvent event = slots.get(index);
+            if (event == null) {
+                // 비었거나, 예약만 되고 아직 기록되지 않은 슬롯
+                break;
+            }
+            slots.set(index, null);
+            consumer.accept(event);
+            h++;
+            drained++;
+        }
+        if (drained > 0) {
+            head.set(h);
+        }
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+}
@@ -0,0 +1,86 @@
+package com.bootcamp.paymentdemo.webhook;
+
+import com.bootcamp.paymentdemo.config.PortOneProperties;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * PortOne 웹훅 서명 검증 (Standard Webhooks 규격)
+ * - 서명 대상: "{webhook-id}.{webhook-timestamp}.{본문}"
+ * - webhook-signature: 공백으로 구분된 "v1,{Base64(HMAC-SHA256)}" 목록 (키 교체 기간에는 여러 개)
+ * - webhook-timestamp가 허용 오차를 벗어나면 거부
+ */
+@Component
+public class WebhookSignatureVerifier {
+
+    private static final String SECRET_PREFIX = "whsec_";
+
+    private final Mac prototype;
+    private final long toleranceSeconds;
+
+    public WebhookSignatureVerifier(PortOneProperties portOneProperties) throws GeneralSecurityException {
+        PortOneProperties.Webhook webhook = portOneProperties.getWebhook();
+        String secret = webhook.getSecret() != null && !webhook.getSecret().isBlank()
+            ? webhook.getSecret()
+            : portOneProperties.getApi().getSecret();
+
+        byte[] key = secret.startsWith(SECRET_PREFIX)
+            ? Base64.getDecoder().decode(secret.substring(SECRET_PREFIX.length()))
+            : secret.getBytes(StandardCharsets.UTF_8);
+
+        this.prototype = Mac.getInstance("HmacSHA256");
+        this.prototype.init(new SecretKeySpec(key, "HmacSHA256"));
+        this.toleranceSeconds = webhook.getTolerance().toSeconds();
+    }
+
+    public boolean verify(String webhookId, String timestamp, String signatures, byte[] body) {
+        if (webhookId == null || timestamp == null || signatures == null) {
+            return false;
+        }
+
+        long sentAt;
+        try {
+            sentAt = Long.parseLong(timestamp.trim());
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (Math.abs(System.currentTimeMillis() / 1000 - sentAt) > toleranceSeconds) {
+            return false;
+        }
+
+        byte[] expected = sign(webhookId, timestamp.trim(), body);
+        for (String signature : signatures.trim().split(" ")) {
+            int comma = signature.indexOf(',');
+            if (comma < 0 || !"v1".equals(signature.substring(0, comma))) {
+                continue;
+            }
+            try {
+                byte[] provided = Base64.getDecoder().decode(signature.substring(comma + 1));
+                if (MessageDigest.isEqual(expected, provided)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                // Base64 형식이 아닌 서명은 건너뜀
+            }
+        }
+        return false;
+    }
+
+    private byte[] sign(String webhookId, String timestamp, byte[] body) {
+        Mac mac;
+        try {
+            mac = (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HmacSHA256 Mac is not cloneable", e);
+        }
+        mac.update((webhookId + "." + timestamp + ".").getBytes(StandardCharsets.UTF_8));
+        mac.update(body);
+        return mac.doFinal();
+    }
+}
@@ -6,8 +6,10 @@
 /**
  * API 요청을 수행하고 패널에 표시
  * @param {string} endpointKey - 설정의 엔드포인트 키
- * @param {Object} options - Fetch 옵션 (method, body, params, returnHeaders)
+ * @param {Object} options - Fetch 옵션 (method, body, params, returnHeaders, idempotencyKey)
  *   - method: HTTP 메서드 (생략 시 YAML 설정에서 자동으로 가져옴)
+ *   - params: 쿼리 파라미터 객체 (null/undefined 값은 제외)
+ *   - idempotencyKey: 재시도 시에도 같은 값을 보내면 서버가 중복 처리하지 않음 (create-payment, create-billing)
  * @returns {Promise<Object>} 응답 데이터 (returnHeaders가 true면 { data, headers })
  */
 async function makeApiRequest(endpointKey, options = {}) {
@@ -15,7 +17,8 @@ async function makeApiRequest(endpointKey, options = {}) {
         body = null,
         params = {},
         pathParams = {},
-        returnHeaders = false
+        returnHeaders = false,
+        idempotencyKey = null
     } = options;
 
     try {
@@ -31,7 +34,16 @@ async function makeApiRequest(endpointKey, options = {}) {
         const method = options.method || endpointContract.method || 'GET';
 
         // URL 생성
-        const url = await buildApiUrl(endpointKey, pathParams);
+        let url = await buildApiUrl(endpointKey, pathParams);
+        const query = new URLSearchParams();
+        Object.entries(params).forEach(([name, value]) => {
+            if (value !== undefined && value !== null) {
+                query.append(name, value);
+            }
+        });
+        if (query.toString()) {
+            url += (url.includes('?') ? '&' : '?') + query.toString();
+        }
 
         // 엔드포인트 표시 업데이트
         updateEndpointDisplay(method, url);
@@ -58,11 +70,21 @@ async function makeApiRequest(endpointKey, options = {}) {
             fetchOptions.headers['Authorization'] = `Bearer ${token}`;
         }
 
+        if (idempotencyKey) {
+            fetchOptions.headers['Idempotency-Key'] = idempotencyKey;
+        }
+
         if (body && method !== 'GET') {
             fetchOptions.body = JSON.stringify(body);
         }
 
-        const response = await fetch(url, fetchOptions);
+        let response = await fetch(url, fetchOptions);
+
+        // 401 응답이면 Refresh 토큰으로 한 번만 재발급 후 재시도
+        if (response.status === 401 && await refreshAccessToken()) {
+            fetchOptions.headers['Authorization'] = `Bearer ${getToken()}`;
+            response = await fetch(url, fetchOptions);
+        }
 
         // 401 Unauthorized 응답 시 로그인 페이지로 이동 (쿠키 삭제)
         if (response.status === 401) {
@@ -104,6 +126,99 @@ async function makeApiRequest(endpointKey, options = {}) {
     }
 }
 
+/**
+ * 커서 페이지네이션 엔드포인트의 전체 목록 조회
+ * YAML의 pagination 설정대로 다음 페이지 커서 헤더가 없을 때까지 이어서 요청하고 목록을 합칩니다.
+ * pagination 설정이 없는 엔드포인트는 makeApiRequest 한 번과 같습니다.
+ * @param {string} endpointKey - 설정의 엔드포인트 키
+ * @param {Object} options - makeApiRequest 옵션
+ * @param {string|null} itemsField - 목록이 들어 있는 응답 필드 (생략하면 pagination.itemsField, 둘 다 없으면 본문 자체가 배열)
+ * @returns {Promise<Object|Array>} 첫 페이지 응답에 모든 페이지의 목록을 합친 값
+ */
+async function makePagedApiRequest(endpointKey, options = {}, itemsField = null) {
+    const config = await getConfig();
+    const endpointContract = config.api.endpoints[endpointKey];
+    const pagination = endpointContract && endpointContract.pagination;
+    if (!pagination || !pagination.nextCursorHeader) {
+        return makeApiRequest(endpointKey, options);
+    }
+
+    itemsField = itemsField || pagination.itemsField || null;
+    const itemsOf = data => (itemsField ? data[itemsField] : data) || [];
+    const seenCursors = new Set();
+    let cursor = null;
+    let merged = null;
+
+    do {
+        const params = { ...(options.params || {}) };
+        if (pagination.limitParam && pagination.defaultLimit) {
+            params[pagination.limitParam] = pagination.defaultLimit;
+        }
+        if (cursor) {
+            params[pagination.cursorParam] = cursor;
+        }
+
+        const page = await makeApiRequest(endpointKey, { ...options, params, returnHeaders: true });
+        if (!page) {
+            // 401로 로그인 페이지 이동 중
+            return merged;
+        }
+        const { data, headers } = page;
+        if (merged === null) {
+            merged = itemsField ? { ...data, [itemsField]: [...itemsOf(data)] } : [...itemsOf(data)];
+        } else {
+            (itemsField ? merged[itemsField] : merged).push(...itemsOf(data));
+        }
+
+        // fetch Headers는 이름을 소문자로 돌려줌, 같은 커서가 다시 오면 무한 반복 방지를 위해 중단
+        cursor = headers[pagination.nextCursorHeader.toLowerCase()] || null;
+        if (cursor && seenCursors.has(cursor)) {
+            console.warn(`${endpointKey}: 같은 커서가 반복되어 페이지 조회를 중단합니다.`);
+            cursor = null;
+        }
+        if (cursor) {
+            seenCursors.add(cursor);
+        }
+    } while (cursor);
+
+    return merged;
+}
+
+/**
+ * Refresh 토큰으로 Access 토큰 재발급
+ * 동시에 여러 요청이 401을 받아도 재발급 요청은 한 번만 보냄 (Refresh 토큰은 1회용)
+ * @returns {Promise<boolean>} 재발급 성공 여부
+ */
+let refreshInFlight = null;
+
+function refreshAccessToken() {
+    const refreshToken = typeof getRefreshToken === 'function' ? getRefreshToken() : null;
+    if (!refreshToken) {
+        return Promise.resolve(false);
+    }
+    if (!refreshInFlight) {
+        refreshInFlight = fetch('/api/auth/refresh', {
+            method: 'POST',
+            headers: { 'Content-Type': 'application/json' },
+            body: JSON.stringify({ refreshToken })
+        }).then(async response => {
+            if (!response.ok) {
+                return false;
+            }
+            const authHeader = response.headers.get('Authorization');
+            const data = await response.json();
+            if (!authHeader || !authHeader.startsWith('Bearer ') || !data.refreshToken) {
+                return false;
+            }
+            saveToken(authHeader.substring(7));
+            saveRefreshToken(data.refreshToken);
+            return true;
+        }).catch(() => false)
+          .finally(() => { refreshInFlight = null; });
+    }
+    return refreshInFlight;
+}
+
 /**
  * API 패널의 엔드포인트 표시 업데이트
  */
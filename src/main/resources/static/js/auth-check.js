@@ -57,6 +57,16 @@ function displayUserInfo() {
  * 로그아웃 처리
  */
 function handleLogout() {
+    // 서버에서 세션(Access / Refresh 토큰) 폐기 - 실패해도 로그아웃은 진행
+    const token = typeof getToken === 'function' ? getToken() : null;
+    if (token) {
+        fetch('/api/auth/logout', {
+            method: 'POST',
+            headers: { 'Authorization': `Bearer ${token}` },
+            keepalive: true
+        }).catch(() => {});
+    }
+
     // 쿠키에서 토큰 제거
     if (typeof removeToken === 'function') removeToken();
 
@@ -59,10 +59,27 @@ function getToken() {
 }
 
 /**
- * JWT 토큰 삭제 (쿠키)
+ * Refresh 토큰 저장 (쿠키)
+ * @param {string} token - Refresh 토큰
+ */
+function saveRefreshToken(token) {
+    setCookie('refresh_token', token, 14);  // 서버 설정(jwt.refresh-token-validity-in-seconds)과 동일하게 14일
+}
+
+/**
+ * Refresh 토큰 조회 (쿠키)
+ * @returns {string|null} Refresh 토큰 또는 null
+ */
+function getRefreshToken() {
+    return getCookie('refresh_token');
+}
+
+/**
+ * JWT 토큰 삭제 (쿠키) - Refresh 토큰 포함
  */
 function removeToken() {
     deleteCookie('jwt_token');
+    deleteCookie('refresh_token');
 }
 
 /**
@@ -0,0 +1,131 @@
+package com.bootcamp.paymentdemo.idempotency;
+
+import com.bootcamp.paymentdemo.config.ClientApiProperties;
+import com.bootcamp.paymentdemo.config.IdempotencyProperties;
+import com.bootcamp.paymentdemo.validation.CompiledContract;
+import com.bootcamp.paymentdemo.validation.ContractValidator;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 같은 Idempotency-Key로 동시에 들어온 중복 요청이 결제 로직을 한 번만 거치는지 확인
+ */
+class IdempotencyFilterConcurrencyTest {
+
+    private static final int PARALLEL_REQUESTS = 300;
+    private static final String PATH = "/api/payments";
+    private static final String BODY = "{\"orderId\":\"order-1\",\"amount\":10000}";
+
+    private IdempotencyStore store;
+    private IdempotencyFilter filter;
+    private final AtomicInteger chainCalls = new AtomicInteger();
+
+    private final FilterChain chain = (request, response) -> {
+        chainCalls.incrementAndGet();
+        request.getInputStream().readAllBytes();
+        try {
+            // 처리 중에 나머지 요청이 도착하도록 잠시 붙잡아 둠
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        ((HttpServletResponse) response).setStatus(200);
+        response.setContentType("application/json");
+        response.getOutputStream().write(
+            ("{\"success\":true,\"paymentId\":\"pay-" + chainCalls.get() + "\"}").getBytes(StandardCharsets.UTF_8));
+    };
+
+    @BeforeEach
+    void setUp() throws Exception {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        store = new IdempotencyStore(properties);
+
+        ClientApiProperties.EndpointContract endpoint = new ClientApiProperties.EndpointContract();
+        endpoint.setUrl(PATH);
+        endpoint.setMethod("POST");
+        CompiledContract contract = CompiledContract.compile("create-payment", endpoint);
+        ContractValidator contractValidator = mock(ContractValidator.class);
+        when(contractValidator.find(anyString(), anyString())).thenReturn(contract);
+
+        filter = new IdempotencyFilter(store, properties, contractValidator);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        store.close();
+    }
+
+    @Test
+    void parallelDuplicatesRunChainOnceAndReplaySameResponse() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(PARALLEL_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MockHttpServletResponse>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < PARALLEL_REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return send("key-1", BODY);
+                }));
+            }
+            start.countDown();
+
+            List<MockHttpServletResponse> responses = new ArrayList<>();
+            for (Future<MockHttpServletResponse> future : futures) {
+                responses.add(future.get());
+            }
+
+            assertEquals(1, chainCalls.get());
+            String expected = "{\"success\":true,\"paymentId\":\"pay-1\"}";
+            int replayed = 0;
+            for (MockHttpServletResponse response : responses) {
+                assertEquals(200, response.getStatus());
+                assertEquals(expected, response.getContentAsString());
+                if ("true".equals(response.getHeader(IdempotencyFilter.REPLAYED_HEADER))) {
+                    replayed++;
+                }
+            }
+            assertEquals(PARALLEL_REQUESTS - 1, replayed);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void sameKeyWithDifferentBodyIsRejected() throws Exception {
+        assertEquals(200, send("key-2", BODY).getStatus());
+
+        MockHttpServletResponse conflicting = send("key-2", "{\"orderId\":\"order-1\",\"amount\":1}");
+
+        assertEquals(422, conflicting.getStatus());
+        assertEquals(1, chainCalls.get());
+    }
+
+    private MockHttpServletResponse send(String idempotencyKey, String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", PATH);
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
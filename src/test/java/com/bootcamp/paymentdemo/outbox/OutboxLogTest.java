@@ -0,0 +1,56 @@
+package com.bootcamp.paymentdemo.outbox;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 크래시 후 복구 - 손상 레코드 뒤에 남은 꼬리가 새 기록 뒤에서 되살아나지 않는지 확인
+ */
+class OutboxLogTest {
+
+    private static final int SEGMENT_BYTES = 64 * 1024;
+    // 24바이트 헤더 + 1바이트 payload를 8바이트로 정렬
+    private static final int RECORD_BYTES = 32;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void staleRecordsAfterTornRecordAreNotReplayedAfterNewAppends() throws IOException {
+        try (OutboxLog log = new OutboxLog(directory, SEGMENT_BYTES)) {
+            log.append(1, bytes("a"));
+            log.append(2, bytes("b"));
+            log.append(3, bytes("c"));
+        }
+        // 두 번째 레코드의 crc만 디스크에 내려가지 못한 상황
+        try (FileChannel channel = FileChannel.open(directory.resolve("events-00000000.outbox"), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0x7FFF_FFFF).flip(), RECORD_BYTES + 4);
+        }
+
+        try (OutboxLog log = new OutboxLog(directory, SEGMENT_BYTES)) {
+            assertEquals(2, log.append(4, bytes("d")));
+        }
+
+        List<String> replayed = new ArrayList<>();
+        try (OutboxLog log = new OutboxLog(directory, SEGMENT_BYTES)) {
+            log.read(0, 100, (sequence, timestamp, payload) ->
+                replayed.add(sequence + ":" + new String(payload, StandardCharsets.UTF_8)));
+        }
+        assertEquals(List.of("1:a", "2:d"), replayed);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,83 @@
+package com.bootcamp.paymentdemo.subscription;
+
+import com.bootcamp.paymentdemo.billing.BillingCompletedEvent;
+import com.bootcamp.paymentdemo.billing.BillingCycle;
+import com.bootcamp.paymentdemo.billing.BillingTarget;
+import com.bootcamp.paymentdemo.config.SubscriptionProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * 청구 내역 write-behind와 미스 로드 병합 확인
+ */
+class SubscriptionReadModelTest {
+
+    @Test
+    void completedAttemptIsNotDroppedWhenFailedAttemptOfSamePeriodWasFlushed() {
+        InMemoryStore store = new InMemoryStore();
+        SubscriptionReadModel readModel = new SubscriptionReadModel(new SubscriptionProperties(), store);
+        LocalDateTime periodStart = LocalDateTime.of(2026, 3, 1, 0, 0);
+        readModel.save(new SubscriptionView("SUB-1", "customer-1", "PLAN-PRO", "billing-key", SubscriptionView.ACTIVE,
+            10000, periodStart.minusSeconds(1), BillingCycle.MONTHLY.name()));
+        BillingTarget target = BillingTarget.builder()
+            .subscriptionId("SUB-1")
+            .customerUid("customer-1")
+            .billingKey("billing-key")
+            .amount(10000)
+            .cycle(BillingCycle.MONTHLY)
+            .periodStart(periodStart)
+            .dueAt(periodStart)
+            .build();
+
+        readModel.onBillingCompleted(new BillingCompletedEvent(target, target.getPaymentId(), false, "잔액 부족"));
+        // writer 스레드 없이 생성했으므로 stop()이 대기열을 바로 저장소에 기록
+        readModel.stop();
+        assertEquals(1, store.history.size());
+
+        readModel.onBillingCompleted(new BillingCompletedEvent(target, target.getPaymentId(), true, null));
+        readModel.invalidate("SUB-1");
+
+        List<BillingHistoryEntry> history = readModel.findBillingHistory("SUB-1");
+        assertEquals(List.of(BillingHistoryEntry.FAILED, BillingHistoryEntry.COMPLETED),
+            history.stream().map(BillingHistoryEntry::status).toList());
+        assertNotEquals(history.get(0).billingId(), history.get(1).billingId());
+    }
+
+    private static final class InMemoryStore implements SubscriptionStore {
+        final Map<String, SubscriptionView> subscriptions = new ConcurrentHashMap<>();
+        final List<BillingHistoryEntry> history = new ArrayList<>();
+
+        @Override
+        public SubscriptionView find(String subscriptionId) {
+            return subscriptions.get(subscriptionId);
+        }
+
+        @Override
+        public void save(SubscriptionView subscription) {
+            subscriptions.put(subscription.subscriptionId(), subscription);
+        }
+
+        @Override
+        public List<SubscriptionView> findAll() {
+            return List.copyOf(subscriptions.values());
+        }
+
+        @Override
+        public synchronized List<BillingHistoryEntry> findBillingHistory(String subscriptionId) {
+            return history.stream().filter(entry -> entry.subscriptionId().equals(subscriptionId)).toList();
+        }
+
+        @Override
+        public synchronized void appendBillingHistory(List<BillingHistoryEntry> entries) {
+            history.addAll(entries);
+        }
+    }
+}